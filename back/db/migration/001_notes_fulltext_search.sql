@@ -0,0 +1,15 @@
+-- 메모 전문 검색용 tsvector 컬럼 + GIN 인덱스
+-- 한국어 형태소 사전이 없으므로 'simple' 설정(공백 단위 토큰, 소문자화)을 사용
+-- 어간 처리가 없어 조사가 붙은 토큰("공원에서")은 검색 시 접두 질의('공원':*)로 찾는다 (NoteService.toPrefixQuery)
+-- 생성 컬럼(STORED)이라 메모 저장/수정 시 DB가 자동으로 동기화한다.
+
+ALTER TABLE app.notes
+	ADD COLUMN IF NOT EXISTS content_tsv tsvector
+	GENERATED ALWAYS AS (to_tsvector('simple', coalesce(content, ''))) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_notes_content_tsv
+	ON app.notes USING GIN (content_tsv);
+
+-- 검색은 항상 사용자 단위로 스코프되므로 user_id 조건을 함께 탈 수 있게
+CREATE INDEX IF NOT EXISTS idx_notes_user_landmark
+	ON app.notes (user_id, landmark_id);
@@ -0,0 +1,61 @@
+-- 노드 간 캐시 무효화 (LISTEN/NOTIFY, 채널: cache_invalidation)
+-- payload: {"table": ..., "keys": [...] | null(전체), "origin": 노드 id | null}
+-- 애플리케이션 쓰기(메모)는 InvalidationPublisher 가 같은 트랜잭션에서 보내고,
+-- 외부 적재(래스터, 랜드마크, 행정경계)는 아래 트리거가 문장 단위로 한 번씩 보낸다. NOTIFY 는 커밋 시점에 전달된다.
+
+-- 예전 payload 의 version 용 시퀀스 (읽는 곳이 없어 제거)
+DROP SEQUENCE IF EXISTS app.cache_invalidation_seq;
+
+-- TG_ARGV[0]: 캐시 키로 쓸 컬럼, 변경 행은 전이 테이블 changed_rows 로 받는다
+-- UPDATE 는 키 컬럼 자체가 바뀔 수 있으므로 변경 전 행(old_rows)의 키도 함께 보낸다
+-- payload 는 8000바이트 제한이 있으므로 키가 많으면 null(전체 무효화)로 보낸다
+CREATE OR REPLACE FUNCTION app.notify_cache_invalidation() RETURNS trigger AS $$
+DECLARE
+	changed_keys json;
+BEGIN
+	IF TG_OP = 'UPDATE' THEN
+		EXECUTE format('SELECT json_agg(DISTINCT k) FROM ('
+			|| 'SELECT %1$I::text AS k FROM changed_rows UNION SELECT %1$I::text FROM old_rows) keys', TG_ARGV[0])
+			INTO changed_keys;
+	ELSE
+		EXECUTE format('SELECT json_agg(DISTINCT %I::text) FROM changed_rows', TG_ARGV[0]) INTO changed_keys;
+	END IF;
+	IF changed_keys IS NULL THEN
+		RETURN NULL;
+	END IF;
+	IF length(changed_keys::text) > 7000 THEN
+		changed_keys := NULL;
+	END IF;
+	PERFORM pg_notify('cache_invalidation', json_build_object(
+		'table', TG_TABLE_NAME,
+		'keys', changed_keys,
+		'origin', NULL)::text);
+	RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 전이 테이블은 트리거당 이벤트 하나만 허용되므로 INSERT/UPDATE/DELETE 를 나눠서 등록
+DO $$
+DECLARE
+	target record;
+BEGIN
+	FOR target IN SELECT * FROM (VALUES
+		('landmark_raster', 'landmark_id'),
+		('landmark', 'id'),
+		('adm_boundary', 'adm_code')) AS t(table_name, key_column)
+	LOOP
+		EXECUTE format('DROP TRIGGER IF EXISTS %I ON app.%I', target.table_name || '_invalidate_ins', target.table_name);
+		EXECUTE format('DROP TRIGGER IF EXISTS %I ON app.%I', target.table_name || '_invalidate_upd', target.table_name);
+		EXECUTE format('DROP TRIGGER IF EXISTS %I ON app.%I', target.table_name || '_invalidate_del', target.table_name);
+		EXECUTE format('CREATE TRIGGER %I AFTER INSERT ON app.%I REFERENCING NEW TABLE AS changed_rows '
+			|| 'FOR EACH STATEMENT EXECUTE FUNCTION app.notify_cache_invalidation(%L)',
+			target.table_name || '_invalidate_ins', target.table_name, target.key_column);
+		EXECUTE format('CREATE TRIGGER %I AFTER UPDATE ON app.%I REFERENCING OLD TABLE AS old_rows NEW TABLE AS changed_rows '
+			|| 'FOR EACH STATEMENT EXECUTE FUNCTION app.notify_cache_invalidation(%L)',
+			target.table_name || '_invalidate_upd', target.table_name, target.key_column);
+		EXECUTE format('CREATE TRIGGER %I AFTER DELETE ON app.%I REFERENCING OLD TABLE AS changed_rows '
+			|| 'FOR EACH STATEMENT EXECUTE FUNCTION app.notify_cache_invalidation(%L)',
+			target.table_name || '_invalidate_del', target.table_name, target.key_column);
+	END LOOP;
+END;
+$$;
@@ -0,0 +1,225 @@
+-- 식생 지수 롤업 (장기 추세 차트용)
+--   landmark_raster_rollup: (랜드마크, 지수) x 분기/연도
+--   adm_raster_rollup:      (행정구역, 지수) x 월
+-- 월별 원본 행이 바뀌면 아래 문장 단위 트리거가 영향받은 구간(랜드마크-연도, 행정구역-연월)만 다시 집계한다.
+-- 차이값을 더하는 방식은 재적재(UPDATE)/삭제 시 min/max 를 되돌릴 수 없으므로, 작은 구간을 원본에서 다시 계산한다.
+--
+-- 통합 표준편차: 월 단위 픽셀 수를 알 수 없으므로 각 월(행)을 같은 가중치로 보고
+--   sqrt(avg(stddev^2 + mean^2) - avg(mean)^2)  (월 내부 분산 + 월 간 분산)
+
+CREATE TABLE IF NOT EXISTS app.landmark_raster_rollup (
+	landmark_id   bigint      NOT NULL,
+	index_type    varchar(10) NOT NULL,
+	period_type   varchar(7)  NOT NULL,	-- QUARTER | YEAR
+	year          integer     NOT NULL,
+	period        integer     NOT NULL,	-- 분기 1~4, 연간은 0
+	sample_count  integer     NOT NULL,	-- 집계된 월 수
+	val_mean      numeric(10, 4),
+	val_min       numeric(10, 4),
+	val_max       numeric(10, 4),
+	val_stddev    numeric(10, 4),
+	PRIMARY KEY (landmark_id, index_type, period_type, year, period)
+);
+
+CREATE TABLE IF NOT EXISTS app.adm_raster_rollup (
+	adm_code      varchar(12) NOT NULL,
+	index_type    varchar(10) NOT NULL,
+	year          integer     NOT NULL,
+	month         integer     NOT NULL,
+	sample_count  integer     NOT NULL,	-- 집계된 랜드마크 수
+	val_mean      numeric(10, 4),
+	val_min       numeric(10, 4),
+	val_max       numeric(10, 4),
+	val_stddev    numeric(10, 4),
+	PRIMARY KEY (adm_code, index_type, year, month)
+);
+
+-- 롤업 재계산 시 랜드마크-연도 단위로 원본을 찾는다
+CREATE INDEX IF NOT EXISTS idx_landmark_raster_landmark_year
+	ON app.landmark_raster (landmark_id, year, month);
+
+-- 롤업을 다시 계산하는 트랜잭션을 커밋까지 직렬화한다.
+-- 잠그지 않으면 서로의 미커밋 원본 행을 못 본 채 각자 계산해서, 나중에 커밋한 쪽이 다른 쪽 행이 빠진 값으로 덮어쓴다.
+-- 잠금을 얻은 뒤의 문장은 (READ COMMITTED 에서) 새 스냅숏으로 앞 트랜잭션이 커밋한 행까지 보고 계산한다.
+-- 구간별로 잠그면 한 트랜잭션 안의 여러 문장(랜드마크 -> 행정구역, 적재 문장 여러 개)이 서로 다른 순서로 잡아 교착이 생기므로
+-- 트랜잭션 단위 잠금 하나만 쓴다. 대신 동시 적재는 첫 롤업 갱신부터 커밋까지 한 줄로 선다 (적재는 배치라 감수).
+-- 원본 행(landmark_raster) 잠금 순서는 적재 쪽 책임이므로, 외부 적재 스크립트는 40P01/40001 이면 트랜잭션을 다시 시도한다.
+DROP FUNCTION IF EXISTS app.lock_rollup_buckets(text, text[]);
+
+CREATE OR REPLACE FUNCTION app.lock_rollups() RETURNS void AS $$
+BEGIN
+	PERFORM pg_advisory_xact_lock(hashtext('app.raster_rollup'));
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION app.refresh_landmark_rollups(p_landmark_ids bigint[], p_years integer[]) RETURNS void AS $$
+BEGIN
+	PERFORM app.lock_rollups();
+
+	DELETE FROM app.landmark_raster_rollup
+	WHERE landmark_id = ANY(p_landmark_ids) AND year = ANY(p_years);
+
+	-- 잠금과 별개로, 다른 경로로 같은 행이 먼저 들어와 있어도 기본키 충돌 없이 덮어쓴다
+	INSERT INTO app.landmark_raster_rollup AS t
+		(landmark_id, index_type, period_type, year, period, sample_count, val_mean, val_min, val_max, val_stddev)
+	SELECT
+		r.landmark_id,
+		r.index_type,
+		CASE WHEN GROUPING(r.quarter) = 0 THEN 'QUARTER' ELSE 'YEAR' END,
+		r.year,
+		COALESCE(r.quarter, 0),
+		count(*),
+		avg(r.val_mean),
+		min(r.val_min),
+		max(r.val_max),
+		sqrt(greatest(avg(r.val_stddev ^ 2 + r.val_mean ^ 2) - avg(r.val_mean) ^ 2, 0))
+	FROM (
+		SELECT landmark_id, index_type, year, (month + 2) / 3 AS quarter,
+			val_mean, val_min, val_max, COALESCE(val_stddev, 0) AS val_stddev
+		FROM app.landmark_raster
+		WHERE landmark_id = ANY(p_landmark_ids) AND year = ANY(p_years) AND val_mean IS NOT NULL
+	) r
+	GROUP BY GROUPING SETS ((r.landmark_id, r.index_type, r.year, r.quarter), (r.landmark_id, r.index_type, r.year))
+	ON CONFLICT (landmark_id, index_type, period_type, year, period) DO UPDATE SET
+		sample_count = EXCLUDED.sample_count,
+		val_mean = EXCLUDED.val_mean,
+		val_min = EXCLUDED.val_min,
+		val_max = EXCLUDED.val_max,
+		val_stddev = EXCLUDED.val_stddev;
+END;
+$$ LANGUAGE plpgsql;
+
+-- p_year_months: year * 100 + month
+CREATE OR REPLACE FUNCTION app.refresh_adm_rollups(p_adm_codes text[], p_year_months integer[]) RETURNS void AS $$
+BEGIN
+	PERFORM app.lock_rollups();
+
+	DELETE FROM app.adm_raster_rollup
+	WHERE adm_code = ANY(p_adm_codes) AND year * 100 + month = ANY(p_year_months);
+
+	INSERT INTO app.adm_raster_rollup AS t
+		(adm_code, index_type, year, month, sample_count, val_mean, val_min, val_max, val_stddev)
+	SELECT
+		l.adm_code,
+		r.index_type,
+		r.year,
+		r.month,
+		count(*),
+		avg(r.val_mean),
+		min(r.val_min),
+		max(r.val_max),
+		sqrt(greatest(avg(COALESCE(r.val_stddev, 0) ^ 2 + r.val_mean ^ 2) - avg(r.val_mean) ^ 2, 0))
+	FROM app.landmark l
+	JOIN app.landmark_raster r ON r.landmark_id = l.id
+	WHERE l.adm_code = ANY(p_adm_codes)
+		AND r.year * 100 + r.month = ANY(p_year_months)
+		AND r.val_mean IS NOT NULL
+	GROUP BY l.adm_code, r.index_type, r.year, r.month
+	ON CONFLICT (adm_code, index_type, year, month) DO UPDATE SET
+		sample_count = EXCLUDED.sample_count,
+		val_mean = EXCLUDED.val_mean,
+		val_min = EXCLUDED.val_min,
+		val_max = EXCLUDED.val_max,
+		val_stddev = EXCLUDED.val_stddev;
+END;
+$$ LANGUAGE plpgsql;
+
+-- landmark_raster 변경 문장 하나당 한 번: 바뀐 행(UPDATE 는 변경 전/후 모두)이 속한 구간만 다시 집계
+CREATE OR REPLACE FUNCTION app.refresh_raster_rollups() RETURNS trigger AS $$
+DECLARE
+	landmark_ids bigint[];
+	years integer[];
+	year_months integer[];
+	adm_codes text[];
+BEGIN
+	IF TG_OP = 'INSERT' THEN
+		SELECT array_agg(DISTINCT landmark_id), array_agg(DISTINCT year), array_agg(DISTINCT year * 100 + month)
+		INTO landmark_ids, years, year_months
+		FROM new_rows;
+	ELSIF TG_OP = 'DELETE' THEN
+		SELECT array_agg(DISTINCT landmark_id), array_agg(DISTINCT year), array_agg(DISTINCT year * 100 + month)
+		INTO landmark_ids, years, year_months
+		FROM old_rows;
+	ELSE
+		SELECT array_agg(DISTINCT landmark_id), array_agg(DISTINCT year), array_agg(DISTINCT year * 100 + month)
+		INTO landmark_ids, years, year_months
+		FROM (SELECT landmark_id, year, month FROM old_rows
+			UNION ALL SELECT landmark_id, year, month FROM new_rows) changed;
+	END IF;
+	IF landmark_ids IS NULL THEN
+		RETURN NULL;
+	END IF;
+
+	SELECT array_agg(DISTINCT adm_code) INTO adm_codes
+	FROM app.landmark
+	WHERE id = ANY(landmark_ids) AND adm_code IS NOT NULL;
+
+	PERFORM app.refresh_landmark_rollups(landmark_ids, years);
+	IF adm_codes IS NOT NULL THEN
+		PERFORM app.refresh_adm_rollups(adm_codes, year_months);
+	END IF;
+	RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 랜드마크의 행정구역이 바뀌면 이전/이후 행정구역의 월별 롤업을 전부 다시 집계 (드문 변경)
+CREATE OR REPLACE FUNCTION app.refresh_adm_rollups_on_landmark_move() RETURNS trigger AS $$
+DECLARE
+	adm_codes text[];
+	year_months integer[];
+BEGIN
+	SELECT array_agg(DISTINCT adm_code) INTO adm_codes
+	FROM (SELECT o.adm_code FROM old_rows o JOIN new_rows n ON n.id = o.id
+			WHERE o.adm_code IS DISTINCT FROM n.adm_code
+		UNION ALL SELECT n.adm_code FROM old_rows o JOIN new_rows n ON n.id = o.id
+			WHERE o.adm_code IS DISTINCT FROM n.adm_code) moved
+	WHERE adm_code IS NOT NULL;
+	IF adm_codes IS NULL THEN
+		RETURN NULL;
+	END IF;
+
+	SELECT array_agg(DISTINCT r.year * 100 + r.month) INTO year_months
+	FROM app.landmark_raster r
+	JOIN new_rows n ON n.id = r.landmark_id;
+	IF year_months IS NULL THEN
+		RETURN NULL;
+	END IF;
+
+	-- 이전 행정구역에서 랜드마크가 빠지며 빈 구간이 된 행은 DELETE 로 정리된다
+	PERFORM app.refresh_adm_rollups(adm_codes, year_months);
+	RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 전이 테이블은 트리거당 이벤트 하나만 허용되므로 INSERT/UPDATE/DELETE 를 나눠서 등록
+DROP TRIGGER IF EXISTS landmark_raster_rollup_ins ON app.landmark_raster;
+DROP TRIGGER IF EXISTS landmark_raster_rollup_upd ON app.landmark_raster;
+DROP TRIGGER IF EXISTS landmark_raster_rollup_del ON app.landmark_raster;
+DROP TRIGGER IF EXISTS landmark_adm_rollup_upd ON app.landmark;
+
+CREATE TRIGGER landmark_raster_rollup_ins AFTER INSERT ON app.landmark_raster
+	REFERENCING NEW TABLE AS new_rows
+	FOR EACH STATEMENT EXECUTE FUNCTION app.refresh_raster_rollups();
+CREATE TRIGGER landmark_raster_rollup_upd AFTER UPDATE ON app.landmark_raster
+	REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+	FOR EACH STATEMENT EXECUTE FUNCTION app.refresh_raster_rollups();
+CREATE TRIGGER landmark_raster_rollup_del AFTER DELETE ON app.landmark_raster
+	REFERENCING OLD TABLE AS old_rows
+	FOR EACH STATEMENT EXECUTE FUNCTION app.refresh_raster_rollups();
+CREATE TRIGGER landmark_adm_rollup_upd AFTER UPDATE ON app.landmark
+	REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+	FOR EACH STATEMENT EXECUTE FUNCTION app.refresh_adm_rollups_on_landmark_move();
+
+-- 기존 데이터 초기 적재 (테이블을 한 번씩 훑는다)
+TRUNCATE app.landmark_raster_rollup, app.adm_raster_rollup;
+
+SELECT app.refresh_landmark_rollups(
+	ARRAY(SELECT DISTINCT landmark_id FROM app.landmark_raster),
+	ARRAY(SELECT DISTINCT year FROM app.landmark_raster));
+
+SELECT app.refresh_adm_rollups(
+	ARRAY(SELECT DISTINCT adm_code::text FROM app.landmark WHERE adm_code IS NOT NULL),
+	ARRAY(SELECT DISTINCT year * 100 + month FROM app.landmark_raster));
+
+ANALYZE app.landmark_raster_rollup;
+ANALYZE app.adm_raster_rollup;
@@ -0,0 +1,6 @@
+-- 시도별 집계(/api/boundaries/stats)는 특정 연/월의 NDVI, NDMI 평균만 읽는다
+-- landmark_id, val_mean 을 포함해 테이블(도형 컬럼 포함)을 읽지 않고 인덱스만으로 처리
+CREATE INDEX IF NOT EXISTS idx_landmark_raster_year_month
+	ON app.landmark_raster (year, month, index_type) INCLUDE (landmark_id, val_mean);
+
+ANALYZE app.landmark_raster;
@@ -0,0 +1,8 @@
+-- 월간 변화 순위(/api/rasters/changes)는 두 달의 val_mean, val_stddev 를 랜드마크별로 읽는다
+-- 004 의 인덱스에 val_stddev 를 더해 두 쿼리 모두 인덱스만으로 처리 (004 인덱스는 대체)
+CREATE INDEX IF NOT EXISTS idx_landmark_raster_year_month_stats
+	ON app.landmark_raster (year, month, index_type) INCLUDE (landmark_id, val_mean, val_stddev);
+
+DROP INDEX IF EXISTS app.idx_landmark_raster_year_month;
+
+ANALYZE app.landmark_raster;
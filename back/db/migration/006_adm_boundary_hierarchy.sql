@@ -0,0 +1,18 @@
+-- 시군구(level 2), 읍면동(level 3) 드릴다운: 부모 코드로 바로 아래 단계만 조회
+-- 행정구역 코드는 상위 코드로 시작한다 (시도 2자리, 시군구 5자리, 읍면동 8자리 이상)
+ALTER TABLE app.adm_boundary
+	ADD COLUMN IF NOT EXISTS parent_code varchar(12) REFERENCES app.adm_boundary (adm_code);
+
+UPDATE app.adm_boundary c
+SET parent_code = p.adm_code
+FROM app.adm_boundary p
+WHERE c.parent_code IS NULL
+	AND p.level = c.level - 1
+	AND c.adm_code LIKE p.adm_code || '%';
+
+CREATE INDEX IF NOT EXISTS idx_adm_boundary_parent_code ON app.adm_boundary (parent_code);
+
+-- 단계별 화면 영역 조회 (level = ? AND geom && bbox)
+CREATE INDEX IF NOT EXISTS idx_adm_boundary_level ON app.adm_boundary (level);
+
+ANALYZE app.adm_boundary;
@@ -0,0 +1,14 @@
+-- 랜드마크 접근 집계 (인기 랜드마크-월, popularity 패키지)
+-- 요청 스레드는 메모리 링 버퍼에만 넣고, 기록 스레드가 주기마다 (일, 랜드마크, 연월, 종류)별 건수를 더한다.
+-- 요청마다 행을 쓰지 않으므로 행 수는 하루 (조회된 랜드마크-월 x 종류) 개를 넘지 않는다.
+-- 랜드마크 삭제와 무관하게 쌓는 통계라 FK 는 두지 않는다 (조회 시 landmark 와 조인).
+
+CREATE TABLE IF NOT EXISTS app.landmark_access (
+	day           date        NOT NULL,
+	landmark_id   bigint      NOT NULL,
+	year          smallint    NOT NULL,	-- 월이 없는 조회(랜드마크 단건, 메모)는 0
+	month         smallint    NOT NULL,
+	kind          varchar(10) NOT NULL,	-- LANDMARK | RASTER | RISK | DETAIL | NOTE
+	hits          bigint      NOT NULL,
+	PRIMARY KEY (day, landmark_id, year, month, kind)
+);
@@ -0,0 +1,60 @@
+-- 로컬 PostGIS 재현용 스키마 (운영 DB의 app 스키마를 엔티티 매핑 기준으로 재구성)
+-- 적용 순서: schema.sql -> migration/*.sql -> (선택) seed/synthetic_dataset.sql
+
+CREATE EXTENSION IF NOT EXISTS postgis;
+CREATE SCHEMA IF NOT EXISTS app;
+
+CREATE TABLE IF NOT EXISTS app.users (
+	id					bigserial PRIMARY KEY,
+	oauth_provider		varchar(255) NOT NULL,
+	oauth_id			varchar(255) NOT NULL,
+	username			varchar(255) NOT NULL,
+	email				varchar(255),
+	role				varchar(255),
+	profile_image_url	varchar(255),
+	CONSTRAINT uk_user_provider_oauth_id UNIQUE (oauth_provider, oauth_id)
+);
+
+CREATE TABLE IF NOT EXISTS app.adm_boundary (
+	adm_code	varchar(12) PRIMARY KEY,
+	adm_name	text NOT NULL,
+	level		smallint NOT NULL,
+	geom		geometry(MultiPolygon, 4326) NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_adm_boundary_geom ON app.adm_boundary USING GIST (geom);
+
+CREATE TABLE IF NOT EXISTS app.landmark (
+	id			bigserial PRIMARY KEY,
+	name		text NOT NULL,
+	address		varchar(300),
+	geom		geometry(Point, 4326) NOT NULL,
+	adm_code	varchar(12) REFERENCES app.adm_boundary (adm_code)
+);
+CREATE INDEX IF NOT EXISTS idx_landmark_adm_code ON app.landmark (adm_code);
+CREATE INDEX IF NOT EXISTS idx_landmark_geom ON app.landmark USING GIST (geom);
+
+CREATE TABLE IF NOT EXISTS app.landmark_raster (
+	id				serial PRIMARY KEY,
+	landmark_id		bigint NOT NULL REFERENCES app.landmark (id),
+	index_type		varchar(10) NOT NULL,
+	year			integer NOT NULL,
+	month			integer NOT NULL,
+	s3_path			text NOT NULL UNIQUE,
+	val_mean		numeric(10, 4),
+	val_min			numeric(10, 4),
+	val_max			numeric(10, 4),
+	val_stddev		numeric(10, 4),
+	geom			geometry(Polygon, 4326),
+	source_metadata	jsonb,
+	processed_at	timestamptz
+);
+CREATE INDEX IF NOT EXISTS idx_landmark_raster_landmark_month ON app.landmark_raster (landmark_id, year, month);
+
+CREATE TABLE IF NOT EXISTS app.notes (
+	id			bigserial PRIMARY KEY,
+	user_id		bigint NOT NULL REFERENCES app.users (id),
+	landmark_id	bigint NOT NULL,
+	content		text NOT NULL,
+	created_at	timestamp,
+	updated_at	timestamp
+);
@@ -0,0 +1,179 @@
+-- 합성 데이터 생성기 (로컬 PostGIS 전용, 기존 데이터를 모두 지운다)
+--
+-- psql -v landmarks=5000 -v months=36 -v users=200 -v notes_per_user=500 -f db/seed/synthetic_dataset.sql
+--
+-- 변수 (생략 시 기본값)
+--   seed             난수 시드 (-1 ~ 1), 같은 값이면 같은 데이터       기본 0.42
+--   landmarks        랜드마크 수 N (17개 시도에 고르게 분포)          기본 1000
+--   months           랜드마크별 래스터 개월 수 M (NDVI, NDMI 각각)    기본 24
+--   end_year/month   가장 최근 래스터 연/월                          기본 2024/12
+--   buffer_m         래스터 버퍼 반경(m)                             기본 3000
+--   boundary_segment 행정경계 꼭짓점 간격(도), 작을수록 경계가 무거움  기본 0.002
+--   users            사용자 수                                      기본 100
+--   notes_per_user   사용자별 메모 수 K                             기본 200
+
+\if :{?seed} \else \set seed 0.42 \endif
+\if :{?landmarks} \else \set landmarks 1000 \endif
+\if :{?months} \else \set months 24 \endif
+\if :{?end_year} \else \set end_year 2024 \endif
+\if :{?end_month} \else \set end_month 12 \endif
+\if :{?buffer_m} \else \set buffer_m 3000 \endif
+\if :{?boundary_segment} \else \set boundary_segment 0.002 \endif
+\if :{?users} \else \set users 100 \endif
+\if :{?notes_per_user} \else \set notes_per_user 200 \endif
+
+\timing on
+BEGIN;
+
+SELECT setseed(:seed);
+
+TRUNCATE app.notes, app.landmark_raster, app.landmark, app.adm_boundary, app.users,
+	app.landmark_raster_rollup, app.adm_raster_rollup, app.landmark_access RESTART IDENTITY CASCADE;
+
+-- 1) 시도 17개: 한반도 남부를 5x4 격자로 나눈 사각형을 잘게 분할(실제 경계 수준의 꼭짓점 수)
+--    인접 시도는 경계선을 정확히 공유한다.
+INSERT INTO app.adm_boundary (adm_code, adm_name, level, geom)
+SELECT
+	s.adm_code,
+	s.adm_name,
+	1,
+	ST_Multi(ST_Segmentize(
+		ST_MakeEnvelope(
+			126.0 + (s.ord % 5) * 0.7,
+			34.5 + (s.ord / 5) * 0.95,
+			126.0 + (s.ord % 5 + 1) * 0.7,
+			34.5 + (s.ord / 5 + 1) * 0.95,
+			4326),
+		:boundary_segment))
+FROM (
+	SELECT (row_number() OVER ()) - 1 AS ord, adm_code, adm_name
+	FROM (VALUES
+		('11', '서울특별시'), ('26', '부산광역시'), ('27', '대구광역시'), ('28', '인천광역시'),
+		('29', '광주광역시'), ('30', '대전광역시'), ('31', '울산광역시'), ('36', '세종특별자치시'),
+		('41', '경기도'), ('43', '충청북도'), ('44', '충청남도'), ('46', '전라남도'),
+		('47', '경상북도'), ('48', '경상남도'), ('50', '제주특별자치도'), ('51', '강원특별자치도'),
+		('52', '전북특별자치도')
+	) AS v(adm_code, adm_name)
+) s;
+
+-- 1-1) 시군구(level 2)와 읍면동(level 3): 상위 경계를 3x3 으로 나눈다 (시군구 153개, 읍면동 1377개)
+--      코드는 상위 코드 + 3자리 (db/migration/006_adm_boundary_hierarchy.sql 의 parent_code)
+INSERT INTO app.adm_boundary (adm_code, adm_name, level, parent_code, geom)
+SELECT
+	a.adm_code || lpad(((gx * 3 + gy + 1) * 10)::text, 3, '0'),
+	a.adm_name || ' 시군구 ' || (gx * 3 + gy + 1),
+	2,
+	a.adm_code,
+	ST_Multi(ST_Segmentize(
+		ST_MakeEnvelope(
+			ST_XMin(a.geom) + gx * (ST_XMax(a.geom) - ST_XMin(a.geom)) / 3,
+			ST_YMin(a.geom) + gy * (ST_YMax(a.geom) - ST_YMin(a.geom)) / 3,
+			ST_XMin(a.geom) + (gx + 1) * (ST_XMax(a.geom) - ST_XMin(a.geom)) / 3,
+			ST_YMin(a.geom) + (gy + 1) * (ST_YMax(a.geom) - ST_YMin(a.geom)) / 3,
+			4326),
+		:boundary_segment))
+FROM app.adm_boundary a
+CROSS JOIN generate_series(0, 2) gx
+CROSS JOIN generate_series(0, 2) gy
+WHERE a.level = 1;
+
+INSERT INTO app.adm_boundary (adm_code, adm_name, level, parent_code, geom)
+SELECT
+	a.adm_code || lpad(((gx * 3 + gy + 1) * 10)::text, 3, '0'),
+	a.adm_name || ' 읍면동 ' || (gx * 3 + gy + 1),
+	3,
+	a.adm_code,
+	ST_Multi(ST_Segmentize(
+		ST_MakeEnvelope(
+			ST_XMin(a.geom) + gx * (ST_XMax(a.geom) - ST_XMin(a.geom)) / 3,
+			ST_YMin(a.geom) + gy * (ST_YMax(a.geom) - ST_YMin(a.geom)) / 3,
+			ST_XMin(a.geom) + (gx + 1) * (ST_XMax(a.geom) - ST_XMin(a.geom)) / 3,
+			ST_YMin(a.geom) + (gy + 1) * (ST_YMax(a.geom) - ST_YMin(a.geom)) / 3,
+			4326),
+		:boundary_segment))
+FROM app.adm_boundary a
+CROSS JOIN generate_series(0, 2) gx
+CROSS JOIN generate_series(0, 2) gy
+WHERE a.level = 2;
+
+-- 2) 랜드마크 N개: 각 시도 폴리곤 안의 무작위 점
+INSERT INTO app.landmark (name, address, geom, adm_code)
+SELECT
+	a.adm_name || ' 랜드마크 ' || d.path[1],
+	a.adm_name || ' 합성로 ' || d.path[1],
+	d.geom,
+	a.adm_code
+FROM app.adm_boundary a
+CROSS JOIN LATERAL ST_Dump(
+	ST_GeneratePoints(a.geom, CEIL(:landmarks / 17.0)::int, (1000 * :seed)::int + a.adm_code::int)) d
+WHERE a.level = 1
+ORDER BY a.adm_code, d.path[1]
+LIMIT :landmarks;
+
+-- 3) 래스터 통계: 랜드마크 x M개월 x (NDVI, NDMI), 계절성 + 잡음, 3km 버퍼 폴리곤
+INSERT INTO app.landmark_raster (
+	landmark_id, index_type, year, month, s3_path,
+	val_mean, val_min, val_max, val_stddev, geom, source_metadata, processed_at)
+SELECT
+	b.id,
+	t.index_type,
+	EXTRACT(YEAR FROM m.d)::int,
+	EXTRACT(MONTH FROM m.d)::int,
+	format('s3://landmark-raster/synthetic/%s/%s/%s.tif', b.id, t.index_type, to_char(m.d, 'YYYY-MM')),
+	v.mean,
+	v.mean - 0.3 * random(),
+	v.mean + 0.3 * random(),
+	0.02 + 0.1 * random(),
+	b.buffer,
+	'{"synthetic": true}'::jsonb,
+	now()
+FROM (
+	SELECT l.id, ST_Buffer(l.geom::geography, :buffer_m, 'quad_segs=8')::geometry AS buffer
+	FROM app.landmark l
+) b
+CROSS JOIN generate_series(0, :months - 1) AS k
+CROSS JOIN LATERAL (SELECT make_date(:end_year, :end_month, 1) - make_interval(months => k) AS d) m
+CROSS JOIN (VALUES ('NDVI', 0.45, 0.25), ('NDMI', 0.15, 0.15)) AS t(index_type, base, amplitude)
+CROSS JOIN LATERAL (
+	SELECT round((t.base + t.amplitude * sin(2 * pi() * (EXTRACT(MONTH FROM m.d) - 4) / 12)
+		+ 0.05 * (random() - 0.5) + 0 * b.id)::numeric, 4) AS mean
+) v;
+
+-- 4) 사용자 U명, 사용자별 메모 K개 (인기 랜드마크에 몰리도록 치우친 분포)
+INSERT INTO app.users (oauth_provider, oauth_id, username, email, role)
+SELECT 'GITHUB', 'synthetic-' || i, 'user' || i, 'user' || i || '@example.com', 'ROLE_USER'
+FROM generate_series(1, :users) AS i;
+
+INSERT INTO app.notes (user_id, landmark_id, content, created_at, updated_at)
+SELECT
+	u.id,
+	1 + floor(power(random(), 2) * :landmarks)::bigint,
+	w.content,
+	c.created_at,
+	c.created_at
+FROM app.users u
+CROSS JOIN generate_series(1, :notes_per_user) AS k
+CROSS JOIN LATERAL (
+	SELECT string_agg(
+		(ARRAY['산불', '감시', '초소', '건조', '낙엽', '계곡', '능선', '등산로', '소나무', '활엽수',
+			'습도', '강수', '가뭄', '현장', '점검', '이상없음', '연기', '흔적', '진입로', '임도',
+			'주의', '순찰', '관측', 'NDVI', '하락', '회복', '벌채', '병해충', '고사목', '녹지'])[1 + floor(random() * 30)::int],
+		' ')
+	FROM generate_series(1, 8 + floor(random() * 22)::int + 0 * k)
+) w(content)
+CROSS JOIN LATERAL (SELECT now()::timestamp - random() * interval '3 years' + 0 * interval '1 day' * k AS created_at) c;
+
+COMMIT;
+
+ANALYZE app.adm_boundary;
+ANALYZE app.landmark;
+ANALYZE app.landmark_raster;
+ANALYZE app.users;
+ANALYZE app.notes;
+
+SELECT
+	(SELECT count(*) FROM app.adm_boundary) AS adm_boundaries,
+	(SELECT count(*) FROM app.landmark) AS landmarks,
+	(SELECT count(*) FROM app.landmark_raster) AS rasters,
+	(SELECT count(*) FROM app.users) AS users,
+	(SELECT count(*) FROM app.notes) AS notes;
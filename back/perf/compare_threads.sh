@@ -0,0 +1,62 @@
+#!/bin/bash
+# 플랫폼 스레드 vs 가상 스레드 부하 비교
+#
+# 사전 조건: Java 21 로 빌드된 jar (./gradlew bootJar -PjavaVersion=21), .env 의 DB 접속 정보, JWT 토큰
+# 사용: JWT=... LANDMARK_ID=1 YEAR=2024 MONTH=7 ./perf/compare_threads.sh [concurrency...]
+#
+# 모드별로 애플리케이션을 새로 띄워 같은 부하를 걸고 결과를 build/perf/threads-<시각>.csv 에 모은다.
+# 가상 스레드 모드에서는 -Djdk.tracePinnedThreads=short 로 캐리어 스레드 고정(pinning) 발생 횟수도 함께 센다.
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+JAR=$(ls build/libs/*-SNAPSHOT.jar | grep -v plain | head -1)
+PORT=${PORT:-8080}
+LANDMARK_ID=${LANDMARK_ID:-1}
+YEAR=${YEAR:-2024}
+MONTH=${MONTH:-7}
+DURATION=${DURATION:-60}
+CONCURRENCY=("${@:-32 128 512}")
+OUT=build/perf/threads-$(date +%Y%m%d-%H%M%S).csv
+mkdir -p build/perf
+
+export $(grep -v '^#' .env | xargs)
+
+# 느린 엔드포인트 위주 (GeoServer WFS, 경계 단순화, 래스터 단순화, 위험도)
+ENDPOINTS=(
+	--endpoint "landmarks-wfs=/api/landmarks"
+	--endpoint "boundaries=/api/boundaries"
+	--endpoint "rasters=/api/landmarks/${LANDMARK_ID}/rasters?year=${YEAR}&month=${MONTH}"
+	--endpoint "risk=/api/landmarks/${LANDMARK_ID}/risk?year=${YEAR}&month=${MONTH}"
+)
+
+echo "mode,endpoint,concurrency,requests,errors,rps,p50_ms,p90_ms,p99_ms,max_ms,pinned_frames" > "$OUT"
+
+for MODE in platform virtual; do
+	LOG=build/perf/app-${MODE}.log
+	JAVA_OPTS=""
+	if [ "$MODE" = "virtual" ]; then
+		export VIRTUAL_THREADS_ENABLED=true
+		JAVA_OPTS="-Djdk.tracePinnedThreads=short"
+	else
+		export VIRTUAL_THREADS_ENABLED=false
+	fi
+
+	java $JAVA_OPTS -jar "$JAR" --server.port="$PORT" > "$LOG" 2>&1 &
+	APP_PID=$!
+	trap 'kill $APP_PID 2>/dev/null || true' EXIT
+	until curl -s -o /dev/null "http://localhost:${PORT}/api/boundaries"; do sleep 1; done
+
+	for C in ${CONCURRENCY[@]}; do
+		python3 perf/http_load.py --base-url "http://localhost:${PORT}" --token "${JWT:-}" \
+			"${ENDPOINTS[@]}" --concurrency "$C" --duration "$DURATION" --label "$MODE" --no-header \
+			| while read -r ROW; do
+				PINNED=$(grep -c "<== monitors" "$LOG" || true)
+				echo "${MODE},$(echo "$ROW" | cut -d, -f2-),${PINNED}" >> "$OUT"
+			done
+	done
+
+	kill "$APP_PID"; wait "$APP_PID" 2>/dev/null || true
+done
+
+column -s, -t < "$OUT"
+echo "결과: $OUT"
@@ -0,0 +1,136 @@
+#!/usr/bin/env python3
+"""
+간단한 폐루프(closed-loop) HTTP 부하 생성기 (표준 라이브러리만 사용)
+
+워커 스레드마다 keep-alive 커넥션 하나를 유지하며, 지정한 엔드포인트들을
+가중치 비율대로 섞어서 호출한다. 엔드포인트별 p50/p90/p99 지연과 처리량을 CSV로 출력한다.
+
+예) python3 perf/http_load.py --base-url http://localhost:8080 --token $JWT \\
+      --endpoint boundaries=/api/boundaries \\
+      --endpoint rasters:3=/api/landmarks/1/rasters?year=2024&month=7 \\
+      --concurrency 64 --duration 60
+    (이름:가중치=경로, 가중치 생략 시 1)
+"""
+import argparse
+import http.client
+import random
+import sys
+import threading
+import time
+from collections import defaultdict
+from urllib.parse import urlparse
+
+
+def percentile(ordered, p):
+    if not ordered:
+        return 0.0
+    index = min(len(ordered) - 1, max(0, int(round(p / 100.0 * len(ordered))) - 1))
+    return ordered[index]
+
+
+def parse_endpoint(spec):
+    name, path = spec.split("=", 1)
+    weight = 1
+    if ":" in name:
+        name, weight = name.split(":", 1)
+        weight = int(weight)
+    return name, int(weight), path
+
+
+class Recorder:
+    def __init__(self):
+        self.lock = threading.Lock()
+        self.latencies = defaultdict(list)
+        self.errors = defaultdict(int)
+
+    def record(self, name, millis, ok):
+        with self.lock:
+            if ok:
+                self.latencies[name].append(millis)
+            else:
+                self.errors[name] += 1
+
+
+def worker(base, headers, choices, deadline, recorder, measure_after, seed):
+    rnd = random.Random(seed)
+    conn = None
+    while time.time() < deadline:
+        name, path = rnd.choice(choices)
+        if conn is None:
+            conn_cls = http.client.HTTPSConnection if base.scheme == "https" else http.client.HTTPConnection
+            conn = conn_cls(base.hostname, base.port, timeout=30)
+        started = time.perf_counter()
+        ok = False
+        try:
+            conn.request("GET", path, headers=headers)
+            response = conn.getresponse()
+            response.read()
+            ok = response.status < 400
+        except (OSError, http.client.HTTPException):
+            conn.close()
+            conn = None
+        elapsed = (time.perf_counter() - started) * 1000
+        if time.time() >= measure_after:
+            recorder.record(name, elapsed, ok)
+    if conn is not None:
+        conn.close()
+
+
+def run(base_url, token, endpoints, concurrency, duration, warmup, label=""):
+    base = urlparse(base_url)
+    headers = {"Connection": "keep-alive"}
+    if token:
+        headers["Authorization"] = f"Bearer {token}"
+    choices = [(name, path) for name, weight, path in endpoints for _ in range(weight)]
+
+    recorder = Recorder()
+    now = time.time()
+    measure_after = now + warmup
+    deadline = measure_after + duration
+    threads = [
+        threading.Thread(target=worker, args=(base, headers, choices, deadline, recorder, measure_after, i), daemon=True)
+        for i in range(concurrency)
+    ]
+    for thread in threads:
+        thread.start()
+    for thread in threads:
+        thread.join()
+
+    rows = []
+    for name, _, _ in endpoints:
+        ordered = sorted(recorder.latencies[name])
+        rows.append([
+            label, name, concurrency, len(ordered), recorder.errors[name],
+            round(len(ordered) / duration, 1),
+            round(percentile(ordered, 50), 1), round(percentile(ordered, 90), 1),
+            round(percentile(ordered, 99), 1), round(ordered[-1] if ordered else 0, 1),
+        ])
+    return rows
+
+
+HEADER = "label,endpoint,concurrency,requests,errors,rps,p50_ms,p90_ms,p99_ms,max_ms"
+
+
+def main():
+    parser = argparse.ArgumentParser()
+    parser.add_argument("--base-url", default="http://localhost:8080")
+    parser.add_argument("--token")
+    parser.add_argument("--endpoint", action="append", required=True, help="이름[:가중치]=경로")
+    parser.add_argument("--concurrency", type=int, default=32)
+    parser.add_argument("--duration", type=int, default=60, help="측정 시간(초)")
+    parser.add_argument("--warmup", type=int, default=10, help="측정 전 워밍업(초)")
+    parser.add_argument("--label", default="")
+    parser.add_argument("--no-header", action="store_true")
+    args = parser.parse_args()
+
+    endpoints = [parse_endpoint(spec) for spec in args.endpoint]
+    rows = run(args.base_url, args.token, endpoints, args.concurrency, args.duration, args.warmup, args.label)
+    if not args.no_header:
+        print(HEADER)
+    for row in rows:
+        print(",".join(map(str, row)))
+    sys.stdout.flush()
+
+
+if __name__ == "__main__":
+    main()
@@ -0,0 +1,71 @@
+#!/usr/bin/env python3
+"""
+두 JMH 결과(JSON)를 비교해 회귀를 찾는다.
+
+예) ./gradlew jmh && cp build/results/jmh/results.json /tmp/head.json
+    python3 perf/jmh_compare.py /tmp/base.json /tmp/head.json --threshold 10
+
+- 벤치마크 + 파라미터 조합별로 점수 변화율과 오차 범위를 출력
+- 점수가 threshold(%) 이상 나빠졌고 오차 범위로 설명되지 않으면 회귀로 보고 종료 코드 1
+- gc 프로파일러의 정규화 할당량(gc.alloc.rate.norm)도 함께 비교
+"""
+import argparse
+import json
+import sys
+
+ALLOC_METRIC = "gc.alloc.rate.norm"
+
+
+def key_of(entry):
+    params = entry.get("params") or {}
+    suffix = ",".join(f"{k}={v}" for k, v in sorted(params.items()))
+    return f"{entry['benchmark']}({suffix})" if suffix else entry["benchmark"]
+
+
+def load(path):
+    with open(path) as f:
+        return {key_of(entry): entry for entry in json.load(f)}
+
+
+def lower_is_better(entry):
+    # AverageTime/SampleTime/SingleShot 는 낮을수록, Throughput 은 높을수록 좋음
+    return entry["mode"] != "thrpt"
+
+
+def main():
+    parser = argparse.ArgumentParser()
+    parser.add_argument("base")
+    parser.add_argument("head")
+    parser.add_argument("--threshold", type=float, default=10.0, help="회귀로 볼 변화율(%%)")
+    args = parser.parse_args()
+
+    base, head = load(args.base), load(args.head)
+    regressions = []
+    print(f"{'benchmark':<90} {'base':>12} {'head':>12} {'change':>8} {'alloc B/op':>22}")
+    for key in sorted(head):
+        if key not in base:
+            print(f"{key:<90} {'-':>12} {head[key]['primaryMetric']['score']:>12.3f}   (new)")
+            continue
+        b, h = base[key]["primaryMetric"], head[key]["primaryMetric"]
+        change = (h["score"] - b["score"]) / b["score"] * 100 if b["score"] else 0.0
+        worse = change if lower_is_better(head[key]) else -change
+        noise = abs(b.get("scoreError") or 0) + abs(h.get("scoreError") or 0)
+        significant = abs(h["score"] - b["score"]) > noise
+
+        b_alloc = base[key].get("secondaryMetrics", {}).get(ALLOC_METRIC, {}).get("score")
+        h_alloc = head[key].get("secondaryMetrics", {}).get(ALLOC_METRIC, {}).get("score")
+        alloc = f"{b_alloc:.0f} -> {h_alloc:.0f}" if b_alloc is not None and h_alloc is not None else ""
+
+        flag = ""
+        if worse >= args.threshold and significant:
+            flag = "  << REGRESSION"
+            regressions.append(key)
+        print(f"{key:<90} {b['score']:>12.3f} {h['score']:>12.3f} {change:>+7.1f}% {alloc:>22}{flag}")
+
+    if regressions:
+        print(f"\n{len(regressions)}개 벤치마크가 {args.threshold}% 이상 느려졌습니다.", file=sys.stderr)
+        sys.exit(1)
+
+
+if __name__ == "__main__":
+    main()
@@ -0,0 +1,33 @@
+#!/bin/bash
+# 로컬 PostGIS에 스키마/마이그레이션을 적용하고 합성 데이터를 생성한다.
+# 사용: ./perf/seed.sh [psql -v 변수...]
+#   예) ./perf/seed.sh -v landmarks=5000 -v months=36 -v users=200 -v notes_per_user=500
+#   REPLICA=1 이면 복제본 인스턴스(5433)에도 같은 시드로 생성
+set -euo pipefail
+cd "$(dirname "$0")"
+
+CONTAINERS=(landmark-postgis)
+if [ "${REPLICA:-0}" = "1" ]; then
+	docker compose -f docker-compose.postgis.yaml --profile replica up -d
+	CONTAINERS+=(landmark-postgis-replica)
+else
+	docker compose -f docker-compose.postgis.yaml up -d
+fi
+
+for CONTAINER in "${CONTAINERS[@]}"; do
+	until docker exec "$CONTAINER" pg_isready -U landmark -d landmark >/dev/null 2>&1; do sleep 1; done
+
+	PSQL=(docker exec -i "$CONTAINER" psql -v ON_ERROR_STOP=1 -U landmark -d landmark)
+	for MIGRATION in ../db/migration/*.sql; do
+		echo "apply ${MIGRATION} (${CONTAINER})"
+		"${PSQL[@]}" < "$MIGRATION"
+	done
+	"${PSQL[@]}" "$@" < ../db/seed/synthetic_dataset.sql
+done
+
+cat <<MSG
+
+백엔드 실행 시 환경 변수:
+  DB_HOST=localhost DB_PORT=5432 DB_NAME=landmark DB_USER=landmark DB_PASSWORD=landmark DB_SSL_MODE=disable
+  (REPLICA=1) DB_REPLICA_ENABLED=true DB_REPLICA_URLS=jdbc:postgresql://localhost:5433/landmark?sslmode=disable
+MSG
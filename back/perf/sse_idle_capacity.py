@@ -0,0 +1,119 @@
+#!/usr/bin/env python3
+"""
+SSE 유휴 연결 수용량 측정 스크립트 (표준 라이브러리만 사용)
+
+N개의 /api/stream 연결을 단계적으로 열어 유지하면서
+- 연결 성공/실패 수, 연결 수립 지연(p50/p99)
+- 유지 시간 동안 받은 heartbeat 수
+- (--pid 지정 시) 서버 프로세스의 RSS, 스레드 수
+를 단계별로 출력한다.
+
+예) python3 perf/sse_idle_capacity.py --token $JWT --steps 1000,5000,10000 --hold 60 --pid $(pgrep -f app.jar)
+※ 클라이언트 쪽 ulimit -n 이 연결 수보다 커야 한다.
+"""
+import argparse
+import asyncio
+import statistics
+import time
+from urllib.parse import urlparse
+
+
+def read_proc(pid):
+    if pid is None:
+        return None
+    try:
+        with open(f"/proc/{pid}/status") as f:
+            status = dict(line.split(":", 1) for line in f if ":" in line)
+        rss_kb = int(status["VmRSS"].split()[0])
+        threads = int(status["Threads"])
+        return rss_kb // 1024, threads
+    except (OSError, KeyError, ValueError):
+        return None
+
+
+class Connection:
+    def __init__(self):
+        self.heartbeats = 0
+        self.writer = None
+
+
+async def open_stream(host, port, path, token, conn, latencies):
+    started = time.perf_counter()
+    reader, writer = await asyncio.open_connection(host, port)
+    conn.writer = writer
+    writer.write((
+        f"GET {path}?token={token} HTTP/1.1\r\n"
+        f"Host: {host}\r\n"
+        "Accept: text/event-stream\r\n"
+        "Connection: keep-alive\r\n\r\n"
+    ).encode())
+    await writer.drain()
+    status = await reader.readline()
+    if b" 200 " not in status:
+        raise RuntimeError(status.decode(errors="replace").strip())
+    latencies.append((time.perf_counter() - started) * 1000)
+    while True:
+        line = await reader.readline()
+        if not line:
+            return
+        if line.startswith(b":heartbeat"):
+            conn.heartbeats += 1
+
+
+async def run_step(args, target, connections, latencies, failures):
+    host, port, path = args.host, args.port, args.path
+    tasks = []
+    while len(connections) < target:
+        conn = Connection()
+        connections.append(conn)
+
+        async def guarded(c=conn):
+            try:
+                await open_stream(host, port, path, args.token, c, latencies)
+            except Exception:
+                failures.append(1)
+
+        tasks.append(asyncio.create_task(guarded()))
+        # 접속 폭주로 accept 큐가 넘치지 않도록 일정 속도로 연다
+        if len(connections) % args.rate == 0:
+            await asyncio.sleep(1)
+    return tasks
+
+
+async def main():
+    parser = argparse.ArgumentParser()
+    parser.add_argument("--url", default="http://localhost:8080/api/stream")
+    parser.add_argument("--token", required=True)
+    parser.add_argument("--steps", default="1000,2000,5000,10000")
+    parser.add_argument("--hold", type=int, default=60, help="단계별 유지 시간(초)")
+    parser.add_argument("--rate", type=int, default=500, help="초당 연결 수")
+    parser.add_argument("--pid", type=int, help="서버 JVM pid (RSS/스레드 측정)")
+    args = parser.parse_args()
+
+    url = urlparse(args.url)
+    args.host, args.port, args.path = url.hostname, url.port or 80, url.path
+
+    connections, latencies, failures, tasks = [], [], [], []
+    print("target,connected,failed,connect_p50_ms,connect_p99_ms,heartbeats,rss_mb,threads")
+    for target in map(int, args.steps.split(",")):
+        tasks += await run_step(args, target, connections, latencies, failures)
+        await asyncio.sleep(args.hold)
+        proc = read_proc(args.pid)
+        ordered = sorted(latencies)
+        p50 = statistics.median(ordered) if ordered else 0
+        p99 = ordered[int(len(ordered) * 0.99) - 1] if ordered else 0
+        print(",".join(map(str, [
+            target, len(latencies), len(failures), round(p50, 1), round(p99, 1),
+            sum(c.heartbeats for c in connections),
+            proc[0] if proc else "", proc[1] if proc else "",
+        ])), flush=True)
+
+    for conn in connections:
+        if conn.writer:
+            conn.writer.close()
+    for task in tasks:
+        task.cancel()
+
+
+if __name__ == "__main__":
+    asyncio.run(main())
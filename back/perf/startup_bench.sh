@@ -0,0 +1,98 @@
+#!/bin/bash
+# 기동 모드별 기동 시간 비교: jvm / cds / aot / aot-cds (/ native)
+#
+# 사전 조건: .env 의 DB 접속 정보 (첫 요청이 DB 를 조회함), NATIVE=1 이면 GraalVM JDK
+# 사용: RUNS=5 ./perf/startup_bench.sh [모드...]
+#
+# 모드마다 빌드 결과를 build/startup/<모드> 에 모은 뒤 RUNS 번씩 새로 띄워서 측정한다.
+#   started_s : 로그의 "Started ... in N seconds" (컨텍스트 refresh 완료까지)
+#   ttfr_ms   : 프로세스 시작부터 /api/boundaries 첫 200 응답까지 (time-to-first-request)
+#   rss_kb    : 첫 응답 직후 프로세스 RSS
+# 결과는 build/perf/startup-<시각>.csv, 모드별 중앙값은 표준 출력
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+PORT=${PORT:-8080}
+RUNS=${RUNS:-5}
+MODES=("${@:-jvm cds aot aot-cds}")
+MODES=(${MODES[@]})
+if [ "${NATIVE:-0}" = "1" ]; then
+	MODES+=(native)
+fi
+OUT=build/perf/startup-$(date +%Y%m%d-%H%M%S).csv
+mkdir -p build/perf build/startup
+
+export $(grep -v '^#' .env | xargs)
+
+build_mode() {
+	local MODE=$1 DIR=build/startup/$1
+	rm -rf "$DIR" && mkdir -p "$DIR"
+	case "$MODE" in
+		jvm)     ./gradlew -q bootJar && cp "$(ls build/libs/*.jar | grep -v plain)" "$DIR/app.jar" ;;
+		aot)     ./gradlew -q bootJar -Paot && cp "$(ls build/libs/*.jar | grep -v plain)" "$DIR/app.jar" ;;
+		cds)     ./gradlew -q cdsArchive && cp -r build/cds/. "$DIR/" ;;
+		aot-cds) ./gradlew -q cdsArchive -Paot && cp -r build/cds/. "$DIR/" ;;
+		native)  ./gradlew -q nativeCompile -Paot && cp build/native/nativeCompile/landmark-be "$DIR/" ;;
+	esac
+}
+
+# 백그라운드 서브셸에서 exec 하므로 $! 가 곧 애플리케이션 프로세스 PID
+start_mode() {
+	local MODE=$1
+	cd "build/startup/${MODE}"
+	case "$MODE" in
+		jvm)     exec java -jar app.jar --server.port="$PORT" ;;
+		aot)     exec java -Dspring.aot.enabled=true -jar app.jar --server.port="$PORT" ;;
+		cds)     exec java -XX:SharedArchiveFile=app.jsa -jar app.jar --server.port="$PORT" ;;
+		aot-cds) exec java -XX:SharedArchiveFile=app.jsa -Dspring.aot.enabled=true -jar app.jar --server.port="$PORT" ;;
+		native)  exec ./landmark-be --server.port="$PORT" ;;
+	esac
+}
+
+echo "mode,run,started_s,ttfr_ms,rss_kb" > "$OUT"
+
+for MODE in "${MODES[@]}"; do
+	echo "build ${MODE}"
+	build_mode "$MODE"
+
+	for RUN in $(seq 1 "$RUNS"); do
+		LOG=$(pwd)/build/perf/startup-${MODE}-${RUN}.log
+		START_NS=$(date +%s%N)
+		start_mode "$MODE" > "$LOG" 2>&1 &
+		APP_PID=$!
+		trap 'kill $APP_PID 2>/dev/null || true' EXIT
+
+		until [ "$(curl -s -o /dev/null -w '%{http_code}' "http://localhost:${PORT}/api/boundaries")" = "200" ]; do
+			if ! kill -0 "$APP_PID" 2>/dev/null; then
+				echo "${MODE} 기동 실패, 로그: ${LOG}" >&2
+				exit 1
+			fi
+			sleep 0.05
+		done
+		TTFR_MS=$(( ($(date +%s%N) - START_NS) / 1000000 ))
+
+		RSS_KB=$(awk '/VmRSS/ {print $2}' "/proc/${APP_PID}/status")
+		STARTED_S=$(grep -oE 'Started [A-Za-z]+ in [0-9.]+ seconds' "$LOG" | grep -oE '[0-9.]+' | head -1)
+
+		echo "${MODE},${RUN},${STARTED_S},${TTFR_MS},${RSS_KB}" >> "$OUT"
+		kill "$APP_PID"; wait "$APP_PID" 2>/dev/null || true
+	done
+done
+
+echo "결과: ${OUT}"
+python3 - "$OUT" <<'PY'
+import csv, statistics, sys
+from collections import defaultdict
+
+rows = defaultdict(list)
+with open(sys.argv[1]) as f:
+    for row in csv.DictReader(f):
+        rows[row["mode"]].append(row)
+
+print(f"{'mode':<8} {'started_s':>10} {'ttfr_ms':>9} {'rss_mb':>8}")
+for mode, runs in rows.items():
+    started = statistics.median(float(r["started_s"] or 0) for r in runs)
+    ttfr = statistics.median(int(r["ttfr_ms"]) for r in runs)
+    rss = statistics.median(int(r["rss_kb"]) for r in runs) / 1024
+    print(f"{mode:<8} {started:>10.2f} {ttfr:>9} {rss:>8.1f}")
+PY
@@ -0,0 +1,176 @@
+#!/usr/bin/env python3
+"""
+프론트엔드 호출 패턴 재현 부하 (합성 데이터셋 기준, perf/seed.sh 참고)
+
+가상 사용자마다 JWT를 직접 발급(HS256, JWT_SECRET_KEY와 같은 키)해서 아래 세션을 반복한다.
+  1) 지도 진입      : GET /api/boundaries, GET /api/notes/counts  (--with-wfs 시 GET /api/landmarks)
+  2) 랜드마크 선택  : GET /api/landmarks/{id}, /rasters, /risk, GET /api/notes/{id}
+     - 인기 랜드마크에 몰리도록 치우친 분포로 선택
+  3) 월 변경(50%)   : /rasters, /risk 재조회
+  4) 메모 작성(5%)  : POST /api/notes/{id}, 이 중 절반은 바로 DELETE
+엔드포인트별 p50/p90/p99 지연과 처리량을 CSV로 출력한다.
+
+예) python3 perf/workload.py --jwt-secret $JWT_SECRET_KEY --landmarks 5000 --months 36 --users 200 \\
+      --virtual-users 100 --duration 120
+"""
+import argparse
+import base64
+import hashlib
+import hmac
+import http.client
+import json
+import random
+import threading
+import time
+from urllib.parse import urlparse
+
+from http_load import HEADER, Recorder, percentile
+
+
+def mint_token(secret_b64, user_id, ttl_seconds=3600):
+    def b64url(raw):
+        return base64.urlsafe_b64encode(raw).rstrip(b"=")
+
+    now = int(time.time())
+    header = b64url(json.dumps({"alg": "HS256"}, separators=(",", ":")).encode())
+    payload = b64url(json.dumps({"sub": str(user_id), "iat": now, "exp": now + ttl_seconds},
+                                separators=(",", ":")).encode())
+    signing_input = header + b"." + payload
+    signature = hmac.new(base64.b64decode(secret_b64), signing_input, hashlib.sha256).digest()
+    return (signing_input + b"." + b64url(signature)).decode()
+
+
+class Client:
+    def __init__(self, base, token, recorder, measure_after):
+        self.base = base
+        self.headers = {"Authorization": f"Bearer {token}", "Connection": "keep-alive",
+                        "Content-Type": "application/json"}
+        self.recorder = recorder
+        self.measure_after = measure_after
+        self.conn = None
+
+    def call(self, name, method, path, body=None):
+        if self.conn is None:
+            conn_cls = http.client.HTTPSConnection if self.base.scheme == "https" else http.client.HTTPConnection
+            self.conn = conn_cls(self.base.hostname, self.base.port, timeout=30)
+        started = time.perf_counter()
+        ok, payload = False, None
+        try:
+            self.conn.request(method, path, body=json.dumps(body) if body is not None else None, headers=self.headers)
+            response = self.conn.getresponse()
+            raw = response.read()
+            ok = response.status < 400
+            if ok and raw:
+                payload = json.loads(raw)
+        except (OSError, http.client.HTTPException, ValueError):
+            self.conn.close()
+            self.conn = None
+        if time.time() >= self.measure_after:
+            self.recorder.record(name, (time.perf_counter() - started) * 1000, ok)
+        return payload
+
+    def close(self):
+        if self.conn is not None:
+            self.conn.close()
+
+
+def random_month(rnd, args):
+    back = rnd.randrange(args.months)
+    index = args.end_year * 12 + (args.end_month - 1) - back
+    return index // 12, index % 12 + 1
+
+
+def session(client, rnd, args):
+    client.call("boundaries", "GET", "/api/boundaries")
+    client.call("note-counts", "GET", "/api/notes/counts")
+    if args.with_wfs:
+        client.call("landmarks-wfs", "GET", "/api/landmarks")
+
+    for _ in range(rnd.randint(1, args.selections)):
+        landmark_id = 1 + int(rnd.random() ** 2 * args.landmarks)
+        year, month = random_month(rnd, args)
+        query = f"year={year}&month={month}"
+        client.call("landmark", "GET", f"/api/landmarks/{landmark_id}")
+        client.call("rasters", "GET", f"/api/landmarks/{landmark_id}/rasters?{query}")
+        client.call("risk", "GET", f"/api/landmarks/{landmark_id}/risk?{query}")
+        client.call("notes", "GET", f"/api/notes/{landmark_id}")
+
+        if rnd.random() < 0.5:
+            year, month = random_month(rnd, args)
+            query = f"year={year}&month={month}"
+            client.call("rasters", "GET", f"/api/landmarks/{landmark_id}/rasters?{query}")
+            client.call("risk", "GET", f"/api/landmarks/{landmark_id}/risk?{query}")
+
+        if rnd.random() < 0.05:
+            created = client.call("note-create", "POST", f"/api/notes/{landmark_id}",
+                                  {"content": "부하 테스트 메모 산불 감시 점검"})
+            if created and created.get("data") and rnd.random() < 0.5:
+                client.call("note-delete", "DELETE", f"/api/notes/{created['data']['id']}")
+
+        if args.think_ms:
+            time.sleep(rnd.uniform(0.5, 1.5) * args.think_ms / 1000)
+
+
+def virtual_user(index, args, base, recorder, measure_after, deadline):
+    rnd = random.Random(args.seed * 100003 + index)
+    user_id = 1 + index % args.users
+    client = Client(base, mint_token(args.jwt_secret, user_id), recorder, measure_after)
+    while time.time() < deadline:
+        session(client, rnd, args)
+    client.close()
+
+
+ENDPOINTS = ["boundaries", "note-counts", "landmarks-wfs", "landmark", "rasters", "risk", "notes",
+             "note-create", "note-delete"]
+
+
+def main():
+    parser = argparse.ArgumentParser()
+    parser.add_argument("--base-url", default="http://localhost:8080")
+    parser.add_argument("--jwt-secret", required=True, help="백엔드 JWT_SECRET_KEY (base64)")
+    parser.add_argument("--landmarks", type=int, default=1000)
+    parser.add_argument("--months", type=int, default=24)
+    parser.add_argument("--end-year", type=int, default=2024)
+    parser.add_argument("--end-month", type=int, default=12)
+    parser.add_argument("--users", type=int, default=100)
+    parser.add_argument("--virtual-users", type=int, default=50)
+    parser.add_argument("--selections", type=int, default=5, help="세션당 최대 랜드마크 선택 수")
+    parser.add_argument("--think-ms", type=int, default=0, help="선택 사이 대기(ms), 0이면 최대 부하")
+    parser.add_argument("--with-wfs", action="store_true", help="GeoServer WFS 경유 /api/landmarks 포함")
+    parser.add_argument("--duration", type=int, default=60)
+    parser.add_argument("--warmup", type=int, default=10)
+    parser.add_argument("--seed", type=int, default=42)
+    parser.add_argument("--label", default="workload")
+    args = parser.parse_args()
+
+    base = urlparse(args.base_url)
+    recorder = Recorder()
+    measure_after = time.time() + args.warmup
+    deadline = measure_after + args.duration
+    threads = [
+        threading.Thread(target=virtual_user, args=(i, args, base, recorder, measure_after, deadline), daemon=True)
+        for i in range(args.virtual_users)
+    ]
+    for thread in threads:
+        thread.start()
+    for thread in threads:
+        thread.join()
+
+    print(HEADER)
+    total = 0
+    for name in ENDPOINTS:
+        ordered = sorted(recorder.latencies[name])
+        if not ordered and not recorder.errors[name]:
+            continue
+        total += len(ordered)
+        print(",".join(map(str, [
+            args.label, name, args.virtual_users, len(ordered), recorder.errors[name],
+            round(len(ordered) / args.duration, 1),
+            round(percentile(ordered, 50), 1), round(percentile(ordered, 90), 1),
+            round(percentile(ordered, 99), 1), round(ordered[-1] if ordered else 0, 1),
+        ])))
+    print(f"# total {total} requests, {round(total / args.duration, 1)} req/s")
+
+
+if __name__ == "__main__":
+    main()
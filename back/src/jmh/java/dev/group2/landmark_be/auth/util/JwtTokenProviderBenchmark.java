@@ -0,0 +1,44 @@
+package dev.group2.landmark_be.auth.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+	// HS256용 테스트 키 (256bit, base64)
+	private static final String SECRET = "ZGV2LWdyb3VwMi1sYW5kbWFyay1iZW5jaG1hcmstc2VjcmV0LWtleS0yNTZiaXQ=";
+
+	private JwtTokenProvider jwtTokenProvider;
+	private String token;
+
+	@Setup
+	public void setUp() {
+		jwtTokenProvider = new JwtTokenProvider(SECRET);
+		token = jwtTokenProvider.createToken(12345L);
+	}
+
+	// Bearer 토큰마다 한 번 수행하는 서명 검증 + subject 추출 (AdmissionFilter 가 검증했으면 JwtAuthenticationFilter 는 재사용)
+	@Benchmark
+	public Long findUserId() {
+		Long userId = jwtTokenProvider.findUserId(token);
+		if(userId == null) {
+			throw new IllegalStateException("invalid token");
+		}
+		return userId;
+	}
+
+	@Benchmark
+	public String createToken() {
+		return jwtTokenProvider.createToken(12345L);
+	}
+}
@@ -0,0 +1,66 @@
+package dev.group2.landmark_be.global.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.group2.landmark_be.global.util.GeoJsonEncoder;
+import dev.group2.landmark_be.map.dto.response.AdmBoundaryResponse;
+import dev.group2.landmark_be.support.BenchmarkFixtures;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApiResponseSerializationBenchmark {
+
+	// 시도 17개, 경계당 꼭짓점 수 (500: 목록용 단순화, 2000: 시군구 드릴다운 수준, 20000: 원본에 가까운 경계)
+	@Param({"500", "2000", "20000"})
+	private int vertices;
+
+	private ObjectMapper objectMapper;
+	private ApiResponse<List<AdmBoundaryResponse>> response;
+	private ApiResponse<List<StringBoundary>> stringResponse;
+
+	// RawJson 도입 전 응답 형태 (geoJson 을 문자열로 이스케이프), 비교 기준
+	public record StringBoundary(String admCode, String admName, String geoJson, Short level) {
+	}
+
+	@Setup
+	public void setUp() {
+		objectMapper = new ObjectMapper();
+		GeoJsonEncoder encoder = new GeoJsonEncoder(6);
+		List<AdmBoundaryResponse> boundaries = new ArrayList<>();
+		List<StringBoundary> stringBoundaries = new ArrayList<>();
+		for (int i = 0; i < 17; i++) {
+			String geoJson = encoder.encode(BenchmarkFixtures.jaggedMultiPolygon(1, vertices, i));
+			boundaries.add(new AdmBoundaryResponse(String.valueOf(11 + i), "시도 " + i, geoJson, (short) 1));
+			stringBoundaries.add(new StringBoundary(String.valueOf(11 + i), "시도 " + i, geoJson, (short) 1));
+		}
+		response = ApiResponse.success(boundaries);
+		stringResponse = ApiResponse.success(stringBoundaries);
+	}
+
+	// /api/boundaries 응답 직렬화 (geoJson 을 RawJson 으로 그대로 기록)
+	@Benchmark
+	public byte[] serializeBoundaries() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(response);
+	}
+
+	// 같은 응답을 geoJson 문자열로 직렬화 (모든 따옴표 이스케이프)
+	@Benchmark
+	public byte[] serializeBoundariesAsString() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(stringResponse);
+	}
+}
@@ -0,0 +1,56 @@
+package dev.group2.landmark_be.map.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.wololo.jts2geojson.GeoJSONWriter;
+
+import dev.group2.landmark_be.global.util.GeoJsonEncoder;
+import dev.group2.landmark_be.map.dto.response.AdmBoundaryResponse;
+import dev.group2.landmark_be.map.entity.AdmBoundary;
+import dev.group2.landmark_be.support.BenchmarkFixtures;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AdmBoundaryServiceBenchmark {
+
+	// 단순화된 경계(수백 개) ~ 원본 해상도 시도 경계(수만 개) 꼭짓점
+	@Param({"500", "50000"})
+	private int vertices;
+
+	private AdmBoundaryService admBoundaryService;
+	private AdmBoundary boundary;
+	private GeoJSONWriter geoJsonWriter;
+
+	@Setup
+	public void setUp() {
+		admBoundaryService = new AdmBoundaryService(null, null, new GeoJsonEncoder(6), null);
+		geoJsonWriter = new GeoJSONWriter();
+		boundary = AdmBoundary.builder()
+			.admCode("11")
+			.admName("서울특별시")
+			.level((short) 1)
+			.geom(BenchmarkFixtures.jaggedMultiPolygon(3, vertices, 42L))
+			.build();
+	}
+
+	// JTS MultiPolygon -> GeoJsonEncoder(CoordinateSequence 에서 바로 버퍼로) -> String
+	@Benchmark
+	public AdmBoundaryResponse convertToResponse() {
+		return admBoundaryService.convertToResponse(boundary);
+	}
+
+	// 비교 기준: JTS MultiPolygon -> GeoJSONWriter(좌표마다 double[]) -> GeoJSON 객체 -> String
+	@Benchmark
+	public String convertWithGeoJsonWriter() {
+		return geoJsonWriter.write(boundary.getGeom()).toString();
+	}
+}
@@ -0,0 +1,62 @@
+package dev.group2.landmark_be.map.service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import dev.group2.landmark_be.map.dto.response.LandmarkProjection;
+import dev.group2.landmark_be.map.dto.response.LandmarkResponse;
+import dev.group2.landmark_be.support.BenchmarkFixtures;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LandmarkServiceBenchmark {
+
+	@Param({"1000"})
+	private int landmarkCount;
+
+	private LandmarkService landmarkService;
+	private List<Object[]> rows;
+	private List<LandmarkProjection> landmarks;
+
+	@Setup
+	public void setUp() {
+		landmarkService = new LandmarkService(null, null, null, null);
+		rows = BenchmarkFixtures.landmarkRows(landmarkCount, 42L);
+		landmarks = rows.stream()
+			.map(row -> new LandmarkProjection(
+				(Long) row[0],
+				(String) row[1],
+				(String) row[2],
+				"11",
+				"서울특별시",
+				BenchmarkFixtures.GEOMETRY_FACTORY.createPoint(new Coordinate((Double) row[4], (Double) row[3]))))
+			.toList();
+	}
+
+	// 전체 랜드마크 목록(네이티브 쿼리 Object[]) 변환
+	@Benchmark
+	public List<LandmarkResponse> convertFromObjectArray() {
+		return rows.stream()
+			.map(landmarkService::convertFromObjectArray)
+			.toList();
+	}
+
+	// 시도별 랜드마크 목록(프로젝션) 변환
+	@Benchmark
+	public List<LandmarkResponse> convertToResponse() {
+		return landmarks.stream()
+			.map(landmarkService::convertToResponse)
+			.toList();
+	}
+}
@@ -0,0 +1,40 @@
+package dev.group2.landmark_be.map.service;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import dev.group2.landmark_be.map.dto.response.RasterStatsProjection;
+import dev.group2.landmark_be.map.dto.response.RiskResponse;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RiskServiceBenchmark {
+
+	private RiskService riskService;
+	private List<RasterStatsProjection> stats;
+
+	@Setup
+	public void setUp() {
+		// 점수 계산은 저장소를 사용하지 않는다
+		riskService = new RiskService(null, null);
+		stats = List.of(
+			new RasterStatsProjection(1L, 2024, 7, "NDMI", new BigDecimal("0.1234")),
+			new RasterStatsProjection(1L, 2024, 7, "NDVI", new BigDecimal("0.5678"))
+		);
+	}
+
+	@Benchmark
+	public RiskResponse calculateRisk() {
+		return riskService.calculateAndConvert(stats, 1L, 2024, 7);
+	}
+}
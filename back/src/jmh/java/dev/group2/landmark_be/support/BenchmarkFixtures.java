@@ -0,0 +1,63 @@
+package dev.group2.landmark_be.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.PrecisionModel;
+
+// 벤치마크 입력 데이터 생성 (고정 시드라 커밋 간 비교 가능)
+public final class BenchmarkFixtures {
+
+	public static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory(new PrecisionModel(), 4326);
+
+	private BenchmarkFixtures() {
+	}
+
+	// 시도 경계와 비슷하게 들쭉날쭉한 다각형 parts개, 각 vertices개 꼭짓점
+	public static MultiPolygon jaggedMultiPolygon(int parts, int vertices, long seed) {
+		Random random = new Random(seed);
+		Polygon[] polygons = new Polygon[parts];
+		for (int p = 0; p < parts; p++) {
+			double centerX = 126.0 + p * 0.5;
+			double centerY = 35.0 + p * 0.3;
+			polygons[p] = jaggedPolygon(centerX, centerY, 0.2, vertices, random);
+		}
+		return GEOMETRY_FACTORY.createMultiPolygon(polygons);
+	}
+
+	public static Polygon jaggedPolygon(double centerX, double centerY, double radius, int vertices, Random random) {
+		Coordinate[] coordinates = new Coordinate[vertices + 1];
+		for (int i = 0; i < vertices; i++) {
+			double angle = 2 * Math.PI * i / vertices;
+			double r = radius * (0.8 + 0.4 * random.nextDouble());
+			coordinates[i] = new Coordinate(centerX + r * Math.cos(angle), centerY + r * Math.sin(angle));
+		}
+		coordinates[vertices] = coordinates[0];
+		LinearRing shell = GEOMETRY_FACTORY.createLinearRing(coordinates);
+		return GEOMETRY_FACTORY.createPolygon(shell);
+	}
+
+	// findAllLandmarksOptimized 결과 형태: [id, name, address, latitude, longitude, admCode, admName]
+	public static List<Object[]> landmarkRows(int count, long seed) {
+		Random random = new Random(seed);
+		List<Object[]> rows = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			rows.add(new Object[] {
+				(long) i,
+				"랜드마크 " + i,
+				"서울특별시 중구 세종대로 " + i,
+				33.0 + random.nextDouble() * 5.0,
+				125.0 + random.nextDouble() * 5.0,
+				String.format("%02d", i % 17 + 11),
+				"시도 " + (i % 17)
+			});
+		}
+		return rows;
+	}
+}
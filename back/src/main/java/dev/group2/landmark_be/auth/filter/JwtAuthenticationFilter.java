@@ -25,14 +25,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 	private static final String BEARER = "Bearer ";
 	private static final int TOKEN_BEGIN_INDEX = 7;
 
+	// EventSource(SSE)는 헤더를 붙일 수 없어 스트림 경로에 한해 쿼리 파라미터로 스트림 티켓 허용
+	// (접근 토큰은 URL 에 싣지 않는다, POST /api/stream/ticket 으로 발급)
+	private static final String STREAM_PATH = "/api/stream";
+	private static final String TICKET_PARAM = "ticket";
+
+	// 앞선 필터(AdmissionFilter)가 Authorization 헤더를 이미 검증했으면 그 결과(사용자 id)를 재사용
+	public static final String VERIFIED_USER_ID_ATTRIBUTE = JwtAuthenticationFilter.class.getName() + ".userId";
+
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws
 		ServletException, IOException {
-		String jwt = resolveToken(request);
-
-		if(jwt != null && jwtTokenProvider.validateToken(jwt)) {
-			Long userId = jwtTokenProvider.getUserIdFromToken(jwt);
+		Long userId = resolveUserId(request);
 
+		if(userId != null) {
 			UserDetails userDetails = userDetailsService.loadUserByUsername(userId.toString());
 
 			UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
@@ -41,10 +47,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 		filterChain.doFilter(request, response);
 	}
 
-	private String resolveToken(HttpServletRequest request) {
+	private Long resolveUserId(HttpServletRequest request) {
 		String bearerToken = request.getHeader(AUTHORIZATION);
 		if(bearerToken != null && bearerToken.startsWith(BEARER)) {
-			return bearerToken.substring(TOKEN_BEGIN_INDEX);
+			if(request.getAttribute(VERIFIED_USER_ID_ATTRIBUTE) instanceof Long verifiedUserId) {
+				return verifiedUserId;
+			}
+			return jwtTokenProvider.findUserId(bearerToken.substring(TOKEN_BEGIN_INDEX));
+		}
+		String ticket = request.getParameter(TICKET_PARAM);
+		if(ticket != null && "GET".equals(request.getMethod()) && request.getRequestURI().equals(STREAM_PATH)) {
+			return jwtTokenProvider.findStreamTicketUserId(ticket);
 		}
 		return null;
 	}
@@ -2,6 +2,7 @@ package dev.group2.landmark_be.auth.util;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.Objects;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -26,6 +27,12 @@ public class JwtTokenProvider {
 	// 토큰 만료 : 1시간
 	private final long tokenValidityInMilliseconds = 3600000;
 
+	// SSE 연결용 티켓: EventSource 는 헤더를 못 붙여 URL 에 실리므로 (접근 로그, 브라우저 기록)
+	// 접근 토큰 대신 스트림 연결에만 쓸 수 있는 30초짜리 토큰을 따로 발급한다
+	private static final String SCOPE = "scope";
+	private static final String STREAM_SCOPE = "stream";
+	public static final long STREAM_TICKET_VALIDITY_MILLISECONDS = 30000;
+
 	public String createToken(Long userId) {
 		Claims claims = Jwts.claims().setSubject(userId.toString());
 		Date now = new Date();
@@ -39,16 +46,40 @@ public class JwtTokenProvider {
 			.compact();
 	}
 
-	public Long getUserIdFromToken(String token) {
-		return Long.parseLong(getClaims(token).getBody().getSubject());
+	public String createStreamTicket(Long userId) {
+		Claims claims = Jwts.claims().setSubject(userId.toString());
+		claims.put(SCOPE, STREAM_SCOPE);
+		Date now = new Date();
+		Date validity = new Date(now.getTime() + STREAM_TICKET_VALIDITY_MILLISECONDS);
+
+		return Jwts.builder()
+			.setClaims(claims)
+			.setIssuedAt(now)
+			.setExpiration(validity)
+			.signWith(key, SignatureAlgorithm.HS256)
+			.compact();
+	}
+
+	// 접근 토큰의 사용자 id, 유효하지 않으면 null (검증과 subject 추출을 한 번의 파싱으로)
+	// 스트림 티켓은 접근 토큰으로 쓸 수 없다
+	public Long findUserId(String token) {
+		return findUserId(token, null);
+	}
+
+	// 스트림 티켓의 사용자 id, 유효하지 않거나 접근 토큰이면 null
+	public Long findStreamTicketUserId(String ticket) {
+		return findUserId(ticket, STREAM_SCOPE);
 	}
 
-	public boolean validateToken(String token) {
+	private Long findUserId(String token, String scope) {
 		try {
-			getClaims(token);
-			return true;
+			Claims claims = getClaims(token).getBody();
+			if(!Objects.equals(claims.get(SCOPE, String.class), scope)) {
+				return null;
+			}
+			return Long.parseLong(claims.getSubject());
 		} catch (Exception e) {
-			return false;
+			return null;
 		}
 	}
 
@@ -0,0 +1,130 @@
+package dev.group2.landmark_be.export.controller;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import dev.group2.landmark_be.auth.entity.User;
+import dev.group2.landmark_be.export.dto.request.RasterExportRequest;
+import dev.group2.landmark_be.export.dto.response.ExportJobResponse;
+import dev.group2.landmark_be.export.service.ExportJobService;
+import dev.group2.landmark_be.export.service.RasterStatsExporter;
+import dev.group2.landmark_be.global.dto.ApiResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/exports")
+@RequiredArgsConstructor
+@Validated
+public class ExportController {
+
+	private final RasterStatsExporter rasterStatsExporter;
+	private final ExportJobService exportJobService;
+
+	// 래스터 통계 CSV를 응답으로 바로 흘려보낸다 (chunked 전송, 행 수와 무관하게 메모리 일정)
+	// 끊기면 받은 마지막 행의 id 를 after 로 넘겨 이어 받는다. limit 으로 한 번에 받을 행 수를 나눌 수도 있다.
+	@GetMapping("/raster-stats")
+	public void exportRasterStats(
+		@RequestParam Integer fromYear,
+		@RequestParam Integer toYear,
+		@RequestParam(required = false) List<String> indexTypes,
+		@RequestParam(defaultValue = "false") boolean withNames,
+		@RequestParam(defaultValue = "0") @Min(0) long after,
+		@RequestParam(defaultValue = "0") @Min(0) long limit,
+		@RequestParam(defaultValue = "false") boolean gzip,
+		HttpServletResponse response
+	) throws IOException {
+		RasterExportRequest request = new RasterExportRequest(fromYear, toYear, indexTypes, withNames);
+		// 응답을 쓰기 시작한 뒤에는 오류 응답을 보낼 수 없으므로 검증을 먼저 한다
+		rasterStatsExporter.validate(request);
+
+		String filename = "raster-stats-" + fromYear + "-" + toYear + (gzip ? ".csv.gz" : ".csv");
+		response.setContentType(gzip ? "application/gzip" : "text/csv; charset=UTF-8");
+		response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+			ContentDisposition.attachment().filename(filename).build().toString());
+
+		OutputStream out = gzip ? new GZIPOutputStream(response.getOutputStream(), 64 * 1024, true) : response.getOutputStream();
+		try (Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8)) {
+			// 헤더 행은 처음 요청에만 붙인다 (이어 받은 결과를 그대로 이어 붙일 수 있게)
+			rasterStatsExporter.export(request, after, limit, after == 0, writer, (rows, lastId) -> {
+			});
+		}
+	}
+
+	// 아주 큰 내보내기는 서버 로컬 파일로 만들고 상태를 조회해서 완료되면 내려받는다
+	@PostMapping("/raster-stats/jobs")
+	public ApiResponse<ExportJobResponse> startRasterStatsJob(
+		@RequestBody RasterExportRequest request,
+		@AuthenticationPrincipal User user
+	) {
+		return ApiResponse.success(exportJobService.start(user.getId(), request));
+	}
+
+	@GetMapping("/jobs")
+	public ApiResponse<List<ExportJobResponse>> getJobs(@AuthenticationPrincipal User user) {
+		return ApiResponse.success(exportJobService.getJobs(user.getId()));
+	}
+
+	@GetMapping("/jobs/{jobId}")
+	public ApiResponse<ExportJobResponse> getJob(
+		@PathVariable String jobId,
+		@AuthenticationPrincipal User user
+	) {
+		return ApiResponse.success(exportJobService.getJob(jobId, user.getId()));
+	}
+
+	// 실패했거나 서버 재시작으로 중단된 작업을 마지막 체크포인트부터 이어서 실행
+	@PostMapping("/jobs/{jobId}/resume")
+	public ApiResponse<ExportJobResponse> resumeJob(
+		@PathVariable String jobId,
+		@AuthenticationPrincipal User user
+	) {
+		return ApiResponse.success(exportJobService.resume(jobId, user.getId()));
+	}
+
+	@GetMapping("/jobs/{jobId}/file")
+	public ResponseEntity<Resource> downloadJobFile(
+		@PathVariable String jobId,
+		@AuthenticationPrincipal User user
+	) {
+		Path file = exportJobService.getFile(jobId, user.getId());
+		return ResponseEntity.ok()
+			.contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+			.header(HttpHeaders.CONTENT_DISPOSITION,
+				ContentDisposition.attachment().filename("raster-stats-" + jobId + ".csv").build().toString())
+			.body(new FileSystemResource(file));
+	}
+
+	@DeleteMapping("/jobs/{jobId}")
+	public ApiResponse<Void> deleteJob(
+		@PathVariable String jobId,
+		@AuthenticationPrincipal User user
+	) throws IOException {
+		exportJobService.delete(jobId, user.getId());
+		return ApiResponse.success(null);
+	}
+}
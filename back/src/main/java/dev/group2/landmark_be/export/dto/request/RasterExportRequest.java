@@ -0,0 +1,12 @@
+package dev.group2.landmark_be.export.dto.request;
+
+import java.util.List;
+
+// withNames=true 면 랜드마크 이름, 행정구역 코드/이름을 함께 내보낸다
+public record RasterExportRequest(
+	Integer fromYear,
+	Integer toYear,
+	List<String> indexTypes,
+	boolean withNames
+) {
+}
@@ -0,0 +1,28 @@
+package dev.group2.landmark_be.export.dto.response;
+
+import java.time.Instant;
+
+import dev.group2.landmark_be.export.dto.request.RasterExportRequest;
+import dev.group2.landmark_be.export.service.ExportJobStatus;
+
+// 파일 내보내기 작업 상태. lastId/bytes 는 마지막 체크포인트 기준이며 재개 시 여기서부터 이어 쓴다.
+public record ExportJobResponse(
+	String jobId,
+	Long userId,
+	RasterExportRequest request,
+	ExportJobStatus status,
+	long rows,
+	long lastId,
+	long bytes,
+	String error,
+	Instant createdAt,
+	Instant updatedAt
+) {
+	public ExportJobResponse withStatus(ExportJobStatus status, String error) {
+		return new ExportJobResponse(jobId, userId, request, status, rows, lastId, bytes, error, createdAt, Instant.now());
+	}
+
+	public ExportJobResponse withProgress(long rows, long lastId, long bytes) {
+		return new ExportJobResponse(jobId, userId, request, status, rows, lastId, bytes, error, createdAt, Instant.now());
+	}
+}
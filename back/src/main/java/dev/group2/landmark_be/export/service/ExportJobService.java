@@ -0,0 +1,223 @@
+package dev.group2.landmark_be.export.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.group2.landmark_be.export.dto.request.RasterExportRequest;
+import dev.group2.landmark_be.export.dto.response.ExportJobResponse;
+import dev.group2.landmark_be.global.exception.DataNotFoundException;
+import dev.group2.landmark_be.global.exception.ErrorCode;
+import dev.group2.landmark_be.global.exception.InvalidRequestException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// 아주 큰 내보내기는 로컬 파일로 받는다.
+// 청크(fetchSize 행)마다 파일을 flush 하고 진행 상태(마지막 id, 파일 길이)를 <jobId>.json 에 기록해 두므로,
+// 실패하거나 서버가 재시작돼도 파일을 체크포인트 길이로 자른 뒤 마지막 id 다음부터 이어 쓸 수 있다.
+// 작업 상태와 결과 파일은 작업을 만든 노드에만 있으므로, 여러 대로 운영할 때는
+// LB 에서 /api/exports/jobs/**, /api/exports/raster-stats/jobs 를 같은 노드로 보내야 한다 (sticky routing).
+// 다른 노드로 가면 작업이 없는 것으로 보고 404 를 준다.
+@Slf4j
+@Service
+@EnableConfigurationProperties(ExportProperties.class)
+public class ExportJobService {
+
+	private final RasterStatsExporter exporter;
+	private final ObjectMapper objectMapper;
+	private final ExportProperties properties;
+	private final Path directory;
+	private final ConcurrentHashMap<String, ExportJobResponse> jobs = new ConcurrentHashMap<>();
+	private final ExecutorService jobExecutor;
+	// 사용자별 동시 작업 수 검사와 등록/재개를 한 번에 처리 (동시에 시작해도 한도를 넘지 않게)
+	private final Object startLock = new Object();
+
+	public ExportJobService(RasterStatsExporter exporter, ObjectMapper objectMapper, ExportProperties properties)
+		throws IOException {
+		this.exporter = exporter;
+		this.objectMapper = objectMapper;
+		this.properties = properties;
+		this.directory = Path.of(properties.directory());
+		this.jobExecutor = Executors.newFixedThreadPool(properties.jobThreads(), runnable -> {
+			Thread thread = new Thread(runnable, "raster-export");
+			thread.setDaemon(true);
+			return thread;
+		});
+		Files.createDirectories(directory);
+		loadJobs();
+	}
+
+	public ExportJobResponse start(Long userId, RasterExportRequest request) {
+		exporter.validate(request);
+		ExportJobResponse job;
+		synchronized (startLock) {
+			checkActiveJobLimit(userId);
+			Instant now = Instant.now();
+			job = new ExportJobResponse(
+				UUID.randomUUID().toString(), userId, request, ExportJobStatus.QUEUED, 0, 0, 0, null, now, now);
+			update(job);
+		}
+		jobExecutor.execute(() -> run(job.jobId()));
+		return job;
+	}
+
+	// 실패/중단된 작업을 마지막 체크포인트부터 이어서 실행
+	public ExportJobResponse resume(String jobId, Long userId) {
+		ExportJobResponse queued;
+		synchronized (startLock) {
+			// 같은 작업을 동시에 재개해도 한 번만 실행되도록 상태 검사와 전환을 함께 잠근다
+			ExportJobResponse job = getJob(jobId, userId);
+			if(!job.status().isResumable()) {
+				throw new InvalidRequestException(ErrorCode.EXPORT_JOB_NOT_RESUMABLE);
+			}
+			checkActiveJobLimit(userId);
+			queued = update(job.withStatus(ExportJobStatus.QUEUED, null));
+		}
+		jobExecutor.execute(() -> run(jobId));
+		return queued;
+	}
+
+	// startLock 안에서 호출
+	private void checkActiveJobLimit(Long userId) {
+		long active = jobs.values().stream()
+			.filter(job -> job.userId().equals(userId) && job.status().isActive())
+			.count();
+		if(active >= properties.maxActiveJobsPerUser()) {
+			throw new InvalidRequestException(ErrorCode.TOO_MANY_EXPORT_JOBS);
+		}
+	}
+
+	public List<ExportJobResponse> getJobs(Long userId) {
+		return jobs.values().stream()
+			.filter(job -> job.userId().equals(userId))
+			.sorted(Comparator.comparing(ExportJobResponse::createdAt).reversed())
+			.toList();
+	}
+
+	public ExportJobResponse getJob(String jobId, Long userId) {
+		ExportJobResponse job = jobs.get(jobId);
+		if(job == null || !job.userId().equals(userId)) {
+			throw new DataNotFoundException(ErrorCode.EXPORT_JOB_NOT_FOUND);
+		}
+		return job;
+	}
+
+	// 완료된 작업의 결과 파일
+	public Path getFile(String jobId, Long userId) {
+		ExportJobResponse job = getJob(jobId, userId);
+		if(job.status() != ExportJobStatus.COMPLETED) {
+			throw new InvalidRequestException(ErrorCode.EXPORT_JOB_NOT_COMPLETED);
+		}
+		return dataFile(jobId);
+	}
+
+	public void delete(String jobId, Long userId) throws IOException {
+		synchronized (startLock) {
+			// 삭제와 동시에 재개되지 않도록
+			ExportJobResponse job = getJob(jobId, userId);
+			if(job.status().isActive()) {
+				throw new InvalidRequestException(ErrorCode.EXPORT_JOB_NOT_COMPLETED);
+			}
+			jobs.remove(jobId);
+		}
+		Files.deleteIfExists(dataFile(jobId));
+		Files.deleteIfExists(stateFile(jobId));
+	}
+
+	private void run(String jobId) {
+		ExportJobResponse job = update(jobs.get(jobId).withStatus(ExportJobStatus.RUNNING, null));
+		long baseRows = job.rows();
+		try (FileChannel channel = FileChannel.open(dataFile(jobId),
+			StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+			// 마지막 체크포인트 이후에 쓰다 만 부분은 버린다
+			channel.truncate(job.bytes());
+			channel.position(job.bytes());
+			Writer writer = new BufferedWriter(
+				new OutputStreamWriter(Channels.newOutputStream(channel), StandardCharsets.UTF_8), 64 * 1024);
+
+			exporter.export(job.request(), job.lastId(), 0, job.bytes() == 0, writer, (rows, lastId) -> {
+				if(Thread.currentThread().isInterrupted()) {
+					throw new IOException("내보내기 작업이 중단되었습니다.");
+				}
+				if(rows > 0) {
+					channel.force(false);
+					update(jobs.get(jobId).withProgress(baseRows + rows, lastId, channel.position()));
+				}
+			});
+			// 행이 하나도 없을 때도 헤더까지는 반영
+			channel.force(false);
+			ExportJobResponse current = jobs.get(jobId);
+			update(current.withProgress(current.rows(), current.lastId(), channel.position())
+				.withStatus(ExportJobStatus.COMPLETED, null));
+		} catch (Exception e) {
+			log.warn("래스터 통계 내보내기 실패: job={}", jobId, e);
+			update(jobs.get(jobId).withStatus(ExportJobStatus.FAILED, e.getMessage()));
+		}
+	}
+
+	// 메모리와 상태 파일을 함께 갱신 (임시 파일에 쓴 뒤 교체해서 쓰다 만 상태 파일이 남지 않게 함)
+	private ExportJobResponse update(ExportJobResponse job) {
+		jobs.put(job.jobId(), job);
+		Path state = stateFile(job.jobId());
+		Path temp = state.resolveSibling(state.getFileName() + ".tmp");
+		try {
+			objectMapper.writeValue(temp.toFile(), job);
+			Files.move(temp, state, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return job;
+	}
+
+	// 재시작 전에 대기/실행 중이던 작업은 중단 상태로 바꿔 재개할 수 있게 한다
+	private void loadJobs() throws IOException {
+		try (DirectoryStream<Path> states = Files.newDirectoryStream(directory, "*.json")) {
+			for (Path state : states) {
+				try {
+					ExportJobResponse job = objectMapper.readValue(state.toFile(), ExportJobResponse.class);
+					jobs.put(job.jobId(), job);
+					if(job.status().isActive()) {
+						update(job.withStatus(ExportJobStatus.INTERRUPTED, null));
+					}
+				} catch (IOException e) {
+					log.warn("내보내기 작업 상태 파일을 읽지 못했습니다: {}", state, e);
+				}
+			}
+		}
+	}
+
+	private Path dataFile(String jobId) {
+		return directory.resolve(jobId + ".csv");
+	}
+
+	private Path stateFile(String jobId) {
+		return directory.resolve(jobId + ".json");
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		jobExecutor.shutdownNow();
+	}
+}
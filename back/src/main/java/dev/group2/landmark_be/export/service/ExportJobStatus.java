@@ -0,0 +1,17 @@
+package dev.group2.landmark_be.export.service;
+
+public enum ExportJobStatus {
+	QUEUED,
+	RUNNING,
+	COMPLETED,
+	FAILED,
+	INTERRUPTED;	// 서버 재시작으로 중단됨, 마지막 체크포인트부터 재개 가능
+
+	public boolean isActive() {
+		return this == QUEUED || this == RUNNING;
+	}
+
+	public boolean isResumable() {
+		return this == FAILED || this == INTERRUPTED;
+	}
+}
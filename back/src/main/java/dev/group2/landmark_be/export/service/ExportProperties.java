@@ -0,0 +1,14 @@
+package dev.group2.landmark_be.export.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// app.export.* (application.yaml 참고)
+@ConfigurationProperties(prefix = "app.export")
+public record ExportProperties(
+	@DefaultValue("1000") int fetchSize,			// 커서로 한 번에 가져올 행 수, 이 단위로 flush/체크포인트
+	@DefaultValue("/tmp/landmark-exports") String directory,	// 파일 작업 결과와 진행 상태(.json) 저장 위치
+	@DefaultValue("1") int jobThreads,
+	@DefaultValue("2") int maxActiveJobsPerUser
+) {
+}
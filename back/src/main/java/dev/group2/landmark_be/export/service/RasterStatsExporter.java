@@ -0,0 +1,172 @@
+package dev.group2.landmark_be.export.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import dev.group2.landmark_be.export.dto.request.RasterExportRequest;
+import dev.group2.landmark_be.global.exception.ErrorCode;
+import dev.group2.landmark_be.global.exception.InvalidRequestException;
+
+// landmark_raster 통계를 id 순 커서로 읽어 CSV 로 흘려보낸다.
+// PostgreSQL 드라이버는 autocommit 이 꺼진 상태에서만 fetchSize 단위로 가져오므로 읽기 전용 트랜잭션 안에서 실행하고,
+// 행을 모아두지 않고 바로 쓰기 때문에 행 수와 관계없이 메모리 사용량이 일정하다.
+// id 순서라 마지막으로 받은 id(afterId)만 있으면 어디서든 이어서 받을 수 있다.
+@Component
+public class RasterStatsExporter {
+
+	static final Set<String> INDEX_TYPES = Set.of("NDVI", "NDMI");
+
+	private static final String STATS_COLUMNS = "id,landmark_id,index_type,year,month,val_mean,val_min,val_max,val_stddev";
+	private static final String NAME_COLUMNS = ",landmark_name,adm_code,adm_name";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate readOnlyTransaction;
+	private final int fetchSize;
+
+	public RasterStatsExporter(DataSource dataSource, PlatformTransactionManager transactionManager,
+		ExportProperties properties) {
+		this.fetchSize = properties.fetchSize();
+		this.jdbcTemplate = new JdbcTemplate(dataSource);
+		this.jdbcTemplate.setFetchSize(fetchSize);
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+	}
+
+	public void validate(RasterExportRequest request) {
+		if(request.fromYear() == null || request.toYear() == null || request.fromYear() > request.toYear()) {
+			throw new InvalidRequestException(ErrorCode.INVALID_EXPORT_REQUEST);
+		}
+		if(request.indexTypes() != null && !INDEX_TYPES.containsAll(request.indexTypes())) {
+			throw new InvalidRequestException(ErrorCode.INVALID_EXPORT_REQUEST);
+		}
+	}
+
+	// afterId 다음 행부터 최대 limit 행(0이면 끝까지)을 쓴다.
+	// fetchSize 행마다 writer 를 flush 한 뒤 checkpoint 를 호출하므로, checkpoint 시점까지 쓴 내용은 모두 출력에 반영되어 있다.
+	public void export(RasterExportRequest request, long afterId, long limit, boolean header, Writer writer,
+		ExportCheckpoint checkpoint) throws IOException {
+		validate(request);
+		if(header) {
+			writer.write(request.withNames() ? STATS_COLUMNS + NAME_COLUMNS : STATS_COLUMNS);
+			writer.write('\n');
+		}
+
+		List<Object> params = new ArrayList<>();
+		String sql = buildQuery(request, afterId, limit, params);
+		CsvRowHandler handler = new CsvRowHandler(writer, request.withNames(), checkpoint);
+		try {
+			readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(sql, handler, params.toArray()));
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+		writer.flush();
+		checkpoint.reached(handler.rows, handler.lastId);
+	}
+
+	private String buildQuery(RasterExportRequest request, long afterId, long limit, List<Object> params) {
+		List<String> indexTypes = request.indexTypes() == null || request.indexTypes().isEmpty()
+			? List.copyOf(INDEX_TYPES)
+			: request.indexTypes();
+
+		StringBuilder sql = new StringBuilder("SELECT r.id, r.landmark_id, r.index_type, r.year, r.month, ")
+			.append("r.val_mean, r.val_min, r.val_max, r.val_stddev");
+		if(request.withNames()) {
+			// 도형 컬럼은 읽지 않는다 (adm_boundary.geom 을 건드리면 TOAST 해제 비용이 생김)
+			sql.append(", l.name AS landmark_name, l.adm_code, a.adm_name")
+				.append(" FROM app.landmark_raster r")
+				.append(" JOIN app.landmark l ON l.id = r.landmark_id")
+				.append(" LEFT JOIN app.adm_boundary a ON a.adm_code = l.adm_code");
+		} else {
+			sql.append(" FROM app.landmark_raster r");
+		}
+		sql.append(" WHERE r.year BETWEEN ? AND ?")
+			.append(" AND r.index_type IN (").append(String.join(",", Collections.nCopies(indexTypes.size(), "?"))).append(")")
+			.append(" AND r.id > ?")
+			.append(" ORDER BY r.id");
+		params.add(request.fromYear());
+		params.add(request.toYear());
+		params.addAll(indexTypes);
+		params.add(afterId);
+		if(limit > 0) {
+			sql.append(" LIMIT ?");
+			params.add(limit);
+		}
+		return sql.toString();
+	}
+
+	@FunctionalInterface
+	public interface ExportCheckpoint {
+		void reached(long rows, long lastId) throws IOException;
+	}
+
+	private final class CsvRowHandler implements RowCallbackHandler {
+
+		private final Writer writer;
+		private final boolean withNames;
+		private final ExportCheckpoint checkpoint;
+		private long rows;
+		private long lastId;
+
+		private CsvRowHandler(Writer writer, boolean withNames, ExportCheckpoint checkpoint) {
+			this.writer = writer;
+			this.withNames = withNames;
+			this.checkpoint = checkpoint;
+		}
+
+		@Override
+		public void processRow(ResultSet rs) throws SQLException {
+			try {
+				lastId = rs.getLong(1);
+				// 숫자는 getString 으로 DB 표기 그대로 옮겨 BigDecimal 생성을 피한다
+				writer.write(rs.getString(1));
+				for (int column = 2; column <= 9; column++) {
+					writer.write(',');
+					writeValue(rs.getString(column), false);
+				}
+				if(withNames) {
+					for (int column = 10; column <= 12; column++) {
+						writer.write(',');
+						writeValue(rs.getString(column), true);
+					}
+				}
+				writer.write('\n');
+
+				if(++rows % fetchSize == 0) {
+					writer.flush();
+					checkpoint.reached(rows, lastId);
+				}
+			} catch (IOException e) {
+				// 클라이언트 연결 끊김, 디스크 오류 등은 커서를 닫고 바로 중단
+				throw new UncheckedIOException(e);
+			}
+		}
+
+		private void writeValue(String value, boolean text) throws IOException {
+			if(value == null) {
+				return;
+			}
+			if(!text || value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+				writer.write(value);
+				return;
+			}
+			writer.write('"');
+			writer.write(value.replace("\"", "\"\""));
+			writer.write('"');
+		}
+	}
+}
@@ -0,0 +1,115 @@
+package dev.group2.landmark_be.global.admission;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+// 요청 허용 여부 판단: 사용자별 속도 제한(429) -> 엔드포인트 분류별 동시 처리 한도(503)
+// 대기열 없이 바로 거절해서 한 사용자의 대량 호출이 DB 커넥션 풀을 다 차지하지 못하게 한다.
+@Component
+@EnableConfigurationProperties(AdmissionProperties.class)
+public class AdmissionControl {
+
+	// 거절된 요청 수 (tag: class, reason=rate|concurrency)
+	private static final String SHED_COUNTER = "http.admission.shed";
+
+	private final boolean enabled;
+	private final long overloadRetryAfterSeconds;
+	private final List<PathPattern> excluded;
+	private final List<EndpointClass> classes;
+	private final MeterRegistry meterRegistry;
+	private final ScheduledExecutorService bucketCleaner = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "admission-bucket-cleaner");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	public AdmissionControl(AdmissionProperties properties, MeterRegistry meterRegistry) {
+		this.enabled = properties.enabled();
+		this.overloadRetryAfterSeconds = properties.overloadRetryAfterSeconds();
+		this.excluded = properties.exclude().stream()
+			.map(PathPatternParser.defaultInstance::parse)
+			.toList();
+		this.classes = properties.classes().entrySet().stream()
+			.map(entry -> new EndpointClass(entry.getKey(), entry.getValue()))
+			.toList();
+		this.meterRegistry = meterRegistry;
+
+		for (EndpointClass endpointClass : classes) {
+			Gauge.builder("http.admission.inflight", endpointClass, EndpointClass::inFlight)
+				.tag("class", endpointClass.name())
+				.register(meterRegistry);
+		}
+		// 가득 찬(오래 쓰지 않은) 버킷 정리, 정리 직후 경합으로 토큰 한두 개가 더 허용될 수 있으나 무시할 수준
+		bucketCleaner.scheduleWithFixedDelay(() -> {
+			long now = System.nanoTime();
+			classes.forEach(endpointClass -> endpointClass.evictIdleBuckets(now));
+		}, 1, 1, TimeUnit.MINUTES);
+	}
+
+	// 제한 대상이 아니면 null
+	EndpointClass classify(String requestUri) {
+		if(!enabled) {
+			return null;
+		}
+		PathContainer path = PathContainer.parsePath(requestUri);
+		for (PathPattern pattern : excluded) {
+			if(pattern.matches(path)) {
+				return null;
+			}
+		}
+		for (EndpointClass endpointClass : classes) {
+			if(endpointClass.matches(path)) {
+				return endpointClass;
+			}
+		}
+		return null;
+	}
+
+	// 허용되면 0, 속도 제한이면 Retry-After 초
+	long tryAcquireToken(EndpointClass endpointClass, String subject) {
+		long waitNanos = endpointClass.tryAcquireToken(subject, System.nanoTime());
+		if(waitNanos == 0) {
+			return 0;
+		}
+		shed(endpointClass, "rate");
+		return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+	}
+
+	boolean tryEnter(EndpointClass endpointClass) {
+		if(endpointClass.tryEnter()) {
+			return true;
+		}
+		shed(endpointClass, "concurrency");
+		return false;
+	}
+
+	long getOverloadRetryAfterSeconds() {
+		return overloadRetryAfterSeconds;
+	}
+
+	private void shed(EndpointClass endpointClass, String reason) {
+		Counter.builder(SHED_COUNTER)
+			.tag("class", endpointClass.name())
+			.tag("reason", reason)
+			.register(meterRegistry)
+			.increment();
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		bucketCleaner.shutdownNow();
+	}
+}
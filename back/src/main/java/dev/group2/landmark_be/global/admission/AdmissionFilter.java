@@ -0,0 +1,83 @@
+package dev.group2.landmark_be.global.admission;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.group2.landmark_be.auth.filter.JwtAuthenticationFilter;
+import dev.group2.landmark_be.auth.util.JwtTokenProvider;
+import dev.group2.landmark_be.global.dto.ApiResponse;
+import dev.group2.landmark_be.global.exception.ErrorCode;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+// JwtAuthenticationFilter 앞에서 실행: 거절할 요청은 사용자 조회(DB)도 하지 않는다
+// 속도 제한 키는 검증된 JWT subject(사용자 id), 토큰이 없거나 유효하지 않으면 클라이언트 IP
+// 검증한 사용자 id 는 요청 속성으로 넘겨 JwtAuthenticationFilter 가 서명을 다시 검증하지 않게 한다
+// 클라이언트 IP 는 server.forward-headers-strategy 로 X-Forwarded-For 에서 복원된 값 (LB 주소 하나로 묶이지 않도록)
+@RequiredArgsConstructor
+public class AdmissionFilter extends OncePerRequestFilter {
+
+	private static final String BEARER = "Bearer ";
+
+	private final AdmissionControl admissionControl;
+	private final JwtTokenProvider jwtTokenProvider;
+	private final ObjectMapper objectMapper;
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return "OPTIONS".equals(request.getMethod());
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws
+		ServletException, IOException {
+		EndpointClass endpointClass = admissionControl.classify(request.getRequestURI());
+		if(endpointClass == null) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+
+		long retryAfterSeconds = admissionControl.tryAcquireToken(endpointClass, resolveSubject(request));
+		if(retryAfterSeconds > 0) {
+			reject(response, ErrorCode.RATE_LIMITED, retryAfterSeconds);
+			return;
+		}
+		if(!admissionControl.tryEnter(endpointClass)) {
+			reject(response, ErrorCode.SERVER_OVERLOADED, admissionControl.getOverloadRetryAfterSeconds());
+			return;
+		}
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			endpointClass.exit();
+		}
+	}
+
+	private String resolveSubject(HttpServletRequest request) {
+		String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+		if(header != null && header.startsWith(BEARER)) {
+			Long userId = jwtTokenProvider.findUserId(header.substring(BEARER.length()));
+			if(userId != null) {
+				request.setAttribute(JwtAuthenticationFilter.VERIFIED_USER_ID_ATTRIBUTE, userId);
+				return "user:" + userId;
+			}
+		}
+		return "ip:" + request.getRemoteAddr();
+	}
+
+	private void reject(HttpServletResponse response, ErrorCode errorCode, long retryAfterSeconds) throws IOException {
+		response.setStatus(errorCode.getStatus());
+		response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		response.setCharacterEncoding("UTF-8");
+		objectMapper.writeValue(response.getWriter(), ApiResponse.failure(errorCode.getMessage(), errorCode.getCode()));
+	}
+}
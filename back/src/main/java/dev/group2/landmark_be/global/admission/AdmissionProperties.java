@@ -0,0 +1,29 @@
+package dev.group2.landmark_be.global.admission;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// app.admission.* (application.yaml 참고)
+@ConfigurationProperties(prefix = "app.admission")
+public record AdmissionProperties(
+	@DefaultValue("true") boolean enabled,
+	List<String> exclude,								// 제한하지 않는 경로 (SSE 스트림, 로그인 등)
+	@DefaultValue("1") long overloadRetryAfterSeconds,	// 동시 처리 한도 초과(503) 시 Retry-After
+	Map<String, ClassLimits> classes					// 선언 순서대로 먼저 맞는 분류 적용
+) {
+	public AdmissionProperties {
+		exclude = exclude == null ? List.of() : List.copyOf(exclude);
+		classes = classes == null ? Map.of() : classes;
+	}
+
+	public record ClassLimits(
+		List<String> patterns,
+		double ratePerSecond,		// 사용자별 초당 허용 요청 (토큰 버킷 충전 속도)
+		int burst,					// 사용자별 순간 허용량 (버킷 크기)
+		int maxConcurrent			// 분류 전체 동시 처리 한도
+	) {
+	}
+}
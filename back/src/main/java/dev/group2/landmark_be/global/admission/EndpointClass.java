@@ -0,0 +1,73 @@
+package dev.group2.landmark_be.global.admission;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+// 비용이 비슷한 엔드포인트 묶음: 사용자별 토큰 버킷 + 분류 전체 동시 처리 한도
+final class EndpointClass {
+
+	private final String name;
+	private final List<PathPattern> patterns;
+	private final double ratePerSecond;
+	private final int burst;
+	private final int maxConcurrent;
+	private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	EndpointClass(String name, AdmissionProperties.ClassLimits limits) {
+		this.name = name;
+		this.patterns = limits.patterns().stream()
+			.map(PathPatternParser.defaultInstance::parse)
+			.toList();
+		this.ratePerSecond = limits.ratePerSecond();
+		this.burst = limits.burst();
+		this.maxConcurrent = limits.maxConcurrent();
+	}
+
+	String name() {
+		return name;
+	}
+
+	boolean matches(PathContainer path) {
+		for (PathPattern pattern : patterns) {
+			if(pattern.matches(path)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	long tryAcquireToken(String subject, long nowNanos) {
+		return buckets.computeIfAbsent(subject, key -> new TokenBucket(ratePerSecond, burst, nowNanos))
+			.tryAcquire(nowNanos);
+	}
+
+	boolean tryEnter() {
+		while (true) {
+			int current = inFlight.get();
+			if(current >= maxConcurrent) {
+				return false;
+			}
+			if(inFlight.compareAndSet(current, current + 1)) {
+				return true;
+			}
+		}
+	}
+
+	void exit() {
+		inFlight.decrementAndGet();
+	}
+
+	int inFlight() {
+		return inFlight.get();
+	}
+
+	void evictIdleBuckets(long nowNanos) {
+		buckets.values().removeIf(bucket -> bucket.isIdle(nowNanos));
+	}
+}
@@ -0,0 +1,36 @@
+package dev.group2.landmark_be.global.admission;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// GCRA 방식 토큰 버킷: 상태는 "다음 토큰이 가득 찰 이론상 시각(tat)" 하나라서 CAS 한 번으로 갱신된다 (락 없음)
+final class TokenBucket {
+
+	private final long intervalNanos;		// 토큰 하나가 충전되는 간격
+	private final long burstNanos;			// 버킷 크기만큼의 시간
+	private final AtomicLong tat;
+
+	TokenBucket(double ratePerSecond, int burst, long nowNanos) {
+		this.intervalNanos = (long) (1_000_000_000L / ratePerSecond);
+		this.burstNanos = intervalNanos * burst;
+		this.tat = new AtomicLong(nowNanos);
+	}
+
+	// 허용되면 0, 아니면 다음 토큰까지 남은 시간(ns)
+	long tryAcquire(long nowNanos) {
+		while (true) {
+			long current = tat.get();
+			long next = Math.max(current, nowNanos) + intervalNanos;
+			if(next - nowNanos > burstNanos) {
+				return next - nowNanos - burstNanos;
+			}
+			if(tat.compareAndSet(current, next)) {
+				return 0;
+			}
+		}
+	}
+
+	// 버킷이 가득 찬 상태(오래 쓰지 않음)면 지워도 동작이 같다
+	boolean isIdle(long nowNanos) {
+		return tat.get() <= nowNanos;
+	}
+}
@@ -0,0 +1,84 @@
+package dev.group2.landmark_be.global.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import dev.group2.landmark_be.global.invalidation.CacheInvalidationBinding;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+	// 사용자별 랜드마크 메모 개수 집계 (메모 저장/삭제 시 무효화)
+	public static final String NOTE_COUNTS = "noteCounts";
+
+	// (연, 월, 지표)별 시도 집계 (래스터/랜드마크 변경 시 전체 무효화)
+	public static final String BOUNDARY_STATS = "boundaryStats";
+
+	// 줌 단계별 랜드마크 군집 색인 (항목 하나, 랜드마크/래스터 변경 시 다시 생성)
+	public static final String LANDMARK_CLUSTERS = "landmarkClusters";
+
+	// 시도 경계 TopoJSON (항목 하나, 경계 테이블 변경 시 다시 생성)
+	public static final String BOUNDARY_TOPOLOGY = "boundaryTopology";
+
+	// 부모 코드별 하위 행정경계 (시군구/읍면동 드릴다운, 경계 테이블 변경 시 전체 무효화)
+	public static final String BOUNDARY_CHILDREN = "boundaryChildren";
+
+	// (랜드마크, 연, 월)별 위험도, 인기 랜드마크-월만 받아들인다 (popularity 의 hot set 에서 빠지면 내림)
+	public static final String LANDMARK_RISK = "landmarkRisk";
+
+	// 다른 노드에서 변경된 테이블 -> 비울 로컬 캐시 (global/invalidation)
+	// 인증 사용자(principal)는 캐시하지 않고 요청마다 users 를 조회하므로 users 테이블 바인딩은 없다.
+	// principal 캐시를 추가하면 users 트리거(002)와 바인딩도 같이 추가해야 한다.
+	@Bean
+	public CacheInvalidationBinding noteCountsInvalidation() {
+		return new CacheInvalidationBinding("notes", NOTE_COUNTS, Long::valueOf);
+	}
+
+	// 변경된 랜드마크 id 로는 (연, 월, 지표) 키를 알 수 없으므로 통째로 비운다
+	@Bean
+	public CacheInvalidationBinding boundaryStatsRasterInvalidation() {
+		return new CacheInvalidationBinding("landmark_raster", BOUNDARY_STATS, null);
+	}
+
+	// 랜드마크가 다른 시도로 옮겨지거나 추가/삭제될 때
+	@Bean
+	public CacheInvalidationBinding boundaryStatsLandmarkInvalidation() {
+		return new CacheInvalidationBinding("landmark", BOUNDARY_STATS, null);
+	}
+
+	// 좌표(랜드마크)나 군집 평균 위험도(래스터)가 바뀌면 색인을 다시 만든다
+	@Bean
+	public CacheInvalidationBinding landmarkClustersLandmarkInvalidation() {
+		return new CacheInvalidationBinding("landmark", LANDMARK_CLUSTERS, null);
+	}
+
+	@Bean
+	public CacheInvalidationBinding landmarkClustersRasterInvalidation() {
+		return new CacheInvalidationBinding("landmark_raster", LANDMARK_CLUSTERS, null);
+	}
+
+	@Bean
+	public CacheInvalidationBinding boundaryTopologyInvalidation() {
+		return new CacheInvalidationBinding("adm_boundary", BOUNDARY_TOPOLOGY, null);
+	}
+
+	// 변경된 경계 코드로는 부모 키를 알 수 없으므로 통째로 비운다
+	@Bean
+	public CacheInvalidationBinding boundaryChildrenInvalidation() {
+		return new CacheInvalidationBinding("adm_boundary", BOUNDARY_CHILDREN, null);
+	}
+
+	// 키는 (랜드마크, 연, 월) 이지만 래스터 변경 알림에는 랜드마크 id 만 있으므로 통째로 비운다
+	@Bean
+	public CacheInvalidationBinding landmarkRiskRasterInvalidation() {
+		return new CacheInvalidationBinding("landmark_raster", LANDMARK_RISK, null);
+	}
+
+	// 랜드마크 삭제 시 (없는 랜드마크는 404 여야 함)
+	@Bean
+	public CacheInvalidationBinding landmarkRiskLandmarkInvalidation() {
+		return new CacheInvalidationBinding("landmark", LANDMARK_RISK, null);
+	}
+}
@@ -0,0 +1,17 @@
+package dev.group2.landmark_be.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import dev.group2.landmark_be.global.util.GeoJsonEncoder;
+
+@Configuration
+public class GeoJsonConfig {
+
+	// JTS 도형을 응답용 GeoJSON 으로 바꿀 때 좌표 소수점 자릿수 (6자리 = 약 0.1m)
+	@Bean
+	public GeoJsonEncoder geoJsonEncoder(@Value("${app.geojson.precision:6}") int precision) {
+		return new GeoJsonEncoder(precision);
+	}
+}
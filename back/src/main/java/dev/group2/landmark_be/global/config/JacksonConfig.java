@@ -0,0 +1,17 @@
+package dev.group2.landmark_be.global.config;
+
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+@Configuration
+public class JacksonConfig {
+
+	// @JsonFilter(FieldSelection.FILTER_ID) 응답을 fields= 없이 직렬화할 때(워밍업, 필터를 지정하지 않은 응답)는 전체 필드
+	@Bean
+	public Jackson2ObjectMapperBuilderCustomizer fieldSelectionFilterDefaults() {
+		return builder -> builder.filters(new SimpleFilterProvider().setFailOnUnknownId(false));
+	}
+}
@@ -0,0 +1,54 @@
+package dev.group2.landmark_be.global.config;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+// 네이티브 이미지(./gradlew nativeCompile -Paot)용 리플렉션/리소스/프록시 힌트
+// JVM 모드(AOT, AppCDS 포함)에서는 영향 없음
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.LandmarkRuntimeHints.class)
+public class NativeHintsConfig {
+
+	static class LandmarkRuntimeHints implements RuntimeHintsRegistrar {
+
+		// ServiceLoader / 이름으로 생성되는 클래스 (hibernate-spatial 타입/함수 등록, jjwt 구현체)
+		private static final List<String> INSTANTIATED_TYPES = List.of(
+			"org.hibernate.spatial.contributor.SpatialTypeContributor",
+			"org.hibernate.spatial.contributor.SpatialFunctionContributor",
+			"io.jsonwebtoken.impl.DefaultJwtBuilder",
+			"io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+			"io.jsonwebtoken.impl.DefaultClaims",
+			"io.jsonwebtoken.jackson.io.JacksonSerializer",
+			"io.jsonwebtoken.jackson.io.JacksonDeserializer");
+
+		@Override
+		public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+			INSTANTIATED_TYPES.forEach(type -> hints.reflection().registerType(TypeReference.of(type),
+				MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS));
+
+			hints.resources().registerPattern("META-INF/services/org.hibernate.*");
+			hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+
+			// 요청별 쿼리 카운터(QueryCountingProxies)의 JDK 프록시
+			hints.proxies().registerJdkProxy(DataSource.class);
+			hints.proxies().registerJdkProxy(Connection.class);
+			hints.proxies().registerJdkProxy(Statement.class);
+			hints.proxies().registerJdkProxy(PreparedStatement.class);
+			hints.proxies().registerJdkProxy(CallableStatement.class);
+			hints.proxies().registerJdkProxy(ResultSet.class);
+		}
+	}
+}
@@ -0,0 +1,27 @@
+package dev.group2.landmark_be.global.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestTemplate;
+
+@Configuration
+public class RestTemplateConfig {
+
+	// GeoServer 호출용. 요청마다 새로 만들지 않고 커넥션을 재사용하며, 타임아웃으로 요청 스레드가 무한정 묶이지 않게 한다.
+	// (가상 스레드 모드에서는 JDK HttpClient 기반 요청 팩토리가 선택되어 블로킹 I/O가 캐리어 스레드를 점유하지 않음)
+	@Bean
+	public RestTemplate geoServerRestTemplate(
+		RestTemplateBuilder builder,
+		@Value("${app.geoserver.connect-timeout-ms:2000}") long connectTimeoutMillis,
+		@Value("${app.geoserver.read-timeout-ms:10000}") long readTimeoutMillis
+	) {
+		return builder
+			.connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+			.readTimeout(Duration.ofMillis(readTimeoutMillis))
+			.build();
+	}
+}
@@ -14,12 +14,17 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import dev.group2.landmark_be.auth.filter.JwtAuthenticationFilter;
 import dev.group2.landmark_be.auth.handler.OAuth2AuthenticationSuccessHandler;
 import dev.group2.landmark_be.auth.service.CustomOauth2UserService;
 import dev.group2.landmark_be.auth.service.CustomOidcUserService;
 import dev.group2.landmark_be.auth.service.UserDetailServiceImpl;
 import dev.group2.landmark_be.auth.util.JwtTokenProvider;
+import dev.group2.landmark_be.global.admission.AdmissionControl;
+import dev.group2.landmark_be.global.admission.AdmissionFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 
 @Configuration
@@ -32,6 +37,8 @@ public class SecurityConfig {
 	private final OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler;
 	private final JwtTokenProvider jwtTokenProvider;
 	private final UserDetailServiceImpl userDetailService;
+	private final AdmissionControl admissionControl;
+	private final ObjectMapper objectMapper;
 
 	@Bean
 	public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -44,9 +51,15 @@ public class SecurityConfig {
 			.sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
 
 			.addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, userDetailService), UsernamePasswordAuthenticationFilter.class)
+			// 과부하 보호: 인증 필터의 사용자 조회보다 먼저, CORS 처리보다는 뒤에서 거절 (브라우저가 429/503 을 읽을 수 있게)
+			.addFilterBefore(new AdmissionFilter(admissionControl, jwtTokenProvider, objectMapper), JwtAuthenticationFilter.class)
 
 			.authorizeHttpRequests(auth -> auth
-				.requestMatchers("/api/auth/**", "/oauth2/**", "/api/landmarks/**", "/api/boundaries/**", "/api/notes/**", "/", "/login", "/login/**").permitAll()
+				// SSE 등 비동기 요청 완료 시의 재디스패치는 최초 요청에서 이미 인가됨
+				.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+				// 관리 포트의 헬스체크/메트릭 수집
+				.requestMatchers("/actuator/health/**", "/actuator/info", "/actuator/prometheus").permitAll()
+				.requestMatchers("/api/auth/**", "/oauth2/**", "/api/landmarks/**", "/api/boundaries/**", "/api/rasters/**", "/api/notes/**", "/", "/login", "/login/**").permitAll()
 				.anyRequest().authenticated()
 			)
 
@@ -69,6 +82,7 @@ public class SecurityConfig {
 		configuration.setAllowedOrigins(List.of("http://localhost:5173", "http://localhost:3000"));
 		configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
 		configuration.setAllowedHeaders(List.of("*"));
+		configuration.setExposedHeaders(List.of("Retry-After"));
 		configuration.setAllowCredentials(true);
 		configuration.setMaxAge(3600L);
 		UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
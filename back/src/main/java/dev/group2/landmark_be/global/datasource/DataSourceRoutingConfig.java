@@ -0,0 +1,89 @@
+package dev.group2.landmark_be.global.datasource;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// @Transactional(readOnly = true) 트랜잭션은 복제본으로, 나머지(메모 저장/삭제 등 쓰기)는 주 DB로 보낸다.
+// LazyConnectionDataSourceProxy 가 첫 SQL 실행 시점까지 커넥션 획득을 미루고,
+// 그 사이 트랜잭션이 Connection.setReadOnly(true) 를 걸었으면 읽기 전용 DataSource(복제본 라우팅)를 사용한다.
+@Configuration
+@EnableConfigurationProperties(ReplicaProperties.class)
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+	// 풀들은 빈으로 노출하지 않고 이 DataSource 하나만 등록 (쿼리 카운터가 한 번만 감싸도록)
+	@Bean
+	public DataSource dataSource(DataSourceProperties dataSourceProperties, ReplicaProperties replicaProperties,
+		Environment environment, MeterRegistry meterRegistry) {
+		HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+			.type(HikariDataSource.class)
+			.build();
+		Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+		if(primary.getPoolName() == null) {
+			primary.setPoolName("primary");
+		}
+
+		List<HikariDataSource> replicaPools = IntStream.range(0, replicaProperties.urls().size())
+			.mapToObj(i -> createReplicaPool(i, replicaProperties, dataSourceProperties, meterRegistry))
+			.toList();
+
+		ReplicaRoutingDataSource readOnly = new ReplicaRoutingDataSource(primary, replicaPools, replicaProperties, meterRegistry);
+		return new RoutingDataSource(primary, readOnly);
+	}
+
+	private HikariDataSource createReplicaPool(int index, ReplicaProperties replicaProperties,
+		DataSourceProperties dataSourceProperties, MeterRegistry meterRegistry) {
+		HikariDataSource pool = new HikariDataSource();
+		pool.setPoolName("replica-" + index);
+		pool.setJdbcUrl(replicaProperties.urls().get(index));
+		pool.setUsername(replicaProperties.username() != null
+			? replicaProperties.username() : dataSourceProperties.getUsername());
+		pool.setPassword(replicaProperties.password() != null
+			? replicaProperties.password() : dataSourceProperties.getPassword());
+		pool.setDriverClassName(dataSourceProperties.getDriverClassName());
+		pool.setMaximumPoolSize(replicaProperties.maxPoolSize());
+		// 기본 30초면 복제본 하나가 죽을 때마다 요청/상태 확인이 그만큼 막힌다
+		pool.setConnectionTimeout(replicaProperties.connectionTimeoutMillis());
+		pool.setReadOnly(true);
+		// 시작 시 복제본이 내려가 있어도 애플리케이션은 뜨고, 상태 확인에서 제외되도록
+		pool.setInitializationFailTimeout(-1);
+		pool.setMetricRegistry(meterRegistry);
+		return pool;
+	}
+
+	// 컨텍스트 종료 시 주 DB/복제본 풀을 함께 닫는다 (close 는 destroy 메서드로 추론됨)
+	static class RoutingDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+		private final HikariDataSource primary;
+		private final ReplicaRoutingDataSource readOnly;
+
+		RoutingDataSource(HikariDataSource primary, ReplicaRoutingDataSource readOnly) {
+			super(primary);
+			setReadOnlyDataSource(readOnly);
+			this.primary = primary;
+			this.readOnly = readOnly;
+		}
+
+		@Override
+		public void close() {
+			readOnly.close();
+			primary.close();
+		}
+	}
+}
@@ -0,0 +1,27 @@
+package dev.group2.landmark_be.global.datasource;
+
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// app.datasource.replica.* (application.yaml 참고)
+@ConfigurationProperties(prefix = "app.datasource.replica")
+public record ReplicaProperties(
+	@DefaultValue("false") boolean enabled,
+	List<String> urls,								// 복제본 JDBC URL 목록
+	String username,								// 생략 시 spring.datasource.username
+	String password,
+	@DefaultValue("10") int maxPoolSize,			// 복제본별 풀 크기
+	@DefaultValue("1000") long connectionTimeoutMillis,	// 복제본 풀 커넥션 대기 상한 (넘으면 다음 복제본/주 DB)
+	@DefaultValue("5000") long healthCheckIntervalMillis,
+	@DefaultValue("5") double maxLagSeconds			// 이보다 뒤처진 복제본은 제외하고 주 DB로 보냄
+) {
+	public ReplicaProperties {
+		urls = urls == null ? List.of() : urls.stream().filter(url -> !url.isBlank()).toList();
+		// DB_REPLICA_ENABLED=true 인데 DB_REPLICA_URLS 를 빠뜨리면 기동 시점에 실패 (읽기마다 실패하지 않게)
+		if(enabled && urls.isEmpty()) {
+			throw new IllegalArgumentException("app.datasource.replica.urls must not be empty when replicas are enabled");
+		}
+	}
+}
@@ -0,0 +1,165 @@
+package dev.group2.landmark_be.global.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+// 읽기 전용 커넥션을 복제본들에 라운드로빈으로 분배
+// 주기적으로 상태와 복제 지연을 확인해서, 죽었거나 maxLag 보다 뒤처진 복제본은 빼고,
+// 쓸 수 있는 복제본이 없으면 주 DB 커넥션을 준다.
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+	// 복제본이 아니면(pg_is_in_recovery = false) 지연 0으로 본다 -> 독립된 두 로컬 인스턴스로도 테스트 가능
+	private static final String LAG_QUERY = """
+		SELECT CASE
+			WHEN NOT pg_is_in_recovery() THEN 0
+			WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+			ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+		END
+		""";
+
+	private final DataSource primary;
+	private final List<Replica> replicas;
+	private final double maxLagSeconds;
+	private final AtomicInteger cursor = new AtomicInteger();
+	private final Counter fallbackCounter;
+	private final ScheduledExecutorService healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "replica-health-check");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	public ReplicaRoutingDataSource(DataSource primary, List<HikariDataSource> replicaPools, ReplicaProperties properties,
+		MeterRegistry meterRegistry) {
+		this.primary = primary;
+		this.replicas = replicaPools.stream().map(Replica::new).toList();
+		this.maxLagSeconds = properties.maxLagSeconds();
+		this.fallbackCounter = Counter.builder("db.replica.fallback").register(meterRegistry);
+
+		for (Replica replica : replicas) {
+			Gauge.builder("db.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+				.tag("replica", replica.name())
+				.register(meterRegistry);
+			Gauge.builder("db.replica.lag.seconds", replica, r -> r.lagSeconds)
+				.tag("replica", replica.name())
+				.register(meterRegistry);
+		}
+
+		// 첫 확인도 상태 확인 스레드에서 (내려간 복제본 때문에 기동이 connection-timeout 만큼 막히지 않게)
+		// 첫 확인이 끝나기 전까지 복제본은 제외 상태라 읽기도 주 DB로 간다
+		long interval = properties.healthCheckIntervalMillis();
+		healthChecker.scheduleWithFixedDelay(this::checkHealth, 0, interval, TimeUnit.MILLISECONDS);
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		int size = replicas.size();
+		if(size == 0) {
+			return primary.getConnection();
+		}
+		int start = Math.floorMod(cursor.getAndIncrement(), size);
+		for (int i = 0; i < size; i++) {
+			Replica replica = replicas.get((start + i) % size);
+			if(!replica.healthy) {
+				continue;
+			}
+			try {
+				return replica.pool.getConnection();
+			} catch (SQLException e) {
+				if(isConnectionFailure(e)) {
+					log.warn("복제본 {} 커넥션 획득 실패, 제외 후 다음 후보 사용", replica.name(), e);
+					replica.healthy = false;
+				} else {
+					// 살아 있지만 풀이 바쁜 경우: 제외하지 않고 이번 요청만 다음 후보로
+					log.debug("복제본 {} 풀 대기 시간 초과, 다음 후보 사용", replica.name());
+				}
+			}
+		}
+		fallbackCounter.increment();
+		return primary.getConnection();
+	}
+
+	// Hikari 풀과 같이 계정을 바꾼 커넥션은 지원하지 않는다
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		throw new SQLFeatureNotSupportedException("복제본 라우팅은 설정된 계정만 사용합니다.");
+	}
+
+	// Hikari 는 풀이 바빠서 connection-timeout 안에 커넥션을 못 줄 때도 SQLTransientConnectionException 을 던진다.
+	// 이때 새 연결 시도가 실패한 적이 있으면 그 예외를 cause 로 붙이므로, cause 가 없으면 풀 고갈로 본다.
+	static boolean isConnectionFailure(SQLException e) {
+		return !(e instanceof SQLTransientConnectionException) || e.getCause() != null;
+	}
+
+	private void checkHealth() {
+		for (Replica replica : replicas) {
+			try (Connection connection = replica.pool.getConnection();
+				 Statement statement = connection.createStatement();
+				 ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+				resultSet.next();
+				double lag = resultSet.getDouble(1);
+				boolean healthy = lag <= maxLagSeconds;
+				if(healthy != replica.healthy) {
+					log.info("복제본 {} 상태 변경: {} (지연 {}초)", replica.name(), healthy ? "사용" : "제외", lag);
+				}
+				replica.lagSeconds = lag;
+				replica.healthy = healthy;
+			} catch (SQLException e) {
+				if(!isConnectionFailure(e)) {
+					// 풀이 바빠서 확인용 커넥션을 못 받았을 뿐이면 이전 상태 유지
+					continue;
+				}
+				markUnhealthy(replica, e);
+			} catch (RuntimeException e) {
+				markUnhealthy(replica, e);
+			}
+		}
+	}
+
+	private void markUnhealthy(Replica replica, Exception e) {
+		if(replica.healthy) {
+			log.warn("복제본 {} 상태 확인 실패, 제외", replica.name(), e);
+		}
+		replica.healthy = false;
+	}
+
+	@Override
+	public void close() {
+		healthChecker.shutdownNow();
+		replicas.forEach(replica -> replica.pool.close());
+	}
+
+	private static final class Replica {
+		private final HikariDataSource pool;
+		private volatile boolean healthy;
+		private volatile double lagSeconds;
+
+		private Replica(HikariDataSource pool) {
+			this.pool = pool;
+		}
+
+		private String name() {
+			return pool.getPoolName();
+		}
+	}
+}
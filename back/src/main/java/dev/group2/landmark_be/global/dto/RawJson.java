@@ -0,0 +1,37 @@
+package dev.group2.landmark_be.global.dto;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+// 이미 JSON 으로 인코딩된 값 (ST_AsGeoJSON, GeoJsonEncoder 결과 등)
+// String 필드로 두면 Jackson 이 따옴표를 모두 이스케이프하고 클라이언트가 JSON.parse 를 한 번 더 해야 하므로
+// 응답에는 검사/재파싱 없이 그대로 써 넣는다. 올바른 JSON 인지는 만드는 쪽(DB, 인코더)이 보장해야 한다.
+@JsonSerialize(using = RawJson.Serializer.class)
+public record RawJson(String json) {
+
+	// null 이면 null (도형을 조회하지 않은 경우 필드를 그대로 비워 두기 위해)
+	public static RawJson of(String json) {
+		return json == null ? null : new RawJson(json);
+	}
+
+	@Override
+	public String toString() {
+		return json;
+	}
+
+	static final class Serializer extends StdSerializer<RawJson> {
+
+		Serializer() {
+			super(RawJson.class);
+		}
+
+		@Override
+		public void serialize(RawJson value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+			generator.writeRawValue(value.json());
+		}
+	}
+}
@@ -15,6 +15,36 @@ public enum ErrorCode {
 	// 메모 관련
 	NOTE_NOT_FOUND(404, "NOTE_NOT_FOUND", "메모를 찾을 수 없습니다."),
 
+	// 요청 파라미터 오류
+	INVALID_BBOX(400, "INVALID_BBOX", "지도 영역(bbox)은 minLng,minLat,maxLng,maxLat 형식이어야 합니다."),
+	INVALID_FIELDS(400, "INVALID_FIELDS", "fields에 지원하지 않는 필드 이름이 포함되어 있습니다."),
+	INVALID_INCLUDE(400, "INVALID_INCLUDE", "include는 rasters, risk, notes 중에서 콤마로 구분해 지정해야 합니다."),
+	INVALID_METRIC(400, "INVALID_METRIC", "metric은 ndvi, ndmi, risk 중 하나이며 year, month와 함께 지정해야 합니다."),
+	INVALID_ROLLUP_PERIOD(400, "INVALID_ROLLUP_PERIOD", "period는 quarter 또는 year 여야 합니다."),
+	INVALID_YEAR_RANGE(400, "INVALID_YEAR_RANGE", "연도 범위가 올바르지 않습니다. (fromYear <= toYear, 최대 30년)"),
+	INVALID_BOUNDARY_LEVEL(400, "INVALID_BOUNDARY_LEVEL", "지원하지 않는 행정경계 단계이거나 하위 경계가 없는 행정구역입니다."),
+	INVALID_BOUNDARY_QUERY(400, "INVALID_BOUNDARY_QUERY", "level(단계별 조회)과 format(시도 TopoJSON)은 함께 지정할 수 없습니다."),
+	BOUNDARY_VIEWPORT_TOO_LARGE(400, "BOUNDARY_VIEWPORT_TOO_LARGE", "화면 영역에 행정경계가 너무 많습니다. 지도를 확대하거나 상위 단계를 조회해 주세요."),
+	INVALID_RASTER_CHANGE_REQUEST(400, "INVALID_RASTER_CHANGE_REQUEST", "index는 NDVI 또는 NDMI, from/to는 서로 다른 YYYY-MM, direction은 decrease, increase, any 중 하나여야 합니다."),
+
+	// 상세 조회 부분 실패
+	DETAIL_PART_TIMEOUT(504, "DETAIL_PART_TIMEOUT", "제한 시간 안에 조회하지 못했습니다."),
+
+	// 대량 내보내기 관련
+	INVALID_EXPORT_REQUEST(400, "INVALID_EXPORT_REQUEST", "내보내기 연도 범위(fromYear <= toYear)와 지수 종류(NDVI, NDMI)를 확인해 주세요."),
+	EXPORT_JOB_NOT_FOUND(404, "EXPORT_JOB_NOT_FOUND", "내보내기 작업을 찾을 수 없습니다."),
+	EXPORT_JOB_NOT_COMPLETED(409, "EXPORT_JOB_NOT_COMPLETED", "아직 진행 중인 내보내기 작업입니다."),
+	EXPORT_JOB_NOT_RESUMABLE(409, "EXPORT_JOB_NOT_RESUMABLE", "실패했거나 중단된 작업만 이어서 실행할 수 있습니다."),
+	TOO_MANY_EXPORT_JOBS(429, "TOO_MANY_EXPORT_JOBS", "동시에 실행할 수 있는 내보내기 작업 수를 초과했습니다."),
+
+	// 실시간 스트림 관련
+	STREAM_NOT_FOUND(404, "STREAM_NOT_FOUND", "스트림 연결을 찾을 수 없습니다."),
+	TOO_MANY_STREAMS(429, "TOO_MANY_STREAMS", "동시에 열 수 있는 스트림 수를 초과했습니다."),
+
+	// 과부하 보호
+	RATE_LIMITED(429, "RATE_LIMITED", "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요."),
+	SERVER_OVERLOADED(503, "SERVER_OVERLOADED", "서버가 혼잡합니다. 잠시 후 다시 시도해 주세요."),
+
 	// 인가 실패
 	UNAUTHORIZED_ACCESS(403, "UNAUTHORIZED_ACCESS", "해당 리소스에 접근할 권한이 없습니다."),
 	;
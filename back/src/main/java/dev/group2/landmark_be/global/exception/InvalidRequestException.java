@@ -0,0 +1,7 @@
+package dev.group2.landmark_be.global.exception;
+
+public class InvalidRequestException extends BaseException {
+	public InvalidRequestException(ErrorCode errorCode) {
+		super(errorCode);
+	}
+}
@@ -0,0 +1,7 @@
+package dev.group2.landmark_be.global.exception;
+
+public class StreamException extends BaseException {
+	public StreamException(ErrorCode errorCode) {
+		super(errorCode);
+	}
+}
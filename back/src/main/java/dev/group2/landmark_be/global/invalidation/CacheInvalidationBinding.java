@@ -0,0 +1,13 @@
+package dev.group2.landmark_be.global.invalidation;
+
+import java.util.function.Function;
+
+// 테이블 변경 이벤트를 받으면 비울 캐시와, 이벤트 키(문자열)를 캐시 키로 바꾸는 방법
+// 캐시를 추가할 때 CacheConfig 에 빈으로 함께 등록한다.
+// keyParser 가 null 이면 이벤트 키로 캐시 키를 알 수 없다는 뜻이므로 캐시 전체를 비운다.
+public record CacheInvalidationBinding(
+	String table,
+	String cacheName,
+	Function<String, Object> keyParser
+) {
+}
@@ -0,0 +1,15 @@
+package dev.group2.landmark_be.global.invalidation;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+// cache_invalidation 채널 payload
+// keys 가 null 이면 해당 테이블에 묶인 캐시 전체 무효화, origin 은 보낸 노드 (DB 트리거는 null)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record InvalidationEvent(
+	String table,
+	List<String> keys,
+	String origin
+) {
+}
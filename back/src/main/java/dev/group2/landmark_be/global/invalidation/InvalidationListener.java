@@ -0,0 +1,235 @@
+package dev.group2.landmark_be.global.invalidation;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// 전용 커넥션(풀 밖)으로 cache_invalidation 채널을 LISTEN 하고, 바인딩된 로컬 캐시를 비운다.
+// 짧은 시간에 몰리는 이벤트(적재 배치 등)는 coalesce-ms 동안 모아서 테이블별로 한 번에 처리하고,
+// LISTEN 을 시작하기 전(첫 연결 포함)이나 연결이 끊긴 사이의 이벤트는 알 수 없으므로, LISTEN 직후마다 바인딩된 캐시를 모두 비운다(resync).
+// 컨텍스트 refresh 때(SmartLifecycle) 시작하므로 ApplicationReadyEvent 의 워밍업(StartupWarmup)보다 먼저 듣기 시작한다.
+@Slf4j
+@Component
+public class InvalidationListener implements SmartLifecycle {
+
+	private final DataSourceProperties dataSourceProperties;
+	private final CacheManager cacheManager;
+	private final List<CacheInvalidationBinding> bindings;
+	private final ObjectMapper objectMapper;
+	private final InvalidationNode node;
+	private final MeterRegistry meterRegistry;
+	private final ApplicationEventPublisher eventPublisher;
+
+	private final boolean enabled;
+	private final long coalesceMillis;
+	private final int pollMillis;
+	private final long reconnectBackoffMillis;
+
+	// 테이블 -> 모인 키 (null 이면 전체 무효화)
+	private final Map<String, Set<String>> pending = new HashMap<>();
+	private boolean flushScheduled;
+
+	private final ScheduledExecutorService flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "cache-invalidation-flush");
+		thread.setDaemon(true);
+		return thread;
+	});
+	private volatile Thread listenerThread;
+	private volatile boolean running;
+
+	public InvalidationListener(
+		DataSourceProperties dataSourceProperties,
+		CacheManager cacheManager,
+		List<CacheInvalidationBinding> bindings,
+		ObjectMapper objectMapper,
+		InvalidationNode node,
+		MeterRegistry meterRegistry,
+		ApplicationEventPublisher eventPublisher,
+		@Value("${app.cache-invalidation.enabled:true}") boolean enabled,
+		@Value("${app.cache-invalidation.coalesce-ms:200}") long coalesceMillis,
+		@Value("${app.cache-invalidation.poll-ms:10000}") int pollMillis,
+		@Value("${app.cache-invalidation.reconnect-backoff-ms:5000}") long reconnectBackoffMillis
+	) {
+		this.dataSourceProperties = dataSourceProperties;
+		this.cacheManager = cacheManager;
+		this.bindings = bindings;
+		this.objectMapper = objectMapper;
+		this.node = node;
+		this.meterRegistry = meterRegistry;
+		this.eventPublisher = eventPublisher;
+		this.enabled = enabled;
+		this.coalesceMillis = coalesceMillis;
+		this.pollMillis = pollMillis;
+		this.reconnectBackoffMillis = reconnectBackoffMillis;
+	}
+
+	@Override
+	public void start() {
+		if(!enabled || running) {
+			return;
+		}
+		running = true;
+		listenerThread = new Thread(this::listenLoop, "cache-invalidation-listener");
+		listenerThread.setDaemon(true);
+		listenerThread.start();
+	}
+
+	@Override
+	public void stop() {
+		running = false;
+		if(listenerThread != null) {
+			listenerThread.interrupt();
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	private void listenLoop() {
+		while (running) {
+			try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+				dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+				try (Statement statement = connection.createStatement()) {
+					statement.execute("LISTEN " + InvalidationPublisher.CHANNEL);
+				}
+				// 첫 연결이면 LISTEN 전에 채워진 캐시(워밍업 등), 재연결이면 끊긴 사이 놓친 이벤트
+				log.info("캐시 무효화 채널 LISTEN 시작, 바인딩된 캐시 전체를 비웁니다.");
+				meterRegistry.counter("cache.invalidation.resync").increment();
+				resync();
+
+				PGConnection pgConnection = connection.unwrap(PGConnection.class);
+				while (running) {
+					PGNotification[] notifications = pgConnection.getNotifications(pollMillis);
+					if(notifications == null || notifications.length == 0) {
+						// 조용한 동안에도 끊긴 연결을 알아챌 수 있도록 확인
+						try (Statement statement = connection.createStatement()) {
+							statement.execute("SELECT 1");
+						}
+						continue;
+					}
+					for (PGNotification notification : notifications) {
+						try {
+							receive(notification.getParameter());
+						} catch (RuntimeException e) {
+							// 알림 하나 때문에 리스너 스레드가 끝나지 않도록
+							log.warn("캐시 무효화 알림 처리 실패: {}", notification.getParameter(), e);
+						}
+					}
+				}
+			} catch (SQLException | RuntimeException e) {
+				// 예외로 스레드가 끝나면 이 노드의 무효화가 조용히 멈추므로, 무엇이든 로그를 남기고 다시 연결한다
+				if(!running) {
+					return;
+				}
+				log.warn("캐시 무효화 채널 오류, {}ms 후 재연결", reconnectBackoffMillis, e);
+				try {
+					Thread.sleep(reconnectBackoffMillis);
+				} catch (InterruptedException interrupted) {
+					return;
+				}
+			}
+		}
+	}
+
+	private void receive(String payload) {
+		InvalidationEvent event;
+		try {
+			event = objectMapper.readValue(payload, InvalidationEvent.class);
+		} catch (Exception e) {
+			log.warn("잘못된 캐시 무효화 payload: {}", payload);
+			return;
+		}
+		if(event.table() == null) {
+			log.warn("table 이 없는 캐시 무효화 payload: {}", payload);
+			return;
+		}
+		if(node.id().equals(event.origin())) {
+			return;
+		}
+		meterRegistry.counter("cache.invalidation.received", "table", event.table()).increment();
+		synchronized (pending) {
+			if(event.keys() == null) {
+				pending.put(event.table(), null);
+			} else if(!pending.containsKey(event.table())) {
+				pending.put(event.table(), new HashSet<>(event.keys()));
+			} else if(pending.get(event.table()) != null) {
+				pending.get(event.table()).addAll(event.keys());
+			}
+			if(!flushScheduled) {
+				flushScheduled = true;
+				flushScheduler.schedule(this::flush, coalesceMillis, TimeUnit.MILLISECONDS);
+			}
+		}
+	}
+
+	private void flush() {
+		Map<String, Set<String>> batch;
+		synchronized (pending) {
+			batch = new HashMap<>(pending);
+			pending.clear();
+			flushScheduled = false;
+		}
+		// 캐시를 먼저 비운 뒤 알린다 (알림을 받고 다시 조회하면 새 값)
+		batch.forEach(this::evict);
+		batch.forEach((table, keys) -> eventPublisher.publishEvent(new TableChangedEvent(table, keys)));
+	}
+
+	private void evict(String table, Set<String> keys) {
+		for (CacheInvalidationBinding binding : bindings) {
+			if(!binding.table().equals(table)) {
+				continue;
+			}
+			Cache cache = cacheManager.getCache(binding.cacheName());
+			if(cache == null) {
+				continue;
+			}
+			if(keys == null || binding.keyParser() == null) {
+				cache.clear();
+			} else {
+				keys.forEach(key -> cache.evict(binding.keyParser().apply(key)));
+			}
+		}
+	}
+
+	private void resync() {
+		bindings.forEach(binding -> {
+			Cache cache = cacheManager.getCache(binding.cacheName());
+			if(cache != null) {
+				cache.clear();
+			}
+		});
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		stop();
+		flushScheduler.shutdownNow();
+	}
+}
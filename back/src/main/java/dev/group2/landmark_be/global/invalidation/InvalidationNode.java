@@ -0,0 +1,16 @@
+package dev.group2.landmark_be.global.invalidation;
+
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+// 이 프로세스의 식별자: 자기 자신이 보낸 이벤트는 이미 로컬에서 무효화했으므로 수신 시 건너뛴다
+@Component
+public class InvalidationNode {
+
+	private final String id = UUID.randomUUID().toString();
+
+	public String id() {
+		return id;
+	}
+}
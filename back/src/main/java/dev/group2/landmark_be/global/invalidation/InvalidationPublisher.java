@@ -0,0 +1,41 @@
+package dev.group2.landmark_be.global.invalidation;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+// 애플리케이션 쓰기 경로에서 다른 노드로 캐시 무효화를 보낸다.
+// 쓰기 트랜잭션 안에서 호출하면 NOTIFY 가 커밋될 때만 전달되고, 롤백되면 사라진다.
+@Component
+@RequiredArgsConstructor
+public class InvalidationPublisher {
+
+	static final String CHANNEL = "cache_invalidation";
+
+	private static final String NOTIFY_SQL = """
+		SELECT pg_notify(?, json_build_object(
+			'table', ?::text,
+			'keys', ?::json,
+			'origin', ?::text)::text)
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final ObjectMapper objectMapper;
+	private final InvalidationNode node;
+
+	public void publish(String table, Object... keys) {
+		List<String> keyList = Arrays.stream(keys).map(String::valueOf).toList();
+		try {
+			jdbcTemplate.queryForList(NOTIFY_SQL, CHANNEL, table, objectMapper.writeValueAsString(keyList), node.id());
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,11 @@
+package dev.group2.landmark_be.global.invalidation;
+
+import java.util.Set;
+
+// 다른 노드/DB 트리거에서 온 변경 알림을 coalesce 한 뒤 로컬 캐시를 비우고 발행 (InvalidationListener)
+// keys 가 null 이면 어떤 키가 바뀌었는지 모름 (대량 변경)
+public record TableChangedEvent(
+	String table,
+	Set<String> keys
+) {
+}
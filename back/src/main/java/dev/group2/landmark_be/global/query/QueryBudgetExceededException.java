@@ -0,0 +1,9 @@
+package dev.group2.landmark_be.global.query;
+
+// app.query-budget.fail-on-exceed=true 일 때 기록되는 예산 초과 내역 (던지지 않음, QueryBudgetPolicy.drainViolations)
+public class QueryBudgetExceededException extends IllegalStateException {
+
+	public QueryBudgetExceededException(String endpoint, long statements, int budget, String detail) {
+		super(endpoint + " 요청이 쿼리 예산을 초과했습니다: " + statements + " > " + budget + "\n" + detail);
+	}
+}
@@ -0,0 +1,76 @@
+package dev.group2.landmark_be.global.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 요청 종료 시 QueryStats 를 검사: 예산 초과, N+1 의심, 느린 요청(샘플링) 로그
+// 검사는 응답을 보낸 뒤(필터의 finally)라 예외를 던지면 원래 예외를 가리고 응답도 바꿀 수 없다.
+// 그래서 fail-on-exceed 여도 요청은 실패시키지 않고 초과 내역을 모아 두며, 테스트가 drainViolations() 로 검사한다.
+@Slf4j
+@RequiredArgsConstructor
+public class QueryBudgetPolicy {
+
+	private static final int LOGGED_FINGERPRINTS = 5;
+	private static final int MAX_RECORDED_VIOLATIONS = 1000;	// 아무도 꺼내지 않는 실행 환경에서 무한히 쌓이지 않게
+
+	private final QueryBudgetProperties properties;
+	private final Queue<QueryBudgetExceededException> violations = new ArrayBlockingQueue<>(MAX_RECORDED_VIOLATIONS);
+
+	// 예산 초과 여부 반환, fail-on-exceed 이면 초과 내역을 기록
+	public boolean check(String endpoint, QueryStats stats, long elapsedMillis) {
+		long statements = stats.getStatementCount();
+		int budget = properties.maxStatementsFor(endpoint);
+
+		List<Map.Entry<String, Long>> repeated = stats.getFingerprintCounts().entrySet().stream()
+			.filter(entry -> entry.getValue() >= properties.nPlusOneThreshold())
+			.toList();
+		if(!repeated.isEmpty()) {
+			log.warn("N+1 의심 [{}] 같은 쿼리 반복 실행:\n{}", endpoint, format(repeated));
+		}
+
+		if(elapsedMillis >= properties.slowRequestMillis()
+			&& ThreadLocalRandom.current().nextDouble() < properties.slowLogSampleRate()) {
+			log.warn("느린 요청 [{}] {}ms, 쿼리 {}건, 행 {}개, DB {}ms\n{}",
+				endpoint, elapsedMillis, statements, stats.getRowCount(),
+				TimeUnit.NANOSECONDS.toMillis(stats.getDbNanos()), format(stats.topFingerprints(LOGGED_FINGERPRINTS)));
+		}
+
+		if(statements <= budget) {
+			return false;
+		}
+		String detail = format(stats.topFingerprints(LOGGED_FINGERPRINTS));
+		if(properties.failOnExceed()) {
+			QueryBudgetExceededException violation = new QueryBudgetExceededException(endpoint, statements, budget, detail);
+			violations.offer(violation);
+			log.error(violation.getMessage());
+			return true;
+		}
+		log.warn("쿼리 예산 초과 [{}] {}건 > {}건\n{}", endpoint, statements, budget, detail);
+		return true;
+	}
+
+	// 지금까지 기록된 초과 내역을 꺼낸다 (fail-on-exceed 모드, 테스트에서 요청마다 호출)
+	public List<QueryBudgetExceededException> drainViolations() {
+		List<QueryBudgetExceededException> drained = new ArrayList<>();
+		QueryBudgetExceededException violation;
+		while ((violation = violations.poll()) != null) {
+			drained.add(violation);
+		}
+		return drained;
+	}
+
+	private String format(List<Map.Entry<String, Long>> fingerprints) {
+		return fingerprints.stream()
+			.map(entry -> "  " + entry.getValue() + "x " + entry.getKey())
+			.collect(Collectors.joining("\n"));
+	}
+}
@@ -0,0 +1,26 @@
+package dev.group2.landmark_be.global.query;
+
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// app.query-budget.* (application.yaml 참고)
+@ConfigurationProperties(prefix = "app.query-budget")
+public record QueryBudgetProperties(
+	@DefaultValue("true") boolean enabled,
+	@DefaultValue("false") boolean failOnExceed,		// 테스트에서 true: 초과 내역을 모아 테스트를 실패시킨다
+	@DefaultValue("20") int defaultMaxStatements,		// 예산이 지정되지 않은 엔드포인트의 상한
+	@DefaultValue("5") int nPlusOneThreshold,			// 같은 SQL 지문이 이 횟수 이상이면 N+1 의심
+	@DefaultValue("500") long slowRequestMillis,
+	@DefaultValue("0.1") double slowLogSampleRate,
+	Map<String, Integer> endpoints						// "GET /api/notes/{landmarkId}" -> 최대 문장 수
+) {
+	public QueryBudgetProperties {
+		endpoints = endpoints == null ? Map.of() : Map.copyOf(endpoints);
+	}
+
+	public int maxStatementsFor(String endpoint) {
+		return endpoints.getOrDefault(endpoint, defaultMaxStatements);
+	}
+}
@@ -0,0 +1,131 @@
+package dev.group2.landmark_be.global.query;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+// DataSource -> Connection -> Statement -> ResultSet 를 JDK 프록시로 감싸서
+// 실행한 SQL, 소요 시간, 읽은 행 수를 현재 요청의 QueryStats 에 기록한다.
+final class QueryCountingProxies {
+
+	private static final Set<String> EXECUTE_METHODS = Set.of(
+		"execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+	private QueryCountingProxies() {
+	}
+
+	static DataSource wrap(DataSource target) {
+		return proxy(DataSource.class, target, (proxy, method, args) -> {
+			if(isUnwrap(method)) {
+				return unwrap(proxy, target, method, args);
+			}
+			Object result = invoke(target, method, args);
+			return result instanceof Connection connection ? wrapConnection(connection) : result;
+		});
+	}
+
+	private static Connection wrapConnection(Connection target) {
+		return proxy(Connection.class, target, (proxy, method, args) -> {
+			if(isUnwrap(method)) {
+				return unwrap(proxy, target, method, args);
+			}
+			Object result = invoke(target, method, args);
+			String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+			if(result instanceof CallableStatement statement) {
+				return wrapStatement(CallableStatement.class, statement, sql);
+			}
+			if(result instanceof PreparedStatement statement) {
+				return wrapStatement(PreparedStatement.class, statement, sql);
+			}
+			if(result instanceof Statement statement) {
+				return wrapStatement(Statement.class, statement, null);
+			}
+			return result;
+		});
+	}
+
+	private static <T extends Statement> T wrapStatement(Class<T> type, T target, String preparedSql) {
+		return proxy(type, target, (proxy, method, args) -> {
+			if(isUnwrap(method)) {
+				return unwrap(proxy, target, method, args);
+			}
+			QueryStats stats = QueryStatsHolder.current();
+			if(stats == null) {
+				return invoke(target, method, args);
+			}
+			if(!EXECUTE_METHODS.contains(method.getName())) {
+				Object result = invoke(target, method, args);
+				return result instanceof ResultSet resultSet ? wrapResultSet(resultSet, stats) : result;
+			}
+
+			String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+			long started = System.nanoTime();
+			Object result;
+			try {
+				result = invoke(target, method, args);
+			} finally {
+				stats.recordStatement(sql, System.nanoTime() - started);
+			}
+			if(result instanceof ResultSet resultSet) {
+				return wrapResultSet(resultSet, stats);
+			}
+			if(result instanceof Integer updated && updated > 0) {
+				stats.recordRows(updated);
+			} else if(result instanceof Long updated && updated > 0) {
+				stats.recordRows(updated);
+			}
+			return result;
+		});
+	}
+
+	private static ResultSet wrapResultSet(ResultSet target, QueryStats stats) {
+		return proxy(ResultSet.class, target, (proxy, method, args) -> {
+			if(isUnwrap(method)) {
+				return unwrap(proxy, target, method, args);
+			}
+			Object result = invoke(target, method, args);
+			if("next".equals(method.getName()) && Boolean.TRUE.equals(result)) {
+				stats.recordRows(1);
+			}
+			return result;
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T proxy(Class<T> type, Object target, InvocationHandler handler) {
+		return (T) Proxy.newProxyInstance(QueryCountingProxies.class.getClassLoader(), new Class<?>[] {type}, handler);
+	}
+
+	private static boolean isUnwrap(Method method) {
+		return "unwrap".equals(method.getName()) || "isWrapperFor".equals(method.getName());
+	}
+
+	// Hikari 메트릭 등 원본 타입이 필요한 곳은 unwrap으로 원본을 꺼낼 수 있게 한다
+	private static Object unwrap(Object proxy, Object target, Method method, Object[] args) throws Throwable {
+		Class<?> type = (Class<?>) args[0];
+		if("isWrapperFor".equals(method.getName())) {
+			return type.isInstance(target) || (Boolean) invoke(target, method, args);
+		}
+		if(type.isInstance(target)) {
+			return target;
+		}
+		return invoke(target, method, args);
+	}
+
+	private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+}
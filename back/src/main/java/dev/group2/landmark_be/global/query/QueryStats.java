@@ -0,0 +1,74 @@
+package dev.group2.landmark_be.global.query;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+// 요청 하나가 실행한 SQL 통계 (문장 수, 읽거나 변경한 행 수, DB 시간, SQL 지문별 실행 횟수)
+// 병렬 하위 작업에서도 같은 객체에 누적할 수 있도록 스레드 안전하게 유지
+public class QueryStats {
+
+	private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+	private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+	private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+	private static final int MAX_FINGERPRINT_LENGTH = 300;
+
+	private final LongAdder statements = new LongAdder();
+	private final LongAdder rows = new LongAdder();
+	private final LongAdder dbNanos = new LongAdder();
+	private final Map<String, LongAdder> fingerprints = new ConcurrentHashMap<>();
+
+	void recordStatement(String sql, long elapsedNanos) {
+		statements.increment();
+		dbNanos.add(elapsedNanos);
+		fingerprints.computeIfAbsent(fingerprint(sql), key -> new LongAdder()).increment();
+	}
+
+	void recordRows(long count) {
+		rows.add(count);
+	}
+
+	public long getStatementCount() {
+		return statements.sum();
+	}
+
+	public long getRowCount() {
+		return rows.sum();
+	}
+
+	public long getDbNanos() {
+		return dbNanos.sum();
+	}
+
+	public Map<String, Long> getFingerprintCounts() {
+		Map<String, Long> counts = new ConcurrentHashMap<>();
+		fingerprints.forEach((fingerprint, count) -> counts.put(fingerprint, count.sum()));
+		return counts;
+	}
+
+	// 실행 횟수가 많은 SQL 지문 상위 limit개
+	public List<Map.Entry<String, Long>> topFingerprints(int limit) {
+		return getFingerprintCounts().entrySet().stream()
+			.sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+			.limit(limit)
+			.toList();
+	}
+
+	// 리터럴을 ?로 바꾸고 IN 목록, 공백을 접어서 같은 모양의 쿼리를 하나로 묶는다
+	static String fingerprint(String sql) {
+		if(sql == null) {
+			return "<unknown>";
+		}
+		String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+		normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+		normalized = IN_LIST.matcher(normalized).replaceAll("(?)");
+		normalized = WHITESPACE.matcher(normalized).replaceAll(" ").trim().toLowerCase();
+		return normalized.length() > MAX_FINGERPRINT_LENGTH
+			? normalized.substring(0, MAX_FINGERPRINT_LENGTH) + "..."
+			: normalized;
+	}
+}
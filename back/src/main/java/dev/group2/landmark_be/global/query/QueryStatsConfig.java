@@ -0,0 +1,44 @@
+package dev.group2.landmark_be.global.query;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// 요청 단위 쿼리 카운터 (show_sql/바인딩 TRACE 로그 대체)
+@Configuration
+@EnableConfigurationProperties(QueryBudgetProperties.class)
+@ConditionalOnProperty(prefix = "app.query-budget", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class QueryStatsConfig {
+
+	@Bean
+	public static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				return bean instanceof DataSource dataSource ? QueryCountingProxies.wrap(dataSource) : bean;
+			}
+		};
+	}
+
+	@Bean
+	public QueryBudgetPolicy queryBudgetPolicy(QueryBudgetProperties properties) {
+		return new QueryBudgetPolicy(properties);
+	}
+
+	// 인증 필터의 사용자 조회까지 포함하도록 보안 필터보다 먼저 실행
+	@Bean
+	public FilterRegistrationBean<QueryStatsFilter> queryStatsFilter(QueryBudgetPolicy policy, MeterRegistry meterRegistry) {
+		FilterRegistrationBean<QueryStatsFilter> registration = new FilterRegistrationBean<>(
+			new QueryStatsFilter(policy, meterRegistry));
+		registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+		return registration;
+	}
+}
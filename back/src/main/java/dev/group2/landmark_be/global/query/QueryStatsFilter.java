@@ -0,0 +1,66 @@
+package dev.group2.landmark_be.global.query;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+// 요청마다 QueryStats 를 열고, 끝나면 엔드포인트(메서드 + URI 템플릿)별로 기록/검사
+@RequiredArgsConstructor
+public class QueryStatsFilter extends OncePerRequestFilter {
+
+	private final QueryBudgetPolicy policy;
+	private final MeterRegistry meterRegistry;
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws
+		ServletException, IOException {
+		QueryStats stats = QueryStatsHolder.start();
+		long started = System.nanoTime();
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			QueryStatsHolder.clear();
+			long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+			String uri = resolveUri(request);
+			String endpoint = request.getMethod() + " " + uri;
+
+			DistributionSummary.builder("db.request.statements")
+				.tag("method", request.getMethod()).tag("uri", uri)
+				.register(meterRegistry)
+				.record(stats.getStatementCount());
+			DistributionSummary.builder("db.request.rows")
+				.tag("method", request.getMethod()).tag("uri", uri)
+				.register(meterRegistry)
+				.record(stats.getRowCount());
+			Timer.builder("db.request.time")
+				.tag("method", request.getMethod()).tag("uri", uri)
+				.register(meterRegistry)
+				.record(stats.getDbNanos(), TimeUnit.NANOSECONDS);
+
+			if(policy.check(endpoint, stats, elapsedMillis)) {
+				Counter.builder("db.query.budget.exceeded")
+					.tag("method", request.getMethod()).tag("uri", uri)
+					.register(meterRegistry)
+					.increment();
+			}
+		}
+	}
+
+	// 경로 변수 값이 아니라 템플릿(/api/notes/{landmarkId})으로 묶어야 카디널리티가 폭증하지 않음
+	private String resolveUri(HttpServletRequest request) {
+		Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		return pattern != null ? pattern.toString() : "UNMAPPED";
+	}
+}
@@ -0,0 +1,33 @@
+package dev.group2.landmark_be.global.query;
+
+// 현재 스레드(요청)에 묶인 QueryStats. 없으면 기록하지 않는다.
+public final class QueryStatsHolder {
+
+	private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+	private QueryStatsHolder() {
+	}
+
+	public static QueryStats start() {
+		QueryStats stats = new QueryStats();
+		CURRENT.set(stats);
+		return stats;
+	}
+
+	public static QueryStats current() {
+		return CURRENT.get();
+	}
+
+	// 다른 스레드에서 실행되는 하위 작업에 요청의 통계를 이어 붙일 때 사용
+	public static void attach(QueryStats stats) {
+		if(stats == null) {
+			CURRENT.remove();
+		} else {
+			CURRENT.set(stats);
+		}
+	}
+
+	public static void clear() {
+		CURRENT.remove();
+	}
+}
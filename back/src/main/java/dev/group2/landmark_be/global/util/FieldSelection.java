@@ -0,0 +1,76 @@
+package dev.group2.landmark_be.global.util;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+import dev.group2.landmark_be.global.exception.ErrorCode;
+import dev.group2.landmark_be.global.exception.InvalidRequestException;
+
+// fields= 파라미터 (콤마로 구분한 필드 이름 목록), 지정하지 않으면 전체 필드
+// 서비스는 includes() 로 어떤 쿼리 변형을 쓸지 고르고 (예: geomJson 이 없으면 도형 계산을 생략한 쿼리),
+// 컨트롤러는 apply() 로 @JsonFilter(FILTER_ID) 가 붙은 응답 타입에서 선택한 필드만 직렬화한다.
+public final class FieldSelection {
+
+	public static final String FILTER_ID = "fieldSelection";
+
+	private static final FieldSelection ALL = new FieldSelection(null);
+
+	private final Set<String> fields;
+
+	private FieldSelection(Set<String> fields) {
+		this.fields = fields;
+	}
+
+	public static FieldSelection all() {
+		return ALL;
+	}
+
+	// allowedFields: 응답 타입의 필드 이름, 그 외 이름이 오면 400
+	public static FieldSelection parse(String fields, Set<String> allowedFields) {
+		if(fields == null || fields.isBlank()) {
+			return ALL;
+		}
+		Set<String> selected = Arrays.stream(fields.split(","))
+			.map(String::trim)
+			.filter(field -> !field.isEmpty())
+			.collect(Collectors.toUnmodifiableSet());
+		if(selected.isEmpty() || !allowedFields.containsAll(selected)) {
+			throw new InvalidRequestException(ErrorCode.INVALID_FIELDS);
+		}
+		return new FieldSelection(selected);
+	}
+
+	// record 응답 타입의 컴포넌트 이름을 허용 필드로 사용
+	public static FieldSelection parse(String fields, Class<? extends Record> responseType) {
+		return parse(fields, Arrays.stream(responseType.getRecordComponents())
+			.map(component -> component.getName())
+			.collect(Collectors.toUnmodifiableSet()));
+	}
+
+	// 응답 본문에 필드 선택을 적용 (본문 안의 @JsonFilter(FILTER_ID) 타입에만 적용됨)
+	public MappingJacksonValue apply(Object body) {
+		MappingJacksonValue value = new MappingJacksonValue(body);
+		value.setFilters(new SimpleFilterProvider().addFilter(FILTER_ID, isAll()
+			? SimpleBeanPropertyFilter.serializeAll()
+			: SimpleBeanPropertyFilter.filterOutAllExcept(fields)));
+		return value;
+	}
+
+	public boolean includes(String field) {
+		return fields == null || fields.contains(field);
+	}
+
+	public boolean isAll() {
+		return fields == null;
+	}
+
+	public Set<String> fields() {
+		return fields;
+	}
+}
@@ -0,0 +1,188 @@
+package dev.group2.landmark_be.global.util;
+
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.MultiLineString;
+import org.locationtech.jts.geom.MultiPoint;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+
+// JTS 도형 -> GeoJSON geometry 문자열
+// GeoJSONWriter 처럼 좌표마다 double[] 과 중간 객체를 만들지 않고 CoordinateSequence 에서 바로 버퍼에 쓴다
+// 좌표는 소수점 precision 자리로 반올림하고 끝의 0 은 생략 (6자리 = 약 0.1m)
+public final class GeoJsonEncoder {
+
+	private static final int MAX_PRECISION = 9;
+	// 반올림한 값이 long/double 로 정확히 표현되는 범위, 넘으면 Double.toString 으로 쓴다
+	private static final double MAX_SCALED = (double) (1L << 53);
+	// 호출마다 좌표 수로 크기를 잡은 버퍼 하나에 쓴다 (가상 스레드에서는 스레드별 버퍼를 재사용할 수 없음)
+	// 좌표 하나당 대략 "[x,y]," 길이, 처음부터 너무 크게 잡지 않도록 상한을 둔다
+	private static final int POSITION_OVERHEAD = 8;
+	private static final int MAX_INITIAL_CAPACITY = 1 << 24;
+
+	private final int precision;
+	private final long scale;
+
+	public GeoJsonEncoder(int precision) {
+		if(precision < 0 || precision > MAX_PRECISION) {
+			throw new IllegalArgumentException("precision must be between 0 and " + MAX_PRECISION);
+		}
+		this.precision = precision;
+		this.scale = pow10(precision);
+	}
+
+	public String encode(Geometry geometry) {
+		StringBuilder buffer = new StringBuilder(initialCapacity(geometry));
+		encode(geometry, buffer);
+		return buffer.toString();
+	}
+
+	// 늘어나며 복사하는 일이 거의 없도록 좌표 수 x 좌표 하나의 최대 길이로 잡는다
+	private int initialCapacity(Geometry geometry) {
+		long perPosition = 2L * (precision + 5) + POSITION_OVERHEAD;
+		long estimate = geometry.getNumPoints() * perPosition + 64;
+		return (int) Math.min(estimate, MAX_INITIAL_CAPACITY);
+	}
+
+	public void encode(Geometry geometry, StringBuilder out) {
+		if(geometry instanceof Point point) {
+			out.append("{\"type\":\"Point\",\"coordinates\":");
+			if(point.isEmpty()) {
+				out.append("[]");
+			} else {
+				appendPosition(point.getCoordinateSequence(), 0, out);
+			}
+		} else if(geometry instanceof LineString line) {
+			out.append("{\"type\":\"LineString\",\"coordinates\":");
+			appendSequence(line.getCoordinateSequence(), out);
+		} else if(geometry instanceof Polygon polygon) {
+			out.append("{\"type\":\"Polygon\",\"coordinates\":");
+			appendPolygon(polygon, out);
+		} else if(geometry instanceof MultiPoint multiPoint) {
+			out.append("{\"type\":\"MultiPoint\",\"coordinates\":[");
+			for (int i = 0; i < multiPoint.getNumGeometries(); i++) {
+				if(i > 0) {
+					out.append(',');
+				}
+				appendPosition(((Point) multiPoint.getGeometryN(i)).getCoordinateSequence(), 0, out);
+			}
+			out.append(']');
+		} else if(geometry instanceof MultiLineString multiLine) {
+			out.append("{\"type\":\"MultiLineString\",\"coordinates\":[");
+			for (int i = 0; i < multiLine.getNumGeometries(); i++) {
+				if(i > 0) {
+					out.append(',');
+				}
+				appendSequence(((LineString) multiLine.getGeometryN(i)).getCoordinateSequence(), out);
+			}
+			out.append(']');
+		} else if(geometry instanceof MultiPolygon multiPolygon) {
+			out.append("{\"type\":\"MultiPolygon\",\"coordinates\":[");
+			for (int i = 0; i < multiPolygon.getNumGeometries(); i++) {
+				if(i > 0) {
+					out.append(',');
+				}
+				appendPolygon((Polygon) multiPolygon.getGeometryN(i), out);
+			}
+			out.append(']');
+		} else if(geometry instanceof GeometryCollection collection) {
+			out.append("{\"type\":\"GeometryCollection\",\"geometries\":[");
+			for (int i = 0; i < collection.getNumGeometries(); i++) {
+				if(i > 0) {
+					out.append(',');
+				}
+				encode(collection.getGeometryN(i), out);
+			}
+			out.append(']');
+		} else {
+			throw new IllegalArgumentException("unsupported geometry type: " + geometry.getGeometryType());
+		}
+		out.append('}');
+	}
+
+	private void appendPolygon(Polygon polygon, StringBuilder out) {
+		out.append('[');
+		if(!polygon.isEmpty()) {
+			appendSequence(polygon.getExteriorRing().getCoordinateSequence(), out);
+			for (int i = 0; i < polygon.getNumInteriorRing(); i++) {
+				out.append(',');
+				appendSequence(polygon.getInteriorRingN(i).getCoordinateSequence(), out);
+			}
+		}
+		out.append(']');
+	}
+
+	private void appendSequence(CoordinateSequence sequence, StringBuilder out) {
+		out.append('[');
+		for (int i = 0; i < sequence.size(); i++) {
+			if(i > 0) {
+				out.append(',');
+			}
+			appendPosition(sequence, i, out);
+		}
+		out.append(']');
+	}
+
+	private void appendPosition(CoordinateSequence sequence, int index, StringBuilder out) {
+		out.append('[');
+		appendNumber(sequence.getX(index), out);
+		out.append(',');
+		appendNumber(sequence.getY(index), out);
+		if(sequence.hasZ()) {
+			double z = sequence.getZ(index);
+			if(!Double.isNaN(z)) {
+				out.append(',');
+				appendNumber(z, out);
+			}
+		}
+		out.append(']');
+	}
+
+	// 고정 소수점으로 반올림해서 long 으로 쓴다 (Double.toString 과 BigDecimal 을 거치지 않음)
+	void appendNumber(double value, StringBuilder out) {
+		if(!Double.isFinite(value)) {
+			throw new IllegalArgumentException("coordinate must be finite: " + value);
+		}
+		double scaled = value * scale;
+		if(Math.abs(scaled) >= MAX_SCALED) {
+			out.append(value);
+			return;
+		}
+		long rounded = Math.round(scaled);
+		if(rounded == 0) {
+			out.append('0');
+			return;
+		}
+		if(rounded < 0) {
+			out.append('-');
+			rounded = -rounded;
+		}
+		out.append(rounded / scale);
+		long fraction = rounded % scale;
+		if(fraction == 0) {
+			return;
+		}
+		int digits = precision;
+		while (fraction % 10 == 0) {
+			fraction /= 10;
+			digits--;
+		}
+		out.append('.');
+		long limit = pow10(digits);
+		for (long bound = fraction * 10; bound < limit; bound *= 10) {
+			out.append('0');
+		}
+		out.append(fraction);
+	}
+
+	private static long pow10(int digits) {
+		long result = 1;
+		for (int i = 0; i < digits; i++) {
+			result *= 10;
+		}
+		return result;
+	}
+}
@@ -0,0 +1,40 @@
+package dev.group2.landmark_be.global.util;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.PrecisionModel;
+
+import dev.group2.landmark_be.global.exception.ErrorCode;
+import dev.group2.landmark_be.global.exception.InvalidRequestException;
+
+public final class GeometryUtils {
+
+	// DB의 geom 컬럼은 모두 WGS84(EPSG:4326)
+	public static final int WGS84_SRID = 4326;
+
+	private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory(new PrecisionModel(), WGS84_SRID);
+
+	private GeometryUtils() {
+	}
+
+	// "minLng,minLat,maxLng,maxLat" 형식의 bbox 문자열을 Polygon으로 변환
+	public static Polygon parseBbox(String bbox) {
+		String[] parts = bbox.split(",");
+		if(parts.length != 4) {
+			throw new InvalidRequestException(ErrorCode.INVALID_BBOX);
+		}
+		try {
+			double minLng = Double.parseDouble(parts[0].trim());
+			double minLat = Double.parseDouble(parts[1].trim());
+			double maxLng = Double.parseDouble(parts[2].trim());
+			double maxLat = Double.parseDouble(parts[3].trim());
+			if(minLng >= maxLng || minLat >= maxLat) {
+				throw new InvalidRequestException(ErrorCode.INVALID_BBOX);
+			}
+			return (Polygon) GEOMETRY_FACTORY.toGeometry(new Envelope(minLng, maxLng, minLat, maxLat));
+		} catch (NumberFormatException e) {
+			throw new InvalidRequestException(ErrorCode.INVALID_BBOX);
+		}
+	}
+}
@@ -0,0 +1,398 @@
+package dev.group2.landmark_be.global.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Polygon;
+
+// 폴리곤 피처 목록을 TopoJSON(https://github.com/topojson/topojson-specification)으로 변환
+// 1) 좌표를 quantization x quantization 격자로 먼저 양자화해서, 이웃 경계의 같은 점이 정확히 같은 값이 되게 하고
+// 2) 여러 링이 갈라지는 점(접합점)에서 링을 잘라 공유 경계를 arc 하나로 만든 뒤
+// 3) arc 단위로 단순화(Douglas-Peucker, 양 끝점 고정)하므로 이웃한 두 폴리곤이 항상 같은 선을 공유한다(틈/겹침 없음).
+// 좌표는 격자 정수로 델타 인코딩한다.
+public final class TopoJsonEncoder {
+
+	private final long quantization;
+	private final double tolerance;		// 단순화 허용 오차 (입력 좌표 단위, 0 이면 단순화하지 않음)
+
+	public TopoJsonEncoder(long quantization, double tolerance) {
+		if(quantization < 2 || quantization > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("quantization must be between 2 and 2^31 - 1");
+		}
+		this.quantization = quantization;
+		this.tolerance = tolerance;
+	}
+
+	// polygons: 폴리곤 -> 링(첫 번째가 외곽) -> 좌표를 x, y 순서로 이어 붙인 배열 [x0, y0, x1, y1, ...]
+	public record Feature(List<List<double[]>> polygons, Object properties) {
+	}
+
+	public record Topology(String type, Transform transform, Map<String, GeometryCollection> objects, List<int[][]> arcs) {
+	}
+
+	public record Transform(double[] scale, double[] translate) {
+	}
+
+	public record GeometryCollection(String type, List<TopoGeometry> geometries) {
+	}
+
+	// arcs: 폴리곤 -> 링 -> arc 번호 (음수 ~i 는 i 번 arc 를 거꾸로)
+	public record TopoGeometry(String type, int[][][] arcs, Object properties) {
+	}
+
+	// JTS (Multi)Polygon 을 Feature 좌표 구조로 변환
+	public static List<List<double[]>> polygonsOf(Geometry geometry) {
+		List<List<double[]>> polygons = new ArrayList<>();
+		for (int i = 0; i < geometry.getNumGeometries(); i++) {
+			if(!(geometry.getGeometryN(i) instanceof Polygon polygon) || polygon.isEmpty()) {
+				continue;
+			}
+			List<double[]> rings = new ArrayList<>();
+			rings.add(coordinatesOf(polygon.getExteriorRing()));
+			for (int h = 0; h < polygon.getNumInteriorRing(); h++) {
+				rings.add(coordinatesOf(polygon.getInteriorRingN(h)));
+			}
+			polygons.add(rings);
+		}
+		return polygons;
+	}
+
+	// 원본 해상도 경계는 꼭짓점이 수만 개이므로 Coordinate 복사본이나 점마다 배열을 만들지 않고 시퀀스에서 바로 읽는다
+	private static double[] coordinatesOf(LinearRing ring) {
+		CoordinateSequence sequence = ring.getCoordinateSequence();
+		double[] points = new double[sequence.size() * 2];
+		for (int i = 0; i < sequence.size(); i++) {
+			points[2 * i] = sequence.getX(i);
+			points[2 * i + 1] = sequence.getY(i);
+		}
+		return points;
+	}
+
+	public Topology encode(String objectName, List<Feature> features) {
+		double[] bounds = bounds(features);
+		double kx = bounds[2] > bounds[0] ? (bounds[2] - bounds[0]) / (quantization - 1) : 1;
+		double ky = bounds[3] > bounds[1] ? (bounds[3] - bounds[1]) / (quantization - 1) : 1;
+		Transform transform = new Transform(new double[] {kx, ky}, new double[] {bounds[0], bounds[1]});
+
+		// 피처 -> 폴리곤 -> 링 (양자화한 점 키, 닫는 점 제외)
+		List<List<List<long[]>>> quantized = new ArrayList<>();
+		for (Feature feature : features) {
+			List<List<long[]>> polygons = new ArrayList<>();
+			for (List<double[]> polygon : feature.polygons()) {
+				List<long[]> rings = new ArrayList<>();
+				for (double[] ring : polygon) {
+					long[] points = quantizeRing(ring, bounds[0], bounds[1], kx, ky);
+					if(points.length >= 3) {
+						rings.add(points);
+					} else if(rings.isEmpty()) {
+						break;	// 외곽이 점/선으로 줄어든 폴리곤은 버린다
+					}
+				}
+				if(!rings.isEmpty()) {
+					polygons.add(rings);
+				}
+			}
+			quantized.add(polygons);
+		}
+
+		Set<Long> junctions = findJunctions(quantized);
+		ArcTable arcTable = new ArcTable();
+		List<TopoGeometry> geometries = new ArrayList<>();
+		for (int f = 0; f < features.size(); f++) {
+			List<int[][]> polygons = new ArrayList<>();
+			for (List<long[]> polygon : quantized.get(f)) {
+				int[][] rings = new int[polygon.size()][];
+				for (int r = 0; r < rings.length; r++) {
+					rings[r] = cutRing(polygon.get(r), junctions, arcTable);
+				}
+				polygons.add(rings);
+			}
+			geometries.add(new TopoGeometry("MultiPolygon", polygons.toArray(int[][][]::new), features.get(f).properties()));
+		}
+
+		List<int[][]> arcs = new ArrayList<>(arcTable.arcs.size());
+		for (long[] arc : arcTable.arcs) {
+			arcs.add(deltaEncode(simplify(arc, kx, ky)));
+		}
+		return new Topology("Topology", transform,
+			Map.of(objectName, new GeometryCollection("GeometryCollection", geometries)), arcs);
+	}
+
+	private static double[] bounds(List<Feature> features) {
+		double[] bounds = {Double.MAX_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE, -Double.MAX_VALUE};
+		for (Feature feature : features) {
+			for (List<double[]> polygon : feature.polygons()) {
+				for (double[] ring : polygon) {
+					for (int i = 0; i < ring.length; i += 2) {
+						bounds[0] = Math.min(bounds[0], ring[i]);
+						bounds[1] = Math.min(bounds[1], ring[i + 1]);
+						bounds[2] = Math.max(bounds[2], ring[i]);
+						bounds[3] = Math.max(bounds[3], ring[i + 1]);
+					}
+				}
+			}
+		}
+		return bounds[0] > bounds[2] ? new double[] {0, 0, 0, 0} : bounds;
+	}
+
+	// 격자 좌표 (x, y)를 long 하나로 묶고, 연속 중복점과 닫는 점을 제거
+	private static long[] quantizeRing(double[] ring, double x0, double y0, double kx, double ky) {
+		long[] points = new long[ring.length / 2];
+		int size = 0;
+		for (int i = 0; i < ring.length; i += 2) {
+			long key = key(Math.round((ring[i] - x0) / kx), Math.round((ring[i + 1] - y0) / ky));
+			if(size == 0 || points[size - 1] != key) {
+				points[size++] = key;
+			}
+		}
+		while (size > 1 && points[size - 1] == points[0]) {
+			size--;
+		}
+		return Arrays.copyOf(points, size);
+	}
+
+	// 링마다 (이전 점, 다음 점) 쌍이 다르게 지나가는 점 = 경계가 갈라지는 접합점
+	private static Set<Long> findJunctions(List<List<List<long[]>>> features) {
+		Map<Long, long[]> neighbors = new HashMap<>();
+		Set<Long> junctions = new HashSet<>();
+		for (List<List<long[]>> polygons : features) {
+			for (List<long[]> rings : polygons) {
+				for (long[] ring : rings) {
+					int n = ring.length;
+					for (int i = 0; i < n; i++) {
+						long previous = ring[(i + n - 1) % n];
+						long next = ring[(i + 1) % n];
+						long[] pair = previous < next ? new long[] {previous, next} : new long[] {next, previous};
+						long[] seen = neighbors.putIfAbsent(ring[i], pair);
+						if(seen != null && (seen[0] != pair[0] || seen[1] != pair[1])) {
+							junctions.add(ring[i]);
+						}
+					}
+				}
+			}
+		}
+		return junctions;
+	}
+
+	// 링을 접합점에서 잘라 arc 번호 목록으로 바꾼다. 접합점이 없는 링(섬, 이웃과 통째로 같은 링)은 닫힌 arc 하나.
+	private static int[] cutRing(long[] ring, Set<Long> junctions, ArcTable arcTable) {
+		int n = ring.length;
+		int start = -1;
+		for (int i = 0; i < n; i++) {
+			if(junctions.contains(ring[i])) {
+				start = i;
+				break;
+			}
+		}
+		if(start < 0) {
+			return new int[] {arcTable.addClosed(ring)};
+		}
+
+		List<Integer> refs = new ArrayList<>();
+		int from = start;
+		for (int step = 1; step <= n; step++) {
+			int i = (start + step) % n;
+			if(step == n || junctions.contains(ring[i])) {
+				int length = step - (from - start + n) % n + 1;
+				long[] arc = new long[length];
+				for (int k = 0; k < length; k++) {
+					arc[k] = ring[(from + k) % n];
+				}
+				refs.add(arcTable.addOpen(arc));
+				from = i;
+			}
+		}
+		return refs.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	// arc 양 끝점은 고정하고 Douglas-Peucker (거리는 입력 좌표 단위), 닫힌 arc 는 가장 먼 점에서 나눠서 처리
+	private long[] simplify(long[] arc, double kx, double ky) {
+		if(tolerance <= 0 || arc.length <= 2) {
+			return arc;
+		}
+		boolean[] keep = new boolean[arc.length];
+		keep[0] = true;
+		keep[arc.length - 1] = true;
+		double toleranceSquared = tolerance * tolerance;
+		if(arc[0] == arc[arc.length - 1]) {
+			int far = 1;
+			double farthest = -1;
+			for (int i = 1; i < arc.length - 1; i++) {
+				double dx = (x(arc[i]) - x(arc[0])) * kx;
+				double dy = (y(arc[i]) - y(arc[0])) * ky;
+				if(dx * dx + dy * dy > farthest) {
+					farthest = dx * dx + dy * dy;
+					far = i;
+				}
+			}
+			keep[far] = true;
+			douglasPeucker(arc, 0, far, kx, ky, toleranceSquared, keep);
+			douglasPeucker(arc, far, arc.length - 1, kx, ky, toleranceSquared, keep);
+		} else {
+			douglasPeucker(arc, 0, arc.length - 1, kx, ky, toleranceSquared, keep);
+		}
+
+		int kept = 0;
+		for (boolean k : keep) {
+			kept += k ? 1 : 0;
+		}
+		// 닫힌 arc 가 삼각형 미만으로 줄면 링이 성립하지 않으므로 원래 점을 유지
+		if(arc[0] == arc[arc.length - 1] && kept < 4) {
+			return arc;
+		}
+		long[] simplified = new long[kept];
+		for (int i = 0, j = 0; i < arc.length; i++) {
+			if(keep[i]) {
+				simplified[j++] = arc[i];
+			}
+		}
+		return simplified;
+	}
+
+	private static void douglasPeucker(long[] arc, int first, int last, double kx, double ky, double toleranceSquared,
+		boolean[] keep) {
+		if(last - first < 2) {
+			return;
+		}
+		double ax = x(arc[first]) * kx;
+		double ay = y(arc[first]) * ky;
+		double bx = x(arc[last]) * kx;
+		double by = y(arc[last]) * ky;
+		int index = -1;
+		double max = toleranceSquared;
+		for (int i = first + 1; i < last; i++) {
+			double distance = segmentDistanceSquared(x(arc[i]) * kx, y(arc[i]) * ky, ax, ay, bx, by);
+			if(distance > max) {
+				max = distance;
+				index = i;
+			}
+		}
+		if(index < 0) {
+			return;
+		}
+		keep[index] = true;
+		douglasPeucker(arc, first, index, kx, ky, toleranceSquared, keep);
+		douglasPeucker(arc, index, last, kx, ky, toleranceSquared, keep);
+	}
+
+	private static double segmentDistanceSquared(double px, double py, double ax, double ay, double bx, double by) {
+		double dx = bx - ax;
+		double dy = by - ay;
+		double lengthSquared = dx * dx + dy * dy;
+		double t = lengthSquared == 0 ? 0 : Math.max(0, Math.min(1, ((px - ax) * dx + (py - ay) * dy) / lengthSquared));
+		double ex = px - (ax + t * dx);
+		double ey = py - (ay + t * dy);
+		return ex * ex + ey * ey;
+	}
+
+	// 첫 점은 격자 좌표 그대로, 이후는 직전 점과의 차이
+	private static int[][] deltaEncode(long[] arc) {
+		int[][] encoded = new int[arc.length][];
+		long previousX = 0;
+		long previousY = 0;
+		for (int i = 0; i < arc.length; i++) {
+			long px = x(arc[i]);
+			long py = y(arc[i]);
+			encoded[i] = new int[] {(int) (px - previousX), (int) (py - previousY)};
+			previousX = px;
+			previousY = py;
+		}
+		return encoded;
+	}
+
+	private static long key(long x, long y) {
+		return (x << 32) | y;
+	}
+
+	private static long x(long key) {
+		return key >>> 32;
+	}
+
+	private static long y(long key) {
+		return key & 0xffffffffL;
+	}
+
+	// 같은 arc(정방향/역방향)는 한 번만 저장
+	private static final class ArcTable {
+
+		private final List<long[]> arcs = new ArrayList<>();
+		private final Map<ArcKey, Integer> index = new HashMap<>();
+
+		int addOpen(long[] arc) {
+			Integer forward = index.get(new ArcKey(arc));
+			if(forward != null) {
+				return forward;
+			}
+			long[] reversed = reverse(arc);
+			Integer backward = index.get(new ArcKey(reversed));
+			if(backward != null) {
+				return ~backward;
+			}
+			return add(arc);
+		}
+
+		// 닫힌 링은 시작점이 어디든 같은 링이므로 가장 작은 점에서 시작하도록 돌려서 비교
+		int addClosed(long[] ring) {
+			long[] forward = closedFromMin(ring);
+			Integer existing = index.get(new ArcKey(forward));
+			if(existing != null) {
+				return existing;
+			}
+			Integer backward = index.get(new ArcKey(closedFromMin(reverse(ring))));
+			if(backward != null) {
+				return ~backward;
+			}
+			return add(forward);
+		}
+
+		private int add(long[] arc) {
+			int id = arcs.size();
+			arcs.add(arc);
+			index.put(new ArcKey(arc), id);
+			return id;
+		}
+
+		private static long[] closedFromMin(long[] ring) {
+			int min = 0;
+			for (int i = 1; i < ring.length; i++) {
+				if(ring[i] < ring[min]) {
+					min = i;
+				}
+			}
+			long[] closed = new long[ring.length + 1];
+			for (int i = 0; i <= ring.length; i++) {
+				closed[i] = ring[(min + i) % ring.length];
+			}
+			return closed;
+		}
+
+		private static long[] reverse(long[] arc) {
+			long[] reversed = new long[arc.length];
+			for (int i = 0; i < arc.length; i++) {
+				reversed[i] = arc[arc.length - 1 - i];
+			}
+			return reversed;
+		}
+	}
+
+	private record ArcKey(long[] points) {
+
+		@Override
+		public boolean equals(Object other) {
+			return other instanceof ArcKey key && Arrays.equals(points, key.points);
+		}
+
+		@Override
+		public int hashCode() {
+			return Arrays.hashCode(points);
+		}
+	}
+}
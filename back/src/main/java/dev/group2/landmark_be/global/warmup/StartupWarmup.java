@@ -0,0 +1,169 @@
+package dev.group2.landmark_be.global.warmup;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import dev.group2.landmark_be.global.dto.ApiResponse;
+import dev.group2.landmark_be.global.exception.BaseException;
+import dev.group2.landmark_be.map.dto.response.LandmarkResponse;
+import dev.group2.landmark_be.map.repository.LandmarkRasterRepository;
+import dev.group2.landmark_be.map.service.AdmBoundaryService;
+import dev.group2.landmark_be.map.service.LandmarkClusterService;
+import dev.group2.landmark_be.map.service.LandmarkRasterService;
+import dev.group2.landmark_be.map.service.LandmarkService;
+import dev.group2.landmark_be.map.service.RiskService;
+import dev.group2.landmark_be.popularity.dto.response.PopularLandmarkResponse;
+import dev.group2.landmark_be.popularity.service.PopularityService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 배포 직후 첫 사용자가 차가운 Hibernate/JIT/Jackson 비용을 치르지 않도록 대표 조회를 미리 실행
+// ApplicationReadyEvent 리스너가 끝난 뒤에 readiness 가 ACCEPTING_TRAFFIC 으로 바뀌므로,
+// 여기서 완료(또는 타임아웃)까지 기다리면 /actuator/health/readiness 가 그때까지 열리지 않는다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@EnableConfigurationProperties(WarmupProperties.class)
+public class StartupWarmup {
+
+	// 작업별 소요 시간 (tag: task, outcome), 전체 소요 시간 (tag: outcome)
+	private static final String TASK_TIMER = "startup.warmup.task";
+	private static final String TOTAL_TIMER = "startup.warmup";
+
+	private final WarmupProperties properties;
+	private final AdmBoundaryService admBoundaryService;
+	private final LandmarkService landmarkService;
+	private final LandmarkRasterService rasterService;
+	private final RiskService riskService;
+	private final LandmarkClusterService landmarkClusterService;
+	private final LandmarkRasterRepository rasterRepository;
+	private final PopularityService popularityService;
+	private final ObjectMapper objectMapper;
+	private final MeterRegistry meterRegistry;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		if(!properties.enabled() || properties.tasks().isEmpty()) {
+			return;
+		}
+		ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "startup-warmup");
+			thread.setDaemon(true);
+			return thread;
+		});
+		Timer.Sample sample = Timer.start(meterRegistry);
+		String outcome = "completed";
+		try {
+			Future<?> future = executor.submit(() -> properties.tasks().forEach(this::run));
+			future.get(properties.timeoutMillis(), TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			outcome = "timeout";
+			log.warn("워밍업이 {}ms 안에 끝나지 않아 중단하고 트래픽을 받습니다.", properties.timeoutMillis());
+		} catch (InterruptedException e) {
+			outcome = "interrupted";
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			outcome = "failure";
+			log.warn("워밍업 실패", e.getCause());
+		} finally {
+			executor.shutdownNow();
+			long nanos = sample.stop(meterRegistry.timer(TOTAL_TIMER, "outcome", outcome));
+			log.info("워밍업 {} ({}ms)", outcome, TimeUnit.NANOSECONDS.toMillis(nanos));
+		}
+	}
+
+	// 작업 하나가 실패해도 나머지는 계속 진행
+	private void run(WarmupTask task) {
+		if(Thread.currentThread().isInterrupted()) {
+			return;
+		}
+		Timer.Sample sample = Timer.start(meterRegistry);
+		String outcome = "success";
+		try {
+			switch (task) {
+				case BOUNDARIES -> serialize(admBoundaryService.getAllSidoBoundaries());
+				case LANDMARKS -> warmUpLandmarks();
+				case RISK -> warmUpRisk();
+				case CLUSTERS -> serialize(landmarkClusterService.getClusters(7, null, true));
+				case POPULAR -> warmUpPopular();
+			}
+		} catch (RuntimeException | JsonProcessingException e) {
+			outcome = "failure";
+			log.warn("워밍업 작업 {} 실패: {}", task, e.getMessage());
+		} finally {
+			sample.stop(meterRegistry.timer(TASK_TIMER, "task", task.name().toLowerCase(), "outcome", outcome));
+		}
+	}
+
+	private void warmUpLandmarks() throws JsonProcessingException {
+		List<LandmarkResponse> landmarks = landmarkService.findAllLandmarks();
+		serialize(landmarks);
+		if(!landmarks.isEmpty()) {
+			LandmarkResponse first = landmarks.get(0);
+			serialize(landmarkService.getLandmarkById(first.id()));
+			serialize(landmarkService.getLandmarksByAdmCode(first.admCode()));
+		}
+	}
+
+	// 최신 연/월 기준으로 표본 랜드마크의 래스터(도형 포함)와 위험도를 조회
+	private void warmUpRisk() throws JsonProcessingException {
+		Integer latest = rasterRepository.findLatestYearMonth().orElse(null);
+		if(latest == null) {
+			return;
+		}
+		int year = latest / 100;
+		int month = latest % 100;
+		List<LandmarkResponse> samples = landmarkService.findAllLandmarks().stream()
+			.limit(properties.landmarkSamples())
+			.toList();
+		for (LandmarkResponse landmark : samples) {
+			if(Thread.currentThread().isInterrupted()) {
+				return;
+			}
+			serialize(rasterService.getRastersByLandmarkIdAndMonth(landmark.id(), year, month));
+			try {
+				serialize(riskService.getRiskScoreByMonth(landmark.id(), year, month));
+			} catch (BaseException e) {
+				// 해당 월 지수가 없는 랜드마크는 건너뜀
+			}
+		}
+	}
+
+	// 최근 많이 조회된 랜드마크-월부터 (hot set 이므로 위험도는 캐시에 들어간다)
+	private void warmUpPopular() throws JsonProcessingException {
+		List<PopularLandmarkResponse> popular = popularityService.refreshHotSet().stream()
+			.limit(properties.landmarkSamples())
+			.toList();
+		for (PopularLandmarkResponse item : popular) {
+			if(Thread.currentThread().isInterrupted()) {
+				return;
+			}
+			serialize(rasterService.getRastersByLandmarkIdAndMonth(item.landmarkId(), item.year(), item.month()));
+			try {
+				serialize(riskService.getRiskScoreByMonth(item.landmarkId(), item.year(), item.month()));
+			} catch (BaseException e) {
+				// 해당 월 지수가 없으면 건너뜀
+			}
+		}
+	}
+
+	// 실제 응답과 같은 형태(ApiResponse)로 직렬화해서 Jackson 직렬화기도 준비
+	private void serialize(Object data) throws JsonProcessingException {
+		objectMapper.writeValueAsBytes(ApiResponse.success(data));
+	}
+}
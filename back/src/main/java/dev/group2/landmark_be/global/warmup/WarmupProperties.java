@@ -0,0 +1,16 @@
+package dev.group2.landmark_be.global.warmup;
+
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// app.warmup.* (application.yaml 참고)
+@ConfigurationProperties(prefix = "app.warmup")
+public record WarmupProperties(
+	@DefaultValue("true") boolean enabled,
+	@DefaultValue("30000") long timeoutMillis,		// 넘기면 남은 작업을 중단하고 readiness 를 연다
+	@DefaultValue({"BOUNDARIES", "LANDMARKS", "RISK", "CLUSTERS", "POPULAR"}) List<WarmupTask> tasks,
+	@DefaultValue("20") int landmarkSamples			// RISK: 최신 연/월로 래스터/위험도를 조회할 랜드마크 수, POPULAR: 인기 랜드마크-월 수
+) {
+}
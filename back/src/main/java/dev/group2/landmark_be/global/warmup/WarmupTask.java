@@ -0,0 +1,10 @@
+package dev.group2.landmark_be.global.warmup;
+
+// 기동 직후 미리 실행할 대표 조회 (Hibernate 쿼리 계획, JIT, Jackson 직렬화기 준비)
+public enum WarmupTask {
+	BOUNDARIES,		// 시도 경계 목록 (첫 화면)
+	LANDMARKS,		// 랜드마크 목록, 시도별 랜드마크
+	RISK,			// 최신 연/월의 래스터 통계와 위험도
+	CLUSTERS,		// 랜드마크 군집 색인 생성
+	POPULAR			// 인기 목록(hot set) 갱신 후 인기 랜드마크-월의 래스터/위험도 (위험도 캐시 채움)
+}
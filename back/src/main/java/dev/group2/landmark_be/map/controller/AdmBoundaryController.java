@@ -3,26 +3,124 @@ package dev.group2.landmark_be.map.controller;
 import java.util.List;
 
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import dev.group2.landmark_be.global.dto.ApiResponse;
+import dev.group2.landmark_be.global.exception.ErrorCode;
+import dev.group2.landmark_be.global.exception.InvalidRequestException;
+import dev.group2.landmark_be.global.util.GeometryUtils;
+import dev.group2.landmark_be.global.util.TopoJsonEncoder;
 import dev.group2.landmark_be.map.dto.response.AdmBoundaryResponse;
+import dev.group2.landmark_be.map.dto.response.AdmBoundaryStatResponse;
+import dev.group2.landmark_be.map.dto.response.AdmRollupResponse;
+import dev.group2.landmark_be.map.service.AdmBoundaryHierarchyService;
 import dev.group2.landmark_be.map.service.AdmBoundaryService;
+import dev.group2.landmark_be.map.service.AdmBoundaryStatsService;
+import dev.group2.landmark_be.map.service.BoundaryMetric;
+import dev.group2.landmark_be.map.service.BoundaryTopologyService;
+import dev.group2.landmark_be.map.service.RasterRollupService;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
 @RequestMapping("/api")
 @RestController
+@Validated
 public class AdmBoundaryController {
 
 	private final AdmBoundaryService admBoundaryService;
+	private final AdmBoundaryStatsService admBoundaryStatsService;
+	private final RasterRollupService rasterRollupService;
+	private final BoundaryTopologyService boundaryTopologyService;
+	private final AdmBoundaryHierarchyService admBoundaryHierarchyService;
 
 	// 첫 화면에서 표시할 모든 시도 레벨의 행정 경계 목록 조회
+	// metric(+year, month)을 주면 시도별 집계를 stats 로 합쳐서 내려준다 (단계구분도 한 번에 로딩)
 	@GetMapping("/boundaries")
-	public ApiResponse<List<AdmBoundaryResponse>> getAllAdmBoundaries() {
-		List<AdmBoundaryResponse> responseList = admBoundaryService.getAllSidoBoundaries();
+	public ApiResponse<List<AdmBoundaryResponse>> getAllAdmBoundaries(
+		@RequestParam(required = false) @Min(2000) @Max(2100) Integer year,
+		@RequestParam(required = false) @Min(1) @Max(12) Integer month,
+		@RequestParam(required = false) String metric
+	) {
+		if(metric == null) {
+			return ApiResponse.success(admBoundaryService.getAllSidoBoundaries());
+		}
+		if(year == null || month == null) {
+			throw new InvalidRequestException(ErrorCode.INVALID_METRIC);
+		}
+		List<AdmBoundaryResponse> responseList = admBoundaryService.getAllSidoBoundariesWithStats(
+			year, month, BoundaryMetric.parse(metric));
 		return ApiResponse.success(responseList);
 	}
+
+	// 같은 시도 경계를 TopoJSON 으로 (공유 경계선 + 정수 좌표), 클라이언트에서 topojson-client 로 풀어 쓴다
+	@GetMapping(value = "/boundaries", params = {"format=topojson", "!level"})
+	public ApiResponse<TopoJsonEncoder.Topology> getAdmBoundaryTopology() {
+		return ApiResponse.success(boundaryTopologyService.getSidoTopology());
+	}
+
+	// level 과 format 을 함께 주면 어느 응답인지 모호하므로 거절 (둘 중 하나만 매핑되도록 위아래 params 에서 서로 제외)
+	@GetMapping(value = "/boundaries", params = {"level", "format"})
+	public ApiResponse<Void> rejectAmbiguousBoundaryQuery() {
+		throw new InvalidRequestException(ErrorCode.INVALID_BOUNDARY_QUERY);
+	}
+
+	// 한 단계(1 시도, 2 시군구, 3 읍면동)에서 화면 영역과 겹치는 경계만 (bbox: minLng,minLat,maxLng,maxLat)
+	@GetMapping(value = "/boundaries", params = {"level", "!format"})
+	public ApiResponse<List<AdmBoundaryResponse>> getAdmBoundariesInView(
+		@RequestParam @Min(1) @Max(3) Short level,
+		@RequestParam @NotBlank String bbox
+	) {
+		List<AdmBoundaryResponse> boundaries = admBoundaryHierarchyService.getBoundariesInView(
+			level, GeometryUtils.parseBbox(bbox));
+		return ApiResponse.success(boundaries);
+	}
+
+	// 행정구역 하나의 원본 해상도 경계 (단순화하지 않음, 상세 뷰용)
+	@GetMapping("/boundaries/{admCode}")
+	public ApiResponse<AdmBoundaryResponse> getAdmBoundary(@PathVariable String admCode) {
+		return ApiResponse.success(admBoundaryService.getBoundary(admCode));
+	}
+
+	// 드릴다운: 선택한 행정구역의 바로 아래 단계 경계, bbox 를 주면 화면 안의 것만
+	@GetMapping("/boundaries/{admCode}/children")
+	public ApiResponse<List<AdmBoundaryResponse>> getAdmBoundaryChildren(
+		@PathVariable String admCode,
+		@RequestParam(required = false) String bbox
+	) {
+		List<AdmBoundaryResponse> children = admBoundaryHierarchyService.getChildren(
+			admCode, bbox != null ? GeometryUtils.parseBbox(bbox) : null);
+		return ApiResponse.success(children);
+	}
+
+	// 시도별 평균 NDVI, NDMI, 위험도 (metric: ndvi | ndmi | risk)
+	@GetMapping("/boundaries/stats")
+	public ApiResponse<List<AdmBoundaryStatResponse>> getBoundaryStats(
+		@RequestParam @NotNull @Min(2000) @Max(2100) Integer year,
+		@RequestParam @NotNull @Min(1) @Max(12) Integer month,
+		@RequestParam(defaultValue = "risk") String metric
+	) {
+		List<AdmBoundaryStatResponse> stats = admBoundaryStatsService.getStats(year, month, BoundaryMetric.parse(metric));
+		return ApiResponse.success(stats);
+	}
+
+	// 행정구역 월별 롤업 (소속 랜드마크 전체의 지수 집계), indexType 생략 시 NDVI, NDMI 모두
+	@GetMapping("/boundaries/{admCode}/rollups")
+	public ApiResponse<List<AdmRollupResponse>> getAdmRollups(
+		@PathVariable String admCode,
+		@RequestParam @NotNull @Min(2000) Integer fromYear,
+		@RequestParam @NotNull @Min(2000) Integer toYear,
+		@RequestParam(required = false) String indexType
+	) {
+		List<AdmRollupResponse> rollups = rasterRollupService.getAdmRollups(admCode, fromYear, toYear, indexType);
+		return ApiResponse.success(rollups);
+	}
 }
@@ -1,17 +1,30 @@
 package dev.group2.landmark_be.map.controller;
+import dev.group2.landmark_be.auth.entity.User;
 import dev.group2.landmark_be.global.dto.ApiResponse;
+import dev.group2.landmark_be.global.util.FieldSelection;
+import dev.group2.landmark_be.global.util.GeometryUtils;
+import dev.group2.landmark_be.map.dto.response.LandmarkClusterResponse;
+import dev.group2.landmark_be.map.dto.response.LandmarkDetailResponse;
 import dev.group2.landmark_be.map.dto.response.LandmarkRasterResponse;
 import dev.group2.landmark_be.map.dto.response.LandmarkResponse;
+import dev.group2.landmark_be.map.dto.response.LandmarkRollupResponse;
 import dev.group2.landmark_be.map.dto.response.RiskResponse;
 import dev.group2.landmark_be.map.repository.LandmarkRepository;
+import dev.group2.landmark_be.map.service.LandmarkClusterService;
+import dev.group2.landmark_be.map.service.LandmarkDetailPart;
+import dev.group2.landmark_be.map.service.LandmarkDetailService;
 import dev.group2.landmark_be.map.service.LandmarkRasterService;
 import dev.group2.landmark_be.map.service.LandmarkService;
+import dev.group2.landmark_be.map.service.RasterRollupService;
+import dev.group2.landmark_be.map.service.RollupPeriod;
 import dev.group2.landmark_be.map.service.RiskService;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
@@ -27,17 +40,35 @@ public class LandmarkController {
 	private final LandmarkService landmarkService;
 	private final LandmarkRasterService rasterService;
 	private final RiskService riskService;
+	private final LandmarkDetailService landmarkDetailService;
+	private final RasterRollupService rasterRollupService;
+	private final LandmarkClusterService landmarkClusterService;
 
 	// 전체 랜드마크 조회
+	// fields: name,address,adm_code,geom 중 필요한 속성만 (지정하지 않으면 전체)
 	@GetMapping
-	public ApiResponse<Map<String, Object>> getAllLandmarks() {
+	public ApiResponse<Map<String, Object>> getAllLandmarks(@RequestParam(required = false) String fields) {
 		// 1. 서비스에서 GeoJSON(Map) 데이터를 받아옴
-		Map<String, Object> geoJsonData = landmarkService.getLandmarkWfsData();
+		Map<String, Object> geoJsonData = landmarkService.getLandmarkWfsData(
+			FieldSelection.parse(fields, LandmarkService.WFS_FIELDS));
 
 		// 2. ApiResponse.success()에 그대로 담아서 리턴
 		return ApiResponse.success(geoJsonData);
 	}
 
+	// 줌 단계별 랜드마크 군집 (전국 줌에서도 마커 수가 화면 크기에 비례하도록)
+	// bbox: minLng,minLat,maxLng,maxLat (생략 시 전체), withRisk: 군집 평균 위험도 포함
+	@GetMapping("/clusters")
+	public ApiResponse<LandmarkClusterResponse> getLandmarkClusters(
+		@RequestParam @NotNull @Min(0) @Max(22) Integer z,
+		@RequestParam(required = false) String bbox,
+		@RequestParam(defaultValue = "false") boolean withRisk
+	) {
+		LandmarkClusterResponse clusters = landmarkClusterService.getClusters(
+			z, bbox != null ? GeometryUtils.parseBbox(bbox) : null, withRisk);
+		return ApiResponse.success(clusters);
+	}
+
 	// 단일 랜드마크 조회
 	@GetMapping("/{landmarkId}")
 	public ApiResponse<LandmarkResponse> getLandmarkById(@PathVariable("landmarkId") Long id) {
@@ -53,14 +84,18 @@ public class LandmarkController {
 	}
 
 	// 랜드마크 id로 랜드마크 래스터 데이터 조회
+	// fields: LandmarkRasterResponse 필드 이름, 고른 필드만 응답하고 geomJson 이 없으면 도형을 계산하지 않는다
 	@GetMapping("/{landmarkId}/rasters")
-	public ApiResponse<List<LandmarkRasterResponse>> getRastersByLandmarkId(
+	public MappingJacksonValue getRastersByLandmarkId(
 		@PathVariable Long landmarkId,
 		@RequestParam @NotNull @Min(2000) Integer year,
-		@RequestParam @NotNull @Min(1) @Max(12) Integer month
+		@RequestParam @NotNull @Min(1) @Max(12) Integer month,
+		@RequestParam(required = false) String fields
 	) {
-		List<LandmarkRasterResponse> rasters = rasterService.getRastersByLandmarkIdAndMonth(landmarkId, year, month);
-		return ApiResponse.success(rasters);
+		FieldSelection selection = FieldSelection.parse(fields, LandmarkRasterResponse.class);
+		List<LandmarkRasterResponse> rasters = rasterService.getRastersByLandmarkIdAndMonth(
+			landmarkId, year, month, selection);
+		return selection.apply(ApiResponse.success(rasters));
 	}
 
 	@GetMapping("/{landmarkId}/risk")
@@ -73,5 +108,36 @@ public class LandmarkController {
 		return ApiResponse.success(risk);
 	}
 
+	// 랜드마크 선택 시 패널 데이터(기본 정보 + 래스터/위험도/메모)를 한 번에 조회
+	// rasterFields: 래스터 부분의 fields (/rasters 의 fields 와 동일)
+	@GetMapping("/{landmarkId}/detail")
+	public MappingJacksonValue getLandmarkDetail(
+		@PathVariable Long landmarkId,
+		@RequestParam @NotNull @Min(2000) Integer year,
+		@RequestParam @NotNull @Min(1) @Max(12) Integer month,
+		@RequestParam(defaultValue = "rasters,risk,notes") String include,
+		@RequestParam(required = false) String rasterFields,
+		@AuthenticationPrincipal User user
+	) {
+		FieldSelection selection = FieldSelection.parse(rasterFields, LandmarkRasterResponse.class);
+		LandmarkDetailResponse detail = landmarkDetailService.getLandmarkDetail(
+			landmarkId, year, month, LandmarkDetailPart.parse(include),
+			selection, user != null ? user.getId() : null);
+		return selection.apply(ApiResponse.success(detail));
+	}
+
+	// 장기 추세 차트용 분기/연간 롤업 (period: quarter | year, indexType 생략 시 NDVI, NDMI 모두)
+	@GetMapping("/{landmarkId}/rollups")
+	public ApiResponse<List<LandmarkRollupResponse>> getLandmarkRollups(
+		@PathVariable Long landmarkId,
+		@RequestParam(defaultValue = "quarter") String period,
+		@RequestParam @NotNull @Min(2000) Integer fromYear,
+		@RequestParam @NotNull @Min(2000) Integer toYear,
+		@RequestParam(required = false) String indexType
+	) {
+		List<LandmarkRollupResponse> rollups = rasterRollupService.getLandmarkRollups(
+			landmarkId, RollupPeriod.parse(period), fromYear, toYear, indexType);
+		return ApiResponse.success(rollups);
+	}
 
 }
@@ -0,0 +1,46 @@
+package dev.group2.landmark_be.map.controller;
+
+import java.util.List;
+
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import dev.group2.landmark_be.global.dto.ApiResponse;
+import dev.group2.landmark_be.map.dto.response.RasterChangeResponse;
+import dev.group2.landmark_be.map.service.ChangeDirection;
+import dev.group2.landmark_be.map.service.RasterChangeService;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@RequestMapping("/api/rasters")
+@RestController
+@Validated
+public class RasterController {
+
+	private final RasterChangeService rasterChangeService;
+
+	// 월간 변화 상위 k 개 랜드마크 (예: 지난달보다 NDVI 가 가장 많이 줄어든 곳)
+	// direction: decrease | increase | any, admCode: 시도 한정, minDelta/minSigma: 의미 있는 변화만 (val_stddev 기준)
+	@GetMapping("/changes")
+	public ApiResponse<List<RasterChangeResponse>> getRasterChanges(
+		@RequestParam(defaultValue = "NDVI") String index,
+		@RequestParam @NotBlank String from,
+		@RequestParam @NotBlank String to,
+		@RequestParam(defaultValue = "20") @Min(1) @Max(500) Integer k,
+		@RequestParam(defaultValue = "decrease") String direction,
+		@RequestParam(required = false) String admCode,
+		@RequestParam(defaultValue = "0") @DecimalMin("0") Double minDelta,
+		@RequestParam(required = false) @DecimalMin("0") Double minSigma
+	) {
+		List<RasterChangeResponse> changes = rasterChangeService.getTopChanges(
+			index, from, to, k, ChangeDirection.parse(direction), admCode, minDelta, minSigma);
+		return ApiResponse.success(changes);
+	}
+}
@@ -0,0 +1,23 @@
+package dev.group2.landmark_be.map.dto.response;
+
+import org.locationtech.jts.geom.Envelope;
+
+// 하위 경계 캐시 항목: 단순화한 도형 + 원본 경계 상자 (화면 영역 필터용)
+public record AdmBoundaryExtentProjection(
+	String admCode,
+	String admName,
+	Short level,
+	String geomJson,
+	Double minLng,
+	Double minLat,
+	Double maxLng,
+	Double maxLat
+) {
+	public boolean intersects(Envelope viewport) {
+		return viewport.intersects(new Envelope(minLng, maxLng, minLat, maxLat));
+	}
+
+	public AdmBoundaryResponse toResponse() {
+		return new AdmBoundaryResponse(admCode, admName, geomJson, level);
+	}
+}
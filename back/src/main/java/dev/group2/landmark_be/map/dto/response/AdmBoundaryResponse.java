@@ -1,9 +1,23 @@
 package dev.group2.landmark_be.map.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import dev.group2.landmark_be.global.dto.RawJson;
+
+// geoJson: GeoJSON 도형을 문자열이 아닌 객체로 그대로 내려준다
+// stats: /api/boundaries 에 metric 을 함께 요청했을 때만 채워진다
 public record AdmBoundaryResponse(
 	String admCode,
 	String admName,
-	String geoJson,
-	Short level
+	RawJson geoJson,
+	Short level,
+	@JsonInclude(JsonInclude.Include.NON_NULL) AdmBoundaryStatResponse stats
 ) {
+	public AdmBoundaryResponse(String admCode, String admName, String geoJson, Short level) {
+		this(admCode, admName, RawJson.of(geoJson), level, null);
+	}
+
+	public AdmBoundaryResponse withStats(AdmBoundaryStatResponse stats) {
+		return new AdmBoundaryResponse(admCode, admName, geoJson, level, stats);
+	}
 }
@@ -0,0 +1,13 @@
+package dev.group2.landmark_be.map.dto.response;
+
+import java.math.BigDecimal;
+
+// 시도별 집계 (landmarkCount: 해당 연/월 값이 있는 랜드마크 수, value: 평균)
+public record AdmBoundaryStatResponse(
+	String admCode,
+	Long landmarkCount,
+	BigDecimal value,
+	BigDecimal minValue,
+	BigDecimal maxValue
+) {
+}
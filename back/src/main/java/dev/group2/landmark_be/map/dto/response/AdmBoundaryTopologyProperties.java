@@ -0,0 +1,9 @@
+package dev.group2.landmark_be.map.dto.response;
+
+// TopoJSON 도형마다 붙는 행정구역 정보
+public record AdmBoundaryTopologyProperties(
+	String admCode,
+	String admName,
+	Short level
+) {
+}
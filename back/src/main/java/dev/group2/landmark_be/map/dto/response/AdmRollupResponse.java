@@ -0,0 +1,17 @@
+package dev.group2.landmark_be.map.dto.response;
+
+import java.math.BigDecimal;
+
+// sampleCount: 집계된 랜드마크 수
+public record AdmRollupResponse(
+	String admCode,
+	String indexType,
+	Integer year,
+	Integer month,
+	Integer sampleCount,
+	BigDecimal valMean,
+	BigDecimal valMin,
+	BigDecimal valMax,
+	BigDecimal valStddev
+) {
+}
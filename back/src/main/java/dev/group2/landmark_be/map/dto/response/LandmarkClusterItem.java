@@ -0,0 +1,18 @@
+package dev.group2.landmark_be.map.dto.response;
+
+import java.math.BigDecimal;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+// count == 1 이면 개별 랜드마크(landmarkId), 아니면 군집 중심점
+// expansionZoom: 군집을 눌렀을 때 이동할 줌 (이 줌부터 나뉜다)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record LandmarkClusterItem(
+	Long landmarkId,
+	double lng,
+	double lat,
+	int count,
+	Integer expansionZoom,
+	BigDecimal avgRisk
+) {
+}
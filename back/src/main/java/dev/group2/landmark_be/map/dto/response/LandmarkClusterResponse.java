@@ -0,0 +1,12 @@
+package dev.group2.landmark_be.map.dto.response;
+
+import java.util.List;
+
+// riskYear, riskMonth: avgRisk 계산에 쓴 연/월 (가장 최근 래스터 기준)
+public record LandmarkClusterResponse(
+	int zoom,
+	Integer riskYear,
+	Integer riskMonth,
+	List<LandmarkClusterItem> clusters
+) {
+}
@@ -0,0 +1,17 @@
+package dev.group2.landmark_be.map.dto.response;
+
+import java.util.List;
+import java.util.Map;
+
+import dev.group2.landmark_be.global.dto.ApiError;
+import dev.group2.landmark_be.note.dto.response.NoteResponse;
+
+// 랜드마크 패널 한 번에 조회: include 하지 않았거나 실패한 부분은 null, 실패 사유는 errors[부분 이름]
+public record LandmarkDetailResponse(
+	LandmarkResponse landmark,
+	List<LandmarkRasterResponse> rasters,
+	RiskResponse risk,
+	List<NoteResponse> notes,
+	Map<String, ApiError> errors
+) {
+}
@@ -0,0 +1,12 @@
+package dev.group2.landmark_be.map.dto.response;
+
+import java.math.BigDecimal;
+
+// 군집 색인용 좌표 + 해당 월 위험도 (지수가 없으면 null)
+public record LandmarkPointProjection(
+	Long id,
+	Double lng,
+	Double lat,
+	BigDecimal risk
+) {
+}
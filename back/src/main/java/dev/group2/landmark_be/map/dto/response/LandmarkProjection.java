@@ -0,0 +1,14 @@
+package dev.group2.landmark_be.map.dto.response;
+
+import org.locationtech.jts.geom.Point;
+
+// 행정경계는 코드/이름만 조회 (경계 MultiPolygon 은 읽지 않음)
+public record LandmarkProjection(
+	Long id,
+	String name,
+	String address,
+	String admCode,
+	String admName,
+	Point geom
+) {
+}
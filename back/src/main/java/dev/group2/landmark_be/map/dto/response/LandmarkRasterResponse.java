@@ -4,6 +4,13 @@ import java.math.BigDecimal;
 
 import org.locationtech.jts.geom.Polygon;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+
+import dev.group2.landmark_be.global.dto.RawJson;
+import dev.group2.landmark_be.global.util.FieldSelection;
+
+// fields= 로 고른 필드만 직렬화 (FieldSelection.apply), 고르지 않은 필드는 키째 빠진다
+@JsonFilter(FieldSelection.FILTER_ID)
 public record LandmarkRasterResponse(
 	Long id,
 	Long landmarkId,
@@ -18,7 +25,7 @@ public record LandmarkRasterResponse(
 	BigDecimal valMax,
 	BigDecimal valStddev,
 
-	// 3키로 버퍼 영역의 polygon
-	String geomJson
+	// 3키로 버퍼 영역의 polygon, 도형이 없으면 null (fields 로 제외하면 키째 빠짐)
+	RawJson geomJson
 ) {
 }
@@ -1,12 +1,14 @@
 package dev.group2.landmark_be.map.dto.response;
 
+import dev.group2.landmark_be.global.dto.RawJson;
+
 public record LandmarkResponse(
 	Long id,
 	String name,
 	String address,
 	String admCode,
 	String admName,
-	String geomJson,
+	RawJson geomJson,
 	double latitude,	// 위도
 	double longitude	// 경도
 ) {
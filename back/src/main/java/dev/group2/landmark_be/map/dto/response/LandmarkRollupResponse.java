@@ -0,0 +1,18 @@
+package dev.group2.landmark_be.map.dto.response;
+
+import java.math.BigDecimal;
+
+// period: 분기 1~4, 연간(YEAR)은 0 / sampleCount: 집계된 월 수
+public record LandmarkRollupResponse(
+	Long landmarkId,
+	String indexType,
+	String periodType,
+	Integer year,
+	Integer period,
+	Integer sampleCount,
+	BigDecimal valMean,
+	BigDecimal valMin,
+	BigDecimal valMax,
+	BigDecimal valStddev
+) {
+}
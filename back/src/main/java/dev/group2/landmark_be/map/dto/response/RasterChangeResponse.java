@@ -0,0 +1,17 @@
+package dev.group2.landmark_be.map.dto.response;
+
+import java.math.BigDecimal;
+
+// delta: to 월 평균 - from 월 평균
+// effectSize: delta / 두 달 표준편차의 제곱평균근 (표준편차가 0 이면 null)
+public record RasterChangeResponse(
+	Long landmarkId,
+	String name,
+	String admCode,
+	String admName,
+	BigDecimal fromMean,
+	BigDecimal toMean,
+	BigDecimal delta,
+	BigDecimal effectSize
+) {
+}
@@ -29,6 +29,10 @@ public class AdmBoundary {
 	@Column(name = "level", nullable = false)
 	private Short level;
 
+	// 상위 행정구역 코드 (시도는 null)
+	@Column(name = "parent_code", length = 12)
+	private String parentCode;
+
 	@Column(name = "geom", nullable = false)
 	private MultiPolygon geom;
 }
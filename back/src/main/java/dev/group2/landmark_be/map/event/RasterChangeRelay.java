@@ -0,0 +1,38 @@
+package dev.group2.landmark_be.map.event;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import dev.group2.landmark_be.global.invalidation.TableChangedEvent;
+import lombok.RequiredArgsConstructor;
+
+// 래스터는 앱 밖(적재 스크립트)에서 들어오므로, landmark_raster 트리거 알림(키 = 랜드마크 id)을
+// RasterUpdatedEvent 로 바꿔 SSE 구독자에게 전달한다. 트리거 알림은 모든 노드가 받으므로 노드마다 자기 구독자에게 보낸다.
+@Component
+@RequiredArgsConstructor
+public class RasterChangeRelay {
+
+	static final String RASTER_TABLE = "landmark_raster";
+
+	private final ApplicationEventPublisher eventPublisher;
+
+	@EventListener
+	public void onTableChanged(TableChangedEvent event) {
+		if(!RASTER_TABLE.equals(event.table())) {
+			return;
+		}
+		// 알림에는 연/월이 없다, 키가 너무 많아 생략된 알림은 랜드마크도 모름 (구독 중인 모든 랜드마크)
+		if(event.keys() == null) {
+			eventPublisher.publishEvent(new RasterUpdatedEvent(null, null, null));
+			return;
+		}
+		for (String key : event.keys()) {
+			try {
+				eventPublisher.publishEvent(new RasterUpdatedEvent(Long.valueOf(key), null, null));
+			} catch (NumberFormatException e) {
+				// 키 형식이 다르면 무시
+			}
+		}
+	}
+}
@@ -0,0 +1,11 @@
+package dev.group2.landmark_be.map.event;
+
+// 특정 랜드마크의 연/월 래스터(NDVI, NDMI) 통계가 새로 적재되었음을 알리는 이벤트
+// 위험도는 래스터 통계로 계산되므로 이 이벤트가 곧 위험도 갱신 신호이다.
+// DB 트리거 알림에서 온 경우(RasterChangeRelay) 연/월은 null, 대량 적재로 랜드마크를 모르면 landmarkId 도 null
+public record RasterUpdatedEvent(
+	Long landmarkId,
+	Integer year,
+	Integer month
+) {
+}
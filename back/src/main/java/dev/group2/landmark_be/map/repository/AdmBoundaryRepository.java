@@ -10,7 +10,10 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import dev.group2.landmark_be.global.exception.BaseException;
+import dev.group2.landmark_be.map.dto.response.AdmBoundaryExtentProjection;
 import dev.group2.landmark_be.map.dto.response.AdmBoundarySimplifiedProjection;
+import dev.group2.landmark_be.map.dto.response.AdmBoundaryStatResponse;
+import dev.group2.landmark_be.map.dto.response.AdmRollupResponse;
 import dev.group2.landmark_be.map.entity.AdmBoundary;
 
 @Repository
@@ -19,7 +22,37 @@ public interface AdmBoundaryRepository extends JpaRepository<AdmBoundary, String
 	// 시도 코드로 경계 정보 조회
 	Optional<AdmBoundary> findByAdmCode(String admCode);
 
-	// 모든 시도 레벨의 행정경계 리스트 찾을 때
+	// 레벨별 원본 경계 (TopoJSON 변환용)
+	List<AdmBoundary> findAllByLevel(Short level);
+
+	// 도형 없이 단계만 (하위 경계 조회 전 부모 확인용)
+	@Query("SELECT a.level FROM AdmBoundary a WHERE a.admCode = :admCode")
+	Optional<Short> findLevelByAdmCode(@Param("admCode") String admCode);
+
+	// 부모 코드의 하위 경계 (db/migration/006_adm_boundary_hierarchy.sql 의 parent_code 인덱스)
+	// 원본 도형의 경계 상자를 함께 내려서 화면 영역 필터링은 캐시된 목록에서 한다
+	@Query(value = """
+		SELECT
+			a.adm_code as admCode,
+			a.adm_name as admName,
+			a.level,
+			ST_AsGeoJSON(ST_Simplify(a.geom, :tolerance)) as geomJson,
+			ST_XMin(a.geom) as minLng,
+			ST_YMin(a.geom) as minLat,
+			ST_XMax(a.geom) as maxLng,
+			ST_YMax(a.geom) as maxLat
+		FROM
+			app.adm_boundary a
+		WHERE
+			a.parent_code = :parentCode
+		ORDER BY a.adm_code
+		""", nativeQuery = true)
+	List<AdmBoundaryExtentProjection> findSimplifiedChildren(
+		@Param("parentCode") String parentCode,
+		@Param("tolerance") Double tolerance
+	);
+
+	// 한 단계에서 화면 영역(bbox)과 겹치는 경계만, limit 으로 화면당 개수 제한
 	@Query(value = """
 		SELECT
 			a.adm_code,
@@ -29,9 +62,102 @@ public interface AdmBoundaryRepository extends JpaRepository<AdmBoundary, String
 		FROM
 			app.adm_boundary a
 		WHERE
-			a.level = 1
+			a.level = :level
+			and a.geom && ST_MakeEnvelope(:minLng, :minLat, :maxLng, :maxLat, 4326)
+		ORDER BY a.adm_code
+		LIMIT :limit
+		""", nativeQuery = true)
+	List<AdmBoundarySimplifiedProjection> findSimplifiedInBbox(
+		@Param("level") Short level,
+		@Param("minLng") Double minLng,
+		@Param("minLat") Double minLat,
+		@Param("maxLng") Double maxLng,
+		@Param("maxLat") Double maxLat,
+		@Param("tolerance") Double tolerance,
+		@Param("limit") Integer limit
+	);
+
+	// 한 단계(level)의 행정경계 전체 (첫 화면의 시도 목록)
+	@Query(value = """
+		SELECT
+			a.adm_code,
+			a.adm_name,
+			a.level,
+			ST_AsGeoJSON(ST_Simplify(a.geom, :tolerance)) as geom_json
+		FROM
+			app.adm_boundary a
+		WHERE
+			a.level = :level
+		""", nativeQuery = true)
+	List<AdmBoundarySimplifiedProjection> findAllSimplifiedBoundaries(
+		@Param("level") Short level,
+		@Param("tolerance") Double tolerance
+	);
+
+	// 행정구역 월별 롤업 (db/migration/003_raster_rollups.sql), indexType 이 null 이면 전체 지수
+	@Query(value = """
+		SELECT
+			r.adm_code as admCode,
+			r.index_type as indexType,
+			r.year,
+			r.month,
+			r.sample_count as sampleCount,
+			r.val_mean as valMean,
+			r.val_min as valMin,
+			r.val_max as valMax,
+			r.val_stddev as valStddev
+		FROM
+			app.adm_raster_rollup r
+		WHERE
+			r.adm_code = :admCode
+			and r.year BETWEEN :fromYear AND :toYear
+			and (CAST(:indexType AS text) IS NULL OR r.index_type = :indexType)
+		ORDER BY r.index_type, r.year, r.month
+		""", nativeQuery = true)
+	List<AdmRollupResponse> findRollups(
+		@Param("admCode") String admCode,
+		@Param("fromYear") Integer fromYear,
+		@Param("toYear") Integer toYear,
+		@Param("indexType") String indexType
+	);
+
+	// 시도별 집계: 랜드마크마다 NDVI, NDMI 를 한 행으로 모은 뒤 지표 값을 계산해서 시도 단위로 평균
+	// RISK 는 RiskService 와 같은 식 (1 + 0.3 * NDVI - 0.7 * NDMI) / 2, 두 지수가 모두 있는 랜드마크만 포함
+	@Query(value = """
+		SELECT
+			s.adm_code as admCode,
+			count(*) as landmarkCount,
+			round(avg(s.value), 4) as value,
+			round(min(s.value), 4) as minValue,
+			round(max(s.value), 4) as maxValue
+		FROM (
+			SELECT
+				l.adm_code,
+				CASE :metric
+					WHEN 'NDVI' THEN max(r.val_mean) FILTER (WHERE r.index_type = 'NDVI')
+					WHEN 'NDMI' THEN max(r.val_mean) FILTER (WHERE r.index_type = 'NDMI')
+					ELSE (1 + 0.3 * max(r.val_mean) FILTER (WHERE r.index_type = 'NDVI')
+						- 0.7 * max(r.val_mean) FILTER (WHERE r.index_type = 'NDMI')) / 2
+				END as value
+			FROM
+				app.landmark_raster r
+				JOIN app.landmark l ON l.id = r.landmark_id
+			WHERE
+				r.year = :year
+				and r.month = :month
+				and r.index_type in ('NDVI', 'NDMI')
+				and l.adm_code IS NOT NULL
+			GROUP BY l.adm_code, l.id
+		) s
+		WHERE s.value IS NOT NULL
+		GROUP BY s.adm_code
+		ORDER BY s.adm_code
 		""", nativeQuery = true)
-	List<AdmBoundarySimplifiedProjection> findAllSimplifiedBoundaries(@Param("tolerance") Double tolerance);
+	List<AdmBoundaryStatResponse> aggregateStats(
+		@Param("year") Integer year,
+		@Param("month") Integer month,
+		@Param("metric") String metric
+	);
 
 	// tolerance: 오차 허용 거리,
 	// 상세 뷰를 위해서는 0.0001정도로 정밀하게 잡는 게 좋지만, 전체 뷰와 속도를 위해서 0.005로 설정
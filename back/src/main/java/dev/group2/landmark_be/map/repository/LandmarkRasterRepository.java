@@ -1,12 +1,15 @@
 package dev.group2.landmark_be.map.repository;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import dev.group2.landmark_be.map.dto.response.LandmarkRollupResponse;
+import dev.group2.landmark_be.map.dto.response.RasterChangeResponse;
 import dev.group2.landmark_be.map.dto.response.RasterSimplifiedProjection;
 import dev.group2.landmark_be.map.dto.response.RasterStatsProjection;
 import dev.group2.landmark_be.map.entity.LandmarkRaster;
@@ -16,6 +19,15 @@ public interface LandmarkRasterRepository extends JpaRepository<LandmarkRaster,
 
 	List<LandmarkRaster> findAllByLandmark_IdAndYearAndMonth(Integer landmarkId, Integer year, Integer month);
 
+	// 가장 최근 래스터의 연/월 (year * 100 + month)
+	@Query(value = """
+		SELECT r.year * 100 + r.month
+		FROM app.landmark_raster r
+		ORDER BY r.year DESC, r.month DESC
+		LIMIT 1
+		""", nativeQuery = true)
+	Optional<Integer> findLatestYearMonth();
+
 	@Query(value = """
 		SELECT
 			r.id,
@@ -43,6 +55,33 @@ public interface LandmarkRasterRepository extends JpaRepository<LandmarkRaster,
 		@Param("tolerance") Double tolerance
 	);
 
+	// fields 에 geomJson 이 없을 때: 도형 단순화/GeoJSON 변환 없이 통계 컬럼만 조회
+	@Query(value = """
+		SELECT
+			r.id,
+			r.landmark_id as landmarkId,
+			r.index_type as indexType,
+			r.year,
+			r.month,
+			r.s3_path as s3Path,
+			r.val_mean as valMean,
+			r.val_min as valMin,
+			r.val_max as valMax,
+			r.val_stddev as valStddev,
+			CAST(NULL AS text) as geomJson
+		FROM
+			app.landmark_raster r
+		WHERE
+			r.landmark_id = :landmarkId
+		AND r.year = :year
+		AND r.month = :month
+		""", nativeQuery = true)
+	List<RasterSimplifiedProjection> findWithoutGeometryByLandmarkIdAndMonth(
+		@Param("landmarkId") Long landmarkId,
+		@Param("year") Integer year,
+		@Param("month") Integer month
+	);
+
 	@Query(value = """
 		SELECT
 			r.landmark_id as landmarkId,
@@ -64,4 +103,95 @@ public interface LandmarkRasterRepository extends JpaRepository<LandmarkRaster,
 		@Param("year") Integer year,
 		@Param("month") Integer month
 	);
+
+	// 분기/연간 롤업 (db/migration/003_raster_rollups.sql), indexType 이 null 이면 전체 지수
+	@Query(value = """
+		SELECT
+			r.landmark_id as landmarkId,
+			r.index_type as indexType,
+			r.period_type as periodType,
+			r.year,
+			r.period,
+			r.sample_count as sampleCount,
+			r.val_mean as valMean,
+			r.val_min as valMin,
+			r.val_max as valMax,
+			r.val_stddev as valStddev
+		FROM
+			app.landmark_raster_rollup r
+		WHERE
+			r.landmark_id = :landmarkId
+			and r.period_type = :periodType
+			and r.year BETWEEN :fromYear AND :toYear
+			and (CAST(:indexType AS text) IS NULL OR r.index_type = :indexType)
+		ORDER BY r.index_type, r.year, r.period
+		""", nativeQuery = true)
+	List<LandmarkRollupResponse> findRollups(
+		@Param("landmarkId") Long landmarkId,
+		@Param("periodType") String periodType,
+		@Param("fromYear") Integer fromYear,
+		@Param("toYear") Integer toYear,
+		@Param("indexType") String indexType
+	);
+
+	// 두 달 사이 랜드마크별 val_mean 변화 상위 k 개 (한 번의 자기 조인)
+	// 같은 달에 래스터가 여러 장이면 평균을 쓰고, 표준편차는 제곱평균근으로 합친다
+	// sign: -1 감소, 1 증가, 0 절댓값 순. ORDER BY ... LIMIT 이라 Postgres 가 k 개짜리 힙(top-N heapsort)만 유지한다
+	// minSigma 가 있으면 |delta| >= minSigma * (두 달 표준편차의 제곱평균근) 인 것만 남긴다
+	@Query(value = """
+		WITH prev AS (
+			SELECT r.landmark_id, avg(r.val_mean) AS val_mean, sqrt(avg(r.val_stddev * r.val_stddev)) AS val_stddev
+			FROM app.landmark_raster r
+			WHERE r.year = :fromYear AND r.month = :fromMonth AND r.index_type = :indexType AND r.val_mean IS NOT NULL
+			GROUP BY r.landmark_id
+		), curr AS (
+			SELECT r.landmark_id, avg(r.val_mean) AS val_mean, sqrt(avg(r.val_stddev * r.val_stddev)) AS val_stddev
+			FROM app.landmark_raster r
+			WHERE r.year = :toYear AND r.month = :toMonth AND r.index_type = :indexType AND r.val_mean IS NOT NULL
+			GROUP BY r.landmark_id
+		), changes AS (
+			SELECT
+				p.landmark_id,
+				p.val_mean AS from_mean,
+				c.val_mean AS to_mean,
+				c.val_mean - p.val_mean AS delta,
+				sqrt((coalesce(p.val_stddev, 0) ^ 2 + coalesce(c.val_stddev, 0) ^ 2) / 2) AS pooled_stddev
+			FROM prev p
+			JOIN curr c ON c.landmark_id = p.landmark_id
+		)
+		SELECT
+			l.id as landmarkId,
+			l.name,
+			a.adm_code as admCode,
+			a.adm_name as admName,
+			round(ch.from_mean, 4) as fromMean,
+			round(ch.to_mean, 4) as toMean,
+			round(ch.delta, 4) as delta,
+			round(ch.delta / NULLIF(ch.pooled_stddev, 0), 4) as effectSize
+		FROM
+			changes ch
+			JOIN app.landmark l ON l.id = ch.landmark_id
+			LEFT JOIN app.adm_boundary a ON a.adm_code = l.adm_code
+		WHERE
+			(CAST(:admCode AS text) IS NULL OR l.adm_code = :admCode)
+			and (:sign = 0 OR sign(ch.delta) = :sign)
+			and abs(ch.delta) >= :minDelta
+			and (CAST(:minSigma AS double precision) IS NULL OR abs(ch.delta) >= CAST(:minSigma AS double precision) * ch.pooled_stddev)
+		ORDER BY
+			CASE WHEN :sign = 0 THEN abs(ch.delta) ELSE :sign * ch.delta END DESC,
+			l.id
+		LIMIT :k
+		""", nativeQuery = true)
+	List<RasterChangeResponse> findTopChanges(
+		@Param("indexType") String indexType,
+		@Param("fromYear") Integer fromYear,
+		@Param("fromMonth") Integer fromMonth,
+		@Param("toYear") Integer toYear,
+		@Param("toMonth") Integer toMonth,
+		@Param("admCode") String admCode,
+		@Param("sign") Integer sign,
+		@Param("minDelta") Double minDelta,
+		@Param("minSigma") Double minSigma,
+		@Param("k") Integer k
+	);
 }
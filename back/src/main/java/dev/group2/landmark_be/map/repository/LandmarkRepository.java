@@ -3,6 +3,8 @@ package dev.group2.landmark_be.map.repository;
 import java.util.List;
 import java.util.Optional;
 
+import dev.group2.landmark_be.map.dto.response.LandmarkPointProjection;
+import dev.group2.landmark_be.map.dto.response.LandmarkProjection;
 import dev.group2.landmark_be.map.entity.AdmBoundary;
 import dev.group2.landmark_be.map.entity.Landmark;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -26,21 +28,47 @@ public interface LandmarkRepository extends JpaRepository<Landmark, Long> {
 	List<Object[]> findAllLandmarksOptimized();
 
 	// 특정 admBoundary(시도)에 속한 모든 랜드마크 조회
+	// JOIN FETCH 로 경계 엔티티를 올리면 시도 MultiPolygon 까지 읽으므로 필요한 컬럼만 프로젝션
 	@Query(value = """
-		SELECT l
+		SELECT new dev.group2.landmark_be.map.dto.response.LandmarkProjection(
+			l.id, l.name, l.address, a.admCode, a.admName, l.geom)
 		FROM Landmark l
-		JOIN FETCH l.admBoundary a
+		JOIN l.admBoundary a
 		WHERE a.admCode = :admCode
 		""")
-	List<Landmark> findAllByAdmCodeWithAdmBoundary(@Param("admCode") String admCode);
+	List<LandmarkProjection> findAllByAdmCode(@Param("admCode") String admCode);
 
 	@Query(value = """
-		SELECT l
+		SELECT new dev.group2.landmark_be.map.dto.response.LandmarkProjection(
+			l.id, l.name, l.address, a.admCode, a.admName, l.geom)
 		FROM Landmark l
-		JOIN FETCH l.admBoundary 
+		JOIN l.admBoundary a
 		WHERE l.id = :id
 		""")
-	Optional<Landmark> findByIdWithAdmBoundary(@Param("id") Long id);
+	Optional<LandmarkProjection> findProjectionById(@Param("id") Long id);
+
+	// 군집 색인용 전체 랜드마크 좌표 + 해당 연/월 위험도 (RiskService 와 같은 식, 지수가 없으면 null)
+	@Query(value = """
+		SELECT
+			l.id,
+			ST_X(l.geom) as lng,
+			ST_Y(l.geom) as lat,
+			risk.score as risk
+		FROM
+			app.landmark l
+			LEFT JOIN (
+				SELECT
+					r.landmark_id,
+					(1 + 0.3 * max(r.val_mean) FILTER (WHERE r.index_type = 'NDVI')
+						- 0.7 * max(r.val_mean) FILTER (WHERE r.index_type = 'NDMI')) / 2 as score
+				FROM app.landmark_raster r
+				WHERE r.year = :year
+					and r.month = :month
+					and r.index_type in ('NDVI', 'NDMI')
+				GROUP BY r.landmark_id
+			) risk ON risk.landmark_id = l.id
+		""", nativeQuery = true)
+	List<LandmarkPointProjection> findAllPointsWithRisk(@Param("year") Integer year, @Param("month") Integer month);
 
 	// 랜드마크 이름으로 직접 검색
 	List<Landmark> findByNameContainingIgnoreCase(String name);
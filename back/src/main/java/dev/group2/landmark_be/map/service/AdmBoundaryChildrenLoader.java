@@ -0,0 +1,33 @@
+package dev.group2.landmark_be.map.service;
+
+import java.util.List;
+
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import dev.group2.landmark_be.global.config.CacheConfig;
+import dev.group2.landmark_be.global.exception.DataNotFoundException;
+import dev.group2.landmark_be.global.exception.ErrorCode;
+import dev.group2.landmark_be.map.dto.response.AdmBoundaryExtentProjection;
+import dev.group2.landmark_be.map.repository.AdmBoundaryRepository;
+import lombok.RequiredArgsConstructor;
+
+// 부모 코드별 하위 경계 목록을 하위 단계의 허용 오차로 단순화해 캐시 (부모 하나 = 캐시 항목 하나)
+// 드릴다운한 부모만 올라오므로 전체 시군구/읍면동을 한 번에 들고 있지 않는다
+@Component
+@RequiredArgsConstructor
+public class AdmBoundaryChildrenLoader {
+
+	private final AdmBoundaryRepository admBoundaryRepository;
+	private final AdmBoundaryLevelProperties levelProperties;
+
+	@Transactional(readOnly = true)
+	@Cacheable(cacheNames = CacheConfig.BOUNDARY_CHILDREN, sync = true)
+	public List<AdmBoundaryExtentProjection> load(String parentCode) {
+		Short parentLevel = admBoundaryRepository.findLevelByAdmCode(parentCode)
+			.orElseThrow(() -> new DataNotFoundException(ErrorCode.ADM_BOUNDARY_NOT_FOUND));
+		AdmBoundaryLevelProperties.LevelLimits limits = levelProperties.of((short)(parentLevel + 1));
+		return admBoundaryRepository.findSimplifiedChildren(parentCode, limits.tolerance());
+	}
+}
@@ -0,0 +1,68 @@
+package dev.group2.landmark_be.map.service;
+
+import java.util.List;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Polygon;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import dev.group2.landmark_be.global.exception.ErrorCode;
+import dev.group2.landmark_be.global.exception.InvalidRequestException;
+import dev.group2.landmark_be.map.dto.response.AdmBoundaryExtentProjection;
+import dev.group2.landmark_be.map.dto.response.AdmBoundaryResponse;
+import dev.group2.landmark_be.map.dto.response.AdmBoundarySimplifiedProjection;
+import dev.group2.landmark_be.map.repository.AdmBoundaryRepository;
+import lombok.RequiredArgsConstructor;
+
+// 시도 -> 시군구 -> 읍면동 드릴다운
+// 단계마다 단순화 허용 오차와 화면당 최대 경계 수가 다르다 (app.adm-boundary.levels)
+@Service
+@RequiredArgsConstructor
+@EnableConfigurationProperties(AdmBoundaryLevelProperties.class)
+public class AdmBoundaryHierarchyService {
+
+	private final AdmBoundaryRepository admBoundaryRepository;
+	private final AdmBoundaryChildrenLoader childrenLoader;
+	private final AdmBoundaryLevelProperties levelProperties;
+
+	// 부모의 하위 경계, bbox 를 주면 화면과 겹치는 것만 (캐시된 목록에서 경계 상자로 거른다)
+	public List<AdmBoundaryResponse> getChildren(String parentCode, Polygon bbox) {
+		List<AdmBoundaryExtentProjection> children = childrenLoader.load(parentCode);
+		List<AdmBoundaryExtentProjection> visible = bbox == null
+			? children
+			: children.stream().filter(child -> child.intersects(bbox.getEnvelopeInternal())).toList();
+		if(!visible.isEmpty()) {
+			checkLimit(visible.get(0).level(), visible.size());
+		}
+		return visible.stream()
+			.map(AdmBoundaryExtentProjection::toResponse)
+			.toList();
+	}
+
+	// 한 단계에서 화면과 겹치는 경계 (부모를 넘나드는 지도 이동용), 최대 개수 + 1 개만 읽어서 초과 여부를 판단
+	@Transactional(readOnly = true)
+	public List<AdmBoundaryResponse> getBoundariesInView(Short level, Polygon bbox) {
+		AdmBoundaryLevelProperties.LevelLimits limits = levelProperties.of(level);
+		Envelope viewport = bbox.getEnvelopeInternal();
+		List<AdmBoundarySimplifiedProjection> results = admBoundaryRepository.findSimplifiedInBbox(
+			level, viewport.getMinX(), viewport.getMinY(), viewport.getMaxX(), viewport.getMaxY(),
+			limits.tolerance(), limits.maxFeatures() + 1);
+		checkLimit(level, results.size());
+		return results.stream()
+			.map(projection -> new AdmBoundaryResponse(
+				projection.admCode(),
+				projection.admName(),
+				projection.geomJson(),
+				projection.level()
+			))
+			.toList();
+	}
+
+	private void checkLimit(Short level, int size) {
+		if(size > levelProperties.of(level).maxFeatures()) {
+			throw new InvalidRequestException(ErrorCode.BOUNDARY_VIEWPORT_TOO_LARGE);
+		}
+	}
+}
@@ -0,0 +1,32 @@
+package dev.group2.landmark_be.map.service;
+
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import dev.group2.landmark_be.global.exception.ErrorCode;
+import dev.group2.landmark_be.global.exception.InvalidRequestException;
+
+// app.adm-boundary.levels.* (application.yaml 참고), 키는 행정경계 단계 (1 시도, 2 시군구, 3 읍면동)
+@ConfigurationProperties(prefix = "app.adm-boundary")
+public record AdmBoundaryLevelProperties(
+	Map<Short, LevelLimits> levels
+) {
+	public AdmBoundaryLevelProperties {
+		levels = levels == null ? Map.of() : levels;
+	}
+
+	public LevelLimits of(Short level) {
+		LevelLimits limits = levels.get(level);
+		if(limits == null) {
+			throw new InvalidRequestException(ErrorCode.INVALID_BOUNDARY_LEVEL);
+		}
+		return limits;
+	}
+
+	public record LevelLimits(
+		double tolerance,		// 단순화 허용 오차(도), 하위 단계일수록 작게
+		int maxFeatures			// 한 번에 내려줄 최대 경계 수, 넘으면 확대하도록 400
+	) {
+	}
+}
@@ -1,14 +1,19 @@
 package dev.group2.landmark_be.map.service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.wololo.geojson.GeoJSON;
-import org.wololo.jts2geojson.GeoJSONWriter;
 
+import dev.group2.landmark_be.global.exception.DataNotFoundException;
+import dev.group2.landmark_be.global.exception.ErrorCode;
+import dev.group2.landmark_be.global.util.GeoJsonEncoder;
 import dev.group2.landmark_be.map.dto.response.AdmBoundaryResponse;
+import dev.group2.landmark_be.map.dto.response.AdmBoundaryStatResponse;
 import dev.group2.landmark_be.map.dto.response.AdmBoundarySimplifiedProjection;
 import dev.group2.landmark_be.map.entity.AdmBoundary;
 import dev.group2.landmark_be.map.repository.AdmBoundaryRepository;
@@ -19,15 +24,18 @@ import lombok.RequiredArgsConstructor;
 public class AdmBoundaryService {
 
 	private final AdmBoundaryRepository admBoundaryRepository;
-	private final GeoJSONWriter writer = new GeoJSONWriter();
+	private final AdmBoundaryStatsService admBoundaryStatsService;
+	private final GeoJsonEncoder geoJsonEncoder;
+	private final AdmBoundaryLevelProperties levelProperties;
 
 	// 시도 레벨 : 1
 	static final Short SIDO_LEVEL = 1;
 
 	@Transactional(readOnly = true)
 	public List<AdmBoundaryResponse> getAllSidoBoundaries() {
-		Double tolerance = 0.005;
-		List<AdmBoundarySimplifiedProjection> results = admBoundaryRepository.findAllSimplifiedBoundaries(tolerance);
+		// 단순화 허용 오차는 app.adm-boundary.levels[1].tolerance (단계별 조회와 같은 값)
+		Double tolerance = levelProperties.of(SIDO_LEVEL).tolerance();
+		List<AdmBoundarySimplifiedProjection> results = admBoundaryRepository.findAllSimplifiedBoundaries(SIDO_LEVEL, tolerance);
 
 		return results.stream()
 			.map(projection -> new AdmBoundaryResponse(
@@ -39,9 +47,25 @@ public class AdmBoundaryService {
 			.toList();
 	}
 
+	// 단순화한 경계에 시도별 집계를 합쳐서 한 번에 내려준다 (집계가 없는 시도는 stats 없음)
+	public List<AdmBoundaryResponse> getAllSidoBoundariesWithStats(Integer year, Integer month, BoundaryMetric metric) {
+		Map<String, AdmBoundaryStatResponse> stats = admBoundaryStatsService.getStats(year, month, metric).stream()
+			.collect(Collectors.toMap(AdmBoundaryStatResponse::admCode, Function.identity()));
+		return getAllSidoBoundaries().stream()
+			.map(boundary -> boundary.withStats(stats.get(boundary.admCode())))
+			.toList();
+	}
+
+	// 단순화하지 않은 원본 해상도 경계 하나 (상세 뷰), 도형은 GeoJsonEncoder 로 바로 문자열로 쓴다
+	@Transactional(readOnly = true)
+	public AdmBoundaryResponse getBoundary(String admCode) {
+		AdmBoundary boundary = admBoundaryRepository.findByAdmCode(admCode)
+			.orElseThrow(() -> new DataNotFoundException(ErrorCode.ADM_BOUNDARY_NOT_FOUND));
+		return convertToResponse(boundary);
+	}
+
 	public AdmBoundaryResponse convertToResponse(AdmBoundary entity) {
-		GeoJSON geoJSON = writer.write(entity.getGeom());
-		String geomJson = geoJSON.toString();
+		String geomJson = geoJsonEncoder.encode(entity.getGeom());
 		return new AdmBoundaryResponse(
 			entity.getAdmCode(),
 			entity.getAdmName(),
@@ -0,0 +1,27 @@
+package dev.group2.landmark_be.map.service;
+
+import java.util.List;
+
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import dev.group2.landmark_be.global.config.CacheConfig;
+import dev.group2.landmark_be.map.dto.response.AdmBoundaryStatResponse;
+import dev.group2.landmark_be.map.repository.AdmBoundaryRepository;
+import lombok.RequiredArgsConstructor;
+
+// 시도별 지수/위험도 집계 (단계구분도용), 한 번의 GROUP BY 쿼리로 계산하고 (연, 월, 지표)별로 캐시
+// 래스터/랜드마크가 바뀌면 캐시 무효화 트리거로 전체를 비운다 (CacheConfig 참고)
+@Service
+@RequiredArgsConstructor
+public class AdmBoundaryStatsService {
+
+	private final AdmBoundaryRepository admBoundaryRepository;
+
+	@Transactional(readOnly = true)
+	@Cacheable(cacheNames = CacheConfig.BOUNDARY_STATS)
+	public List<AdmBoundaryStatResponse> getStats(Integer year, Integer month, BoundaryMetric metric) {
+		return admBoundaryRepository.aggregateStats(year, month, metric.name());
+	}
+}
@@ -0,0 +1,20 @@
+package dev.group2.landmark_be.map.service;
+
+import java.util.Arrays;
+
+import dev.group2.landmark_be.global.exception.ErrorCode;
+import dev.group2.landmark_be.global.exception.InvalidRequestException;
+
+// 시도 단계구분도(choropleth)에 칠할 값
+public enum BoundaryMetric {
+	NDVI,
+	NDMI,
+	RISK;	// 랜드마크별 위험도(RiskService 와 같은 식)의 평균
+
+	public static BoundaryMetric parse(String metric) {
+		return Arrays.stream(values())
+			.filter(value -> value.name().equalsIgnoreCase(metric.trim()))
+			.findFirst()
+			.orElseThrow(() -> new InvalidRequestException(ErrorCode.INVALID_METRIC));
+	}
+}
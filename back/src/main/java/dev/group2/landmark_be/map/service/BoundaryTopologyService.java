@@ -0,0 +1,44 @@
+package dev.group2.landmark_be.map.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import dev.group2.landmark_be.global.config.CacheConfig;
+import dev.group2.landmark_be.global.util.TopoJsonEncoder;
+import dev.group2.landmark_be.map.dto.response.AdmBoundaryTopologyProperties;
+import dev.group2.landmark_be.map.repository.AdmBoundaryRepository;
+
+// 시도 경계를 TopoJSON 으로: 인접 시도가 같은 경계선(arc)을 공유하므로 GeoJSON 보다 작고 단순화해도 틈이 생기지 않는다
+@Service
+public class BoundaryTopologyService {
+
+	static final String OBJECT_NAME = "boundaries";
+
+	private final AdmBoundaryRepository admBoundaryRepository;
+	private final TopoJsonEncoder encoder;
+
+	public BoundaryTopologyService(
+		AdmBoundaryRepository admBoundaryRepository,
+		@Value("${app.boundary-topology.quantization:100000}") long quantization,
+		@Value("${app.boundary-topology.tolerance:0.001}") double tolerance
+	) {
+		this.admBoundaryRepository = admBoundaryRepository;
+		this.encoder = new TopoJsonEncoder(quantization, tolerance);
+	}
+
+	// 원본 경계로 한 번 만들어 캐시 (경계 테이블이 바뀌면 무효화)
+	@Transactional(readOnly = true)
+	@Cacheable(cacheNames = CacheConfig.BOUNDARY_TOPOLOGY, key = "'sido'", sync = true)
+	public TopoJsonEncoder.Topology getSidoTopology() {
+		List<TopoJsonEncoder.Feature> features = admBoundaryRepository.findAllByLevel(AdmBoundaryService.SIDO_LEVEL).stream()
+			.map(boundary -> new TopoJsonEncoder.Feature(
+				TopoJsonEncoder.polygonsOf(boundary.getGeom()),
+				new AdmBoundaryTopologyProperties(boundary.getAdmCode(), boundary.getAdmName(), boundary.getLevel())))
+			.toList();
+		return encoder.encode(OBJECT_NAME, features);
+	}
+}
@@ -0,0 +1,30 @@
+package dev.group2.landmark_be.map.service;
+
+import java.util.Arrays;
+
+import dev.group2.landmark_be.global.exception.ErrorCode;
+import dev.group2.landmark_be.global.exception.InvalidRequestException;
+
+// 변화 순위 기준: 가장 많이 줄어든 / 늘어난 / 크게 변한 순
+public enum ChangeDirection {
+	DECREASE(-1),
+	INCREASE(1),
+	ANY(0);		// 부호와 관계없이 |delta| 순
+
+	private final int sign;
+
+	ChangeDirection(int sign) {
+		this.sign = sign;
+	}
+
+	public int sign() {
+		return sign;
+	}
+
+	public static ChangeDirection parse(String direction) {
+		return Arrays.stream(values())
+			.filter(value -> value.name().equalsIgnoreCase(direction.trim()))
+			.findFirst()
+			.orElseThrow(() -> new InvalidRequestException(ErrorCode.INVALID_RASTER_CHANGE_REQUEST));
+	}
+}
@@ -0,0 +1,235 @@
+package dev.group2.landmark_be.map.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.locationtech.jts.geom.Envelope;
+
+import dev.group2.landmark_be.map.dto.response.LandmarkClusterItem;
+import dev.group2.landmark_be.map.dto.response.LandmarkPointProjection;
+
+// 줌 단계별 랜드마크 군집 (supercluster 와 같은 방식)
+// 웹 메르카토르 [0, 1] 좌표에서 maxZoom + 1(개별 점)부터 한 단계씩 올라가며, 화면 반경(radius px) 안의 이웃을
+// 가중 중심점으로 합친다. 한 번 만들면 바뀌지 않으므로 여러 요청 스레드가 그대로 공유한다.
+public final class LandmarkClusterIndex {
+
+	private final int minZoom;
+	private final int maxZoom;
+	private final Level[] levels;		// levels[z - minZoom], 마지막은 개별 점
+	private final Integer riskYear;
+	private final Integer riskMonth;
+
+	private LandmarkClusterIndex(int minZoom, int maxZoom, Level[] levels, Integer riskYear, Integer riskMonth) {
+		this.minZoom = minZoom;
+		this.maxZoom = maxZoom;
+		this.levels = levels;
+		this.riskYear = riskYear;
+		this.riskMonth = riskMonth;
+	}
+
+	// radius: 군집 반경(px), extent: 타일 한 장의 크기(px)
+	public static LandmarkClusterIndex build(List<LandmarkPointProjection> points, int minZoom, int maxZoom,
+		double radius, double extent, Integer riskYear, Integer riskMonth) {
+		Level[] levels = new Level[maxZoom - minZoom + 2];
+		Level current = Level.ofPoints(points, maxZoom + 1);
+		levels[levels.length - 1] = current;
+		for (int zoom = maxZoom; zoom >= minZoom; zoom--) {
+			current = current.cluster(radius / (extent * Math.pow(2, zoom)), zoom);
+			levels[zoom - minZoom] = current;
+		}
+		return new LandmarkClusterIndex(minZoom, maxZoom, levels, riskYear, riskMonth);
+	}
+
+	public List<LandmarkClusterItem> getClusters(int zoom, Envelope bbox, boolean withRisk) {
+		int clamped = Math.max(minZoom, Math.min(zoom, maxZoom + 1));
+		return levels[clamped - minZoom].query(
+			lngX(bbox.getMinX()), latY(bbox.getMaxY()), lngX(bbox.getMaxX()), latY(bbox.getMinY()), withRisk);
+	}
+
+	public Integer getRiskYear() {
+		return riskYear;
+	}
+
+	public Integer getRiskMonth() {
+		return riskMonth;
+	}
+
+	static double lngX(double lng) {
+		return lng / 360 + 0.5;
+	}
+
+	static double latY(double lat) {
+		double sin = Math.sin(Math.toRadians(lat));
+		double y = 0.5 - 0.25 * Math.log((1 + sin) / (1 - sin)) / Math.PI;
+		return y < 0 ? 0 : Math.min(y, 1);
+	}
+
+	static double xLng(double x) {
+		return (x - 0.5) * 360;
+	}
+
+	static double yLat(double y) {
+		return Math.toDegrees(2 * Math.atan(Math.exp((1 - 2 * y) * Math.PI))) - 90;
+	}
+
+	// 한 줌 단계의 점/군집. x 오름차순으로 정렬해 두고 bbox 조회 시 x 범위는 이분 탐색으로 찾는다.
+	private static final class Level {
+
+		private final int zoom;
+		private final double[] x;
+		private final double[] y;
+		private final int[] count;
+		private final long[] landmarkId;	// 개별 점만, 군집은 0
+		private final int[] expansionZoom;	// 이 군집이 처음으로 나뉘는 줌 (개별 점은 0)
+		private final double[] riskSum;
+		private final int[] riskCount;
+
+		private Level(int zoom, int size) {
+			this.zoom = zoom;
+			this.x = new double[size];
+			this.y = new double[size];
+			this.count = new int[size];
+			this.landmarkId = new long[size];
+			this.expansionZoom = new int[size];
+			this.riskSum = new double[size];
+			this.riskCount = new int[size];
+		}
+
+		static Level ofPoints(List<LandmarkPointProjection> points, int zoom) {
+			List<LandmarkPointProjection> sorted = points.stream()
+				.filter(point -> point.lng() != null && point.lat() != null)
+				.sorted((a, b) -> Double.compare(lngX(a.lng()), lngX(b.lng())))
+				.toList();
+			Level level = new Level(zoom, sorted.size());
+			for (int i = 0; i < sorted.size(); i++) {
+				LandmarkPointProjection point = sorted.get(i);
+				level.x[i] = lngX(point.lng());
+				level.y[i] = latY(point.lat());
+				level.count[i] = 1;
+				level.landmarkId[i] = point.id();
+				if(point.risk() != null) {
+					level.riskSum[i] = point.risk().doubleValue();
+					level.riskCount[i] = 1;
+				}
+			}
+			return level;
+		}
+
+		// 아직 묶이지 않은 점마다 반경 r 안의 묶이지 않은 이웃을 모아 하나의 군집으로 만든다
+		// x 로 정렬돼 있으므로 이웃 후보는 [x - r, x + r] 구간만 훑는다
+		Level cluster(double r, int targetZoom) {
+			int size = x.length;
+			Level next = new Level(targetZoom, size);
+			boolean[] done = new boolean[size];
+			int[] neighbors = new int[size];
+			int created = 0;
+			for (int i = 0; i < size; i++) {
+				if(done[i]) {
+					continue;
+				}
+				done[i] = true;
+				int found = 0;
+				for (int j = lowerBound(x[i] - r); j < size && x[j] <= x[i] + r; j++) {
+					if(!done[j] && distanceSquared(i, j) <= r * r) {
+						done[j] = true;
+						neighbors[found++] = j;
+					}
+				}
+
+				if(found == 0) {
+					next.copyFrom(created++, this, i);
+					continue;
+				}
+				double weightedX = x[i] * count[i];
+				double weightedY = y[i] * count[i];
+				int total = count[i];
+				double risk = riskSum[i];
+				int risked = riskCount[i];
+				for (int n = 0; n < found; n++) {
+					int j = neighbors[n];
+					weightedX += x[j] * count[j];
+					weightedY += y[j] * count[j];
+					total += count[j];
+					risk += riskSum[j];
+					risked += riskCount[j];
+				}
+				next.x[created] = weightedX / total;
+				next.y[created] = weightedY / total;
+				next.count[created] = total;
+				next.expansionZoom[created] = zoom;
+				next.riskSum[created] = risk;
+				next.riskCount[created] = risked;
+				created++;
+			}
+			return next.trimAndSort(created);
+		}
+
+		List<LandmarkClusterItem> query(double minX, double minY, double maxX, double maxY, boolean withRisk) {
+			List<LandmarkClusterItem> items = new ArrayList<>();
+			int from = lowerBound(minX);
+			for (int i = from; i < x.length && x[i] <= maxX; i++) {
+				if(y[i] < minY || y[i] > maxY) {
+					continue;
+				}
+				BigDecimal avgRisk = withRisk && riskCount[i] > 0
+					? BigDecimal.valueOf(riskSum[i] / riskCount[i]).setScale(4, RoundingMode.HALF_UP)
+					: null;
+				boolean single = count[i] == 1;
+				items.add(new LandmarkClusterItem(
+					single ? landmarkId[i] : null,
+					xLng(x[i]),
+					yLat(y[i]),
+					count[i],
+					single ? null : expansionZoom[i],
+					avgRisk));
+			}
+			return items;
+		}
+
+		private void copyFrom(int target, Level source, int index) {
+			x[target] = source.x[index];
+			y[target] = source.y[index];
+			count[target] = source.count[index];
+			landmarkId[target] = source.landmarkId[index];
+			expansionZoom[target] = source.expansionZoom[index];
+			riskSum[target] = source.riskSum[index];
+			riskCount[target] = source.riskCount[index];
+		}
+
+		private Level trimAndSort(int size) {
+			Integer[] order = new Integer[size];
+			for (int i = 0; i < size; i++) {
+				order[i] = i;
+			}
+			Arrays.sort(order, (a, b) -> Double.compare(x[a], x[b]));
+			Level sorted = new Level(zoom, size);
+			for (int i = 0; i < size; i++) {
+				sorted.copyFrom(i, this, order[i]);
+			}
+			return sorted;
+		}
+
+		private int lowerBound(double value) {
+			int low = 0;
+			int high = x.length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if(x[mid] < value) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+			return low;
+		}
+
+		private double distanceSquared(int i, int j) {
+			double dx = x[i] - x[j];
+			double dy = y[i] - y[j];
+			return dx * dx + dy * dy;
+		}
+	}
+}
@@ -0,0 +1,54 @@
+package dev.group2.landmark_be.map.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import dev.group2.landmark_be.global.config.CacheConfig;
+import dev.group2.landmark_be.map.repository.LandmarkRasterRepository;
+import dev.group2.landmark_be.map.repository.LandmarkRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// 군집 색인은 캐시 항목 하나로 보관: 랜드마크/래스터가 바뀌면 무효화되고 다음 요청에서 한 번만 다시 만든다 (sync)
+@Component
+public class LandmarkClusterIndexLoader {
+
+	private final LandmarkRepository landmarkRepository;
+	private final LandmarkRasterRepository landmarkRasterRepository;
+	private final Timer buildTimer;
+	private final int minZoom;
+	private final int maxZoom;
+	private final double radius;
+	private final double extent;
+
+	public LandmarkClusterIndexLoader(
+		LandmarkRepository landmarkRepository,
+		LandmarkRasterRepository landmarkRasterRepository,
+		MeterRegistry meterRegistry,
+		@Value("${app.landmark-cluster.min-zoom:0}") int minZoom,
+		@Value("${app.landmark-cluster.max-zoom:16}") int maxZoom,
+		@Value("${app.landmark-cluster.radius:60}") double radius,
+		@Value("${app.landmark-cluster.extent:512}") double extent
+	) {
+		this.landmarkRepository = landmarkRepository;
+		this.landmarkRasterRepository = landmarkRasterRepository;
+		this.buildTimer = meterRegistry.timer("landmark.cluster.build");
+		this.minZoom = minZoom;
+		this.maxZoom = maxZoom;
+		this.radius = radius;
+		this.extent = extent;
+	}
+
+	@Transactional(readOnly = true)
+	@Cacheable(cacheNames = CacheConfig.LANDMARK_CLUSTERS, key = "'index'", sync = true)
+	public LandmarkClusterIndex load() {
+		Integer latest = landmarkRasterRepository.findLatestYearMonth().orElse(null);
+		Integer year = latest != null ? latest / 100 : null;
+		Integer month = latest != null ? latest % 100 : null;
+		return buildTimer.record(() -> LandmarkClusterIndex.build(
+			landmarkRepository.findAllPointsWithRisk(year != null ? year : 0, month != null ? month : 0),
+			minZoom, maxZoom, radius, extent, year, month));
+	}
+}
@@ -0,0 +1,29 @@
+package dev.group2.landmark_be.map.service;
+
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Polygon;
+import org.springframework.stereotype.Service;
+
+import dev.group2.landmark_be.map.dto.response.LandmarkClusterResponse;
+import lombok.RequiredArgsConstructor;
+
+// 줌에 맞춰 묶은 랜드마크 마커. 응답 크기가 랜드마크 수가 아니라 화면(bbox) 안의 군집 수에 비례한다.
+@Service
+@RequiredArgsConstructor
+public class LandmarkClusterService {
+
+	// bbox 를 생략하면 전 세계
+	private static final Envelope WORLD = new Envelope(-180, 180, -85.0511, 85.0511);
+
+	private final LandmarkClusterIndexLoader indexLoader;
+
+	public LandmarkClusterResponse getClusters(int zoom, Polygon bbox, boolean withRisk) {
+		LandmarkClusterIndex index = indexLoader.load();
+		Envelope envelope = bbox != null ? bbox.getEnvelopeInternal() : WORLD;
+		return new LandmarkClusterResponse(
+			zoom,
+			withRisk ? index.getRiskYear() : null,
+			withRisk ? index.getRiskMonth() : null,
+			index.getClusters(zoom, envelope, withRisk));
+	}
+}
@@ -0,0 +1,41 @@
+package dev.group2.landmark_be.map.service;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+import dev.group2.landmark_be.global.exception.ErrorCode;
+import dev.group2.landmark_be.global.exception.InvalidRequestException;
+
+// 상세 조회에서 랜드마크 기본 정보 외에 함께 가져올 부분
+public enum LandmarkDetailPart {
+	RASTERS("rasters"),
+	RISK("risk"),
+	NOTES("notes");
+
+	private final String key;
+
+	LandmarkDetailPart(String key) {
+		this.key = key;
+	}
+
+	public String key() {
+		return key;
+	}
+
+	// "rasters,risk,notes" 형식
+	public static Set<LandmarkDetailPart> parse(String include) {
+		Set<LandmarkDetailPart> parts = EnumSet.noneOf(LandmarkDetailPart.class);
+		for (String token : include.split(",")) {
+			String key = token.trim();
+			if(key.isEmpty()) {
+				continue;
+			}
+			parts.add(Arrays.stream(values())
+				.filter(part -> part.key.equals(key))
+				.findFirst()
+				.orElseThrow(() -> new InvalidRequestException(ErrorCode.INVALID_INCLUDE)));
+		}
+		return parts;
+	}
+}
@@ -0,0 +1,186 @@
+package dev.group2.landmark_be.map.service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import dev.group2.landmark_be.global.dto.ApiError;
+import dev.group2.landmark_be.global.exception.BaseException;
+import dev.group2.landmark_be.global.exception.ErrorCode;
+import dev.group2.landmark_be.global.query.QueryStats;
+import dev.group2.landmark_be.global.query.QueryStatsHolder;
+import dev.group2.landmark_be.global.util.FieldSelection;
+import dev.group2.landmark_be.map.dto.response.LandmarkDetailResponse;
+import dev.group2.landmark_be.map.dto.response.LandmarkRasterResponse;
+import dev.group2.landmark_be.map.dto.response.LandmarkResponse;
+import dev.group2.landmark_be.map.dto.response.RiskResponse;
+import dev.group2.landmark_be.note.dto.response.NoteResponse;
+import dev.group2.landmark_be.note.service.NoteService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// 랜드마크 패널에 필요한 래스터/위험도/메모를 동시에 조회해서 한 응답으로 묶는다.
+// 응답 시간은 각 부분의 합이 아니라 가장 느린 부분에 맞춰지고, 한 부분이 실패해도 나머지는 그대로 내려간다.
+@Slf4j
+@Service
+public class LandmarkDetailService {
+
+	// 부분별 조회 시간 (tag: part, outcome)
+	private static final String PART_TIMER = "landmark.detail.part";
+
+	private final LandmarkService landmarkService;
+	private final LandmarkRasterService rasterService;
+	private final RiskService riskService;
+	private final NoteService noteService;
+	private final MeterRegistry meterRegistry;
+	private final long timeoutNanos;
+
+	// 부분마다 DB 커넥션을 하나씩 쓰므로 풀 크기보다 작게 제한, 큐가 차면 요청 스레드에서 직접 실행
+	private final ThreadPoolExecutor executor;
+
+	public LandmarkDetailService(
+		LandmarkService landmarkService,
+		LandmarkRasterService rasterService,
+		RiskService riskService,
+		NoteService noteService,
+		MeterRegistry meterRegistry,
+		@Value("${app.landmark-detail.threads:6}") int threads,
+		@Value("${app.landmark-detail.queue-capacity:100}") int queueCapacity,
+		@Value("${app.landmark-detail.timeout-ms:3000}") long timeoutMillis
+	) {
+		this.landmarkService = landmarkService;
+		this.rasterService = rasterService;
+		this.riskService = riskService;
+		this.noteService = noteService;
+		this.meterRegistry = meterRegistry;
+		this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+
+		AtomicInteger threadNumber = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(queueCapacity),
+			runnable -> {
+				Thread thread = new Thread(runnable, "landmark-detail-" + threadNumber.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			},
+			new ThreadPoolExecutor.CallerRunsPolicy());
+	}
+
+	// userId 가 null(비로그인)이면 notes 는 권한 오류로 표시
+	public LandmarkDetailResponse getLandmarkDetail(Long landmarkId, Integer year, Integer month,
+		Set<LandmarkDetailPart> include, FieldSelection rasterFields, Long userId) {
+		Map<String, ApiError> errors = new LinkedHashMap<>();
+
+		Future<List<LandmarkRasterResponse>> rasters = include.contains(LandmarkDetailPart.RASTERS)
+			? submit(LandmarkDetailPart.RASTERS, () -> rasterService.getRastersByLandmarkIdAndMonth(landmarkId, year, month, rasterFields))
+			: null;
+		Future<RiskResponse> risk = include.contains(LandmarkDetailPart.RISK)
+			? submit(LandmarkDetailPart.RISK, () -> riskService.getRiskScoreByMonth(landmarkId, year, month))
+			: null;
+		Future<List<NoteResponse>> notes = null;
+		if(include.contains(LandmarkDetailPart.NOTES)) {
+			if(userId != null) {
+				notes = submit(LandmarkDetailPart.NOTES, () -> noteService.findMyNotesByLandmarkId(userId, landmarkId));
+			} else {
+				errors.put(LandmarkDetailPart.NOTES.key(), toApiError(ErrorCode.UNAUTHORIZED_ACCESS));
+			}
+		}
+
+		// 기본 정보는 요청 스레드에서 직접 조회, 랜드마크가 없으면 전체 요청을 404로 실패시킨다
+		LandmarkResponse landmark;
+		try {
+			landmark = landmarkService.getLandmarkById(landmarkId);
+		} catch (RuntimeException e) {
+			cancel(rasters, risk, notes);
+			throw e;
+		}
+
+		long deadline = System.nanoTime() + timeoutNanos;
+		return new LandmarkDetailResponse(
+			landmark,
+			await(LandmarkDetailPart.RASTERS, rasters, deadline, errors),
+			await(LandmarkDetailPart.RISK, risk, deadline, errors),
+			await(LandmarkDetailPart.NOTES, notes, deadline, errors),
+			errors
+		);
+	}
+
+	// 요청의 QueryStats 를 작업 스레드에 이어 붙여서 쿼리 예산/메트릭에 합산되게 한다
+	// (CallerRunsPolicy 로 요청 스레드에서 실행될 수 있으므로 끝나면 이전 값으로 되돌림)
+	private <T> Future<T> submit(LandmarkDetailPart part, Callable<T> task) {
+		QueryStats stats = QueryStatsHolder.current();
+		return executor.submit(() -> {
+			QueryStats previous = QueryStatsHolder.current();
+			QueryStatsHolder.attach(stats);
+			Timer.Sample sample = Timer.start(meterRegistry);
+			String outcome = "success";
+			try {
+				return task.call();
+			} catch (Exception e) {
+				outcome = "error";
+				throw e;
+			} finally {
+				sample.stop(meterRegistry.timer(PART_TIMER, "part", part.key(), "outcome", outcome));
+				QueryStatsHolder.attach(previous);
+			}
+		});
+	}
+
+	private <T> T await(LandmarkDetailPart part, Future<T> future, long deadline, Map<String, ApiError> errors) {
+		if(future == null) {
+			return null;
+		}
+		try {
+			return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+		} catch (TimeoutException e) {
+			future.cancel(true);
+			errors.put(part.key(), toApiError(ErrorCode.DETAIL_PART_TIMEOUT));
+		} catch (ExecutionException e) {
+			errors.put(part.key(), toApiError(part, e.getCause()));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			future.cancel(true);
+			errors.put(part.key(), toApiError(ErrorCode.DETAIL_PART_TIMEOUT));
+		}
+		return null;
+	}
+
+	private ApiError toApiError(LandmarkDetailPart part, Throwable cause) {
+		if(cause instanceof BaseException baseException) {
+			return new ApiError(baseException.getMessage(), baseException.getErrorCode().getCode());
+		}
+		log.error("랜드마크 상세 조회 중 {} 조회 실패", part.key(), cause);
+		return new ApiError("알 수 없는 서버 오류가 발생했습니다.", "INTERNAL_SERVER_ERROR");
+	}
+
+	private ApiError toApiError(ErrorCode errorCode) {
+		return new ApiError(errorCode.getMessage(), errorCode.getCode());
+	}
+
+	private void cancel(Future<?>... futures) {
+		for (Future<?> future : futures) {
+			if(future != null) {
+				future.cancel(true);
+			}
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdown();
+	}
+}
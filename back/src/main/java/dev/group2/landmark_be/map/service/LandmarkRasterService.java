@@ -3,8 +3,9 @@ package dev.group2.landmark_be.map.service;
 import java.util.List;
 
 import org.springframework.stereotype.Service;
-import org.wololo.jts2geojson.GeoJSONWriter;
 
+import dev.group2.landmark_be.global.dto.RawJson;
+import dev.group2.landmark_be.global.util.FieldSelection;
 import dev.group2.landmark_be.map.dto.response.LandmarkRasterResponse;
 import dev.group2.landmark_be.map.dto.response.RasterSimplifiedProjection;
 import dev.group2.landmark_be.map.entity.LandmarkRaster;
@@ -16,12 +17,20 @@ import lombok.RequiredArgsConstructor;
 public class LandmarkRasterService {
 
 	private final LandmarkRasterRepository rasterRepository;
-	private final GeoJSONWriter writer = new GeoJSONWriter();
 
 	private static final Double RASTER_SIMPLIFY_TOLERANCE = 0.0005;
+	private static final String GEOM_FIELD = "geomJson";
 
 	public List<LandmarkRasterResponse> getRastersByLandmarkIdAndMonth(Long landmarkId, Integer year, Integer month) {
-		List<RasterSimplifiedProjection> projections = rasterRepository.findSimplifiedByLandmarkIdAndMonth(landmarkId, year, month, RASTER_SIMPLIFY_TOLERANCE);
+		return getRastersByLandmarkIdAndMonth(landmarkId, year, month, FieldSelection.all());
+	}
+
+	// 통계 차트처럼 geomJson 이 필요 없으면 도형을 SQL 에서 계산하지 않는 쿼리를 사용
+	public List<LandmarkRasterResponse> getRastersByLandmarkIdAndMonth(Long landmarkId, Integer year, Integer month,
+		FieldSelection fields) {
+		List<RasterSimplifiedProjection> projections = fields.includes(GEOM_FIELD)
+			? rasterRepository.findSimplifiedByLandmarkIdAndMonth(landmarkId, year, month, RASTER_SIMPLIFY_TOLERANCE)
+			: rasterRepository.findWithoutGeometryByLandmarkIdAndMonth(landmarkId, year, month);
 		return projections.stream()
 			.map(this::convertToResponse)
 			.toList();
@@ -39,7 +48,7 @@ public class LandmarkRasterService {
 			projection.valMin(),
 			projection.valMax(),
 			projection.valStddev(),
-			projection.geomJson()
+			RawJson.of(projection.geomJson())
 		);
 	}
 }
@@ -3,23 +3,27 @@ package dev.group2.landmark_be.map.service;
 import java.net.URI;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 import org.locationtech.jts.geom.Point;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
-import org.wololo.jts2geojson.GeoJSONWriter;
 
 import dev.group2.landmark_be.global.exception.AdmBoundaryNotFoundException;
 import dev.group2.landmark_be.global.exception.ErrorCode;
 import dev.group2.landmark_be.global.exception.LandmarkNotFoundException;
+import dev.group2.landmark_be.global.util.FieldSelection;
+import dev.group2.landmark_be.map.dto.response.LandmarkProjection;
 import dev.group2.landmark_be.map.dto.response.LandmarkResponse;
-import dev.group2.landmark_be.map.entity.AdmBoundary;
-import dev.group2.landmark_be.map.entity.Landmark;
 import dev.group2.landmark_be.map.repository.AdmBoundaryRepository;
 import dev.group2.landmark_be.map.repository.LandmarkRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -28,6 +32,17 @@ public class LandmarkService {
 
 	private final LandmarkRepository landmarkRepository;
 	private final AdmBoundaryRepository admBoundaryRepository;
+	private final RestTemplate restTemplate;
+	private final MeterRegistry meterRegistry;
+
+	// GeoServer 호출 시간/실패 (tag: operation, outcome)
+	private static final String GEOSERVER_TIMER = "geoserver.requests";
+
+	// GeoServer landmark 레이어 속성 (fields= 허용 값)
+	public static final Set<String> WFS_FIELDS = Set.of("name", "address", "adm_code", "geom");
+
+	@Value("${app.geoserver.url}")
+	private String geoServerUrl;
 
 	@Transactional(readOnly = true)
 	public List<LandmarkResponse> findAllLandmarks() {
@@ -37,31 +52,38 @@ public class LandmarkService {
 			.map(this::convertFromObjectArray)
 			.collect(Collectors.toList());
 	}
-	public Map<String, Object> getLandmarkWfsData() {
-		RestTemplate restTemplate = new RestTemplate();
-
+	public Map<String, Object> getLandmarkWfsData(FieldSelection fields) {
 		// 1. 요청할 URL 만들기 (파라미터를 보기 좋게 분리)
-		URI uri = UriComponentsBuilder
-			.fromHttpUrl("http://localhost:9090/geoserver/Landmark/ows")
+		UriComponentsBuilder builder = UriComponentsBuilder
+			.fromHttpUrl(geoServerUrl + "/Landmark/ows")
 			.queryParam("service", "WFS")
 			.queryParam("version", "1.0.0")
 			.queryParam("request", "GetFeature")
 			.queryParam("typeName", "Landmark:landmark")
 			.queryParam("maxFeatures", "50")
-			.queryParam("outputFormat", "application/json")
-			.build()
-			.toUri();
+			.queryParam("outputFormat", "application/json");
+		// fields 지정 시 GeoServer 가 해당 속성만 인코딩 (geom 을 빼면 도형 직렬화 생략)
+		if(!fields.isAll()) {
+			builder.queryParam("propertyName", String.join(",", new TreeSet<>(fields.fields())));
+		}
+		URI uri = builder.build().toUri();
 
 		// 2. GET 요청 보내기 (결과를 Map으로 받으면 JSON 구조가 유지됨)
+		Timer.Sample sample = Timer.start(meterRegistry);
+		String outcome = "success";
 		try {
 			return restTemplate.getForObject(uri, Map.class);
 		} catch (Exception e) {
+			outcome = "failure";
 			e.printStackTrace();
 			throw new RuntimeException("GeoServer 데이터 가져오기 실패: " + e.getMessage());
+		} finally {
+			sample.stop(meterRegistry.timer(GEOSERVER_TIMER, "operation", "wfs-get-feature", "outcome", outcome));
 		}
 	}
 
-	private LandmarkResponse convertFromObjectArray(Object[] row) {
+	// 벤치마크(src/jmh)에서 직접 호출하므로 package-private
+	LandmarkResponse convertFromObjectArray(Object[] row) {
 		// row: [id, name, address, latitude, longitude, admCode, admName]
 		Long id = ((Number) row[0]).longValue();
 		String name = (String) row[1];
@@ -84,7 +106,7 @@ public class LandmarkService {
 	}
 
 	public LandmarkResponse getLandmarkById(Long id) {
-		Landmark landmark = landmarkRepository.findByIdWithAdmBoundary(id)
+		LandmarkProjection landmark = landmarkRepository.findProjectionById(id)
 			.orElseThrow(() -> new LandmarkNotFoundException(ErrorCode.LANDMARK_NOT_FOUND));
 		return convertToResponse(landmark);
 	}
@@ -93,7 +115,7 @@ public class LandmarkService {
 		if(!admBoundaryRepository.existsById(admCode)) {
 			throw new AdmBoundaryNotFoundException(ErrorCode.ADM_BOUNDARY_NOT_FOUND);
 		}
-		List<Landmark> landmarks = landmarkRepository.findAllByAdmCodeWithAdmBoundary(admCode);
+		List<LandmarkProjection> landmarks = landmarkRepository.findAllByAdmCode(admCode);
 		if(landmarks.isEmpty()) {
 			return List.of();
 		}
@@ -102,16 +124,15 @@ public class LandmarkService {
 			.collect(Collectors.toList());
 	}
 
-	public LandmarkResponse convertToResponse(Landmark entity) {
+	public LandmarkResponse convertToResponse(LandmarkProjection projection) {
 		// GeoJSON 변환 제거 - 프론트엔드는 위도/경도만 사용
-		AdmBoundary admBoundary = entity.getAdmBoundary();
-		Point point = entity.getGeom();
+		Point point = projection.geom();
 		return new LandmarkResponse(
-			entity.getId(),
-			entity.getName(),
-			entity.getAddress(),
-			admBoundary.getAdmCode(),
-			admBoundary.getAdmName(),
+			projection.id(),
+			projection.name(),
+			projection.address(),
+			projection.admCode(),
+			projection.admName(),
 			null,  // geomJson 제거
 			point.getY(),	// 위도
 			point.getX()	// 경도
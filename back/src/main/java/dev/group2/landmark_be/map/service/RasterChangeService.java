@@ -0,0 +1,50 @@
+package dev.group2.landmark_be.map.service;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import dev.group2.landmark_be.global.exception.ErrorCode;
+import dev.group2.landmark_be.global.exception.InvalidRequestException;
+import dev.group2.landmark_be.map.dto.response.RasterChangeResponse;
+import dev.group2.landmark_be.map.repository.LandmarkRasterRepository;
+import lombok.RequiredArgsConstructor;
+
+// 두 달 사이 식생/수분 지수가 가장 많이 변한 랜드마크 (현장 점검 우선순위)
+@Service
+@RequiredArgsConstructor
+public class RasterChangeService {
+
+	private static final Set<String> INDEX_TYPES = Set.of("NDVI", "NDMI");
+
+	private final LandmarkRasterRepository landmarkRasterRepository;
+
+	// from, to: YYYY-MM, minDelta: 최소 |delta|, minSigma: 최소 |delta| / 표준편차 (null 이면 검사하지 않음)
+	@Transactional(readOnly = true)
+	public List<RasterChangeResponse> getTopChanges(String indexType, String from, String to, int k,
+		ChangeDirection direction, String admCode, double minDelta, Double minSigma) {
+		String index = indexType.trim().toUpperCase();
+		YearMonth fromMonth = parseYearMonth(from);
+		YearMonth toMonth = parseYearMonth(to);
+		if(!INDEX_TYPES.contains(index) || fromMonth.equals(toMonth)) {
+			throw new InvalidRequestException(ErrorCode.INVALID_RASTER_CHANGE_REQUEST);
+		}
+		return landmarkRasterRepository.findTopChanges(
+			index,
+			fromMonth.getYear(), fromMonth.getMonthValue(),
+			toMonth.getYear(), toMonth.getMonthValue(),
+			admCode, direction.sign(), minDelta, minSigma, k);
+	}
+
+	private YearMonth parseYearMonth(String value) {
+		try {
+			return YearMonth.parse(value.trim());
+		} catch (DateTimeParseException e) {
+			throw new InvalidRequestException(ErrorCode.INVALID_RASTER_CHANGE_REQUEST);
+		}
+	}
+}
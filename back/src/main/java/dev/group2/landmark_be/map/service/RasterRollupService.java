@@ -0,0 +1,45 @@
+package dev.group2.landmark_be.map.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import dev.group2.landmark_be.global.exception.ErrorCode;
+import dev.group2.landmark_be.global.exception.InvalidRequestException;
+import dev.group2.landmark_be.map.dto.response.AdmRollupResponse;
+import dev.group2.landmark_be.map.dto.response.LandmarkRollupResponse;
+import dev.group2.landmark_be.map.repository.AdmBoundaryRepository;
+import dev.group2.landmark_be.map.repository.LandmarkRasterRepository;
+import lombok.RequiredArgsConstructor;
+
+// 장기 추세 차트용 사전 집계 조회 (월별 원본 대신 분기/연간, 행정구역 월별 롤업을 읽는다)
+// 롤업 갱신은 DB 트리거가 담당 (db/migration/003_raster_rollups.sql)
+@Service
+@RequiredArgsConstructor
+public class RasterRollupService {
+
+	private static final int MAX_YEAR_SPAN = 30;
+
+	private final LandmarkRasterRepository landmarkRasterRepository;
+	private final AdmBoundaryRepository admBoundaryRepository;
+
+	@Transactional(readOnly = true)
+	public List<LandmarkRollupResponse> getLandmarkRollups(Long landmarkId, RollupPeriod period,
+		Integer fromYear, Integer toYear, String indexType) {
+		validateYearRange(fromYear, toYear);
+		return landmarkRasterRepository.findRollups(landmarkId, period.name(), fromYear, toYear, indexType);
+	}
+
+	@Transactional(readOnly = true)
+	public List<AdmRollupResponse> getAdmRollups(String admCode, Integer fromYear, Integer toYear, String indexType) {
+		validateYearRange(fromYear, toYear);
+		return admBoundaryRepository.findRollups(admCode, fromYear, toYear, indexType);
+	}
+
+	private void validateYearRange(Integer fromYear, Integer toYear) {
+		if(fromYear > toYear || toYear - fromYear >= MAX_YEAR_SPAN) {
+			throw new InvalidRequestException(ErrorCode.INVALID_YEAR_RANGE);
+		}
+	}
+}
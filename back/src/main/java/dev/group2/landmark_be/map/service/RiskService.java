@@ -4,8 +4,10 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.List;
 
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
+import dev.group2.landmark_be.global.config.CacheConfig;
 import dev.group2.landmark_be.global.exception.DataNotFoundException;
 import dev.group2.landmark_be.global.exception.ErrorCode;
 import dev.group2.landmark_be.global.exception.LandmarkNotFoundException;
@@ -27,6 +29,9 @@ public class RiskService {
 	private static final BigDecimal W_NDVI = BigDecimal.valueOf(0.3);
 	private static final BigDecimal W_NDMI = BigDecimal.valueOf(0.7);
 
+	// 인기 랜드마크-월(popularity hot set)만 캐시에 넣고 꺼낸다, 나머지는 매번 계산
+	@Cacheable(cacheNames = CacheConfig.LANDMARK_RISK, key = "#landmarkId + ':' + #year + ':' + #month",
+		condition = "@popularityService.isHot(#landmarkId, #year, #month)")
 	public RiskResponse getRiskScoreByMonth(Long landmarkId, Integer year, Integer month) {
 
 		if(!landmarkRepository.existsById(landmarkId)) {
@@ -40,7 +45,8 @@ public class RiskService {
 		return calculateAndConvert(stats, landmarkId, year, month);
 	}
 
-	private RiskResponse calculateAndConvert(List<RasterStatsProjection> stats, Long landmarkId, Integer year, Integer month) {
+	// 벤치마크(src/jmh)에서 직접 호출하므로 package-private
+	RiskResponse calculateAndConvert(List<RasterStatsProjection> stats, Long landmarkId, Integer year, Integer month) {
 		BigDecimal ndmiMean = getMean(stats, "NDMI");
 		BigDecimal ndviMean = getMean(stats, "NDVI");
 
@@ -0,0 +1,19 @@
+package dev.group2.landmark_be.map.service;
+
+import java.util.Arrays;
+
+import dev.group2.landmark_be.global.exception.ErrorCode;
+import dev.group2.landmark_be.global.exception.InvalidRequestException;
+
+// 랜드마크 롤업 단위 (app.landmark_raster_rollup.period_type)
+public enum RollupPeriod {
+	QUARTER,
+	YEAR;
+
+	public static RollupPeriod parse(String period) {
+		return Arrays.stream(values())
+			.filter(value -> value.name().equalsIgnoreCase(period.trim()))
+			.findFirst()
+			.orElseThrow(() -> new InvalidRequestException(ErrorCode.INVALID_ROLLUP_PERIOD));
+	}
+}
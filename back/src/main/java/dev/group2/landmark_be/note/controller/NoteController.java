@@ -3,24 +3,33 @@ package dev.group2.landmark_be.note.controller;
 import java.util.List;
 
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import dev.group2.landmark_be.auth.entity.User;
 import dev.group2.landmark_be.global.dto.ApiResponse;
+import dev.group2.landmark_be.global.util.GeometryUtils;
 import dev.group2.landmark_be.note.dto.request.NoteRequest;
+import dev.group2.landmark_be.note.dto.response.NoteCountResponse;
 import dev.group2.landmark_be.note.dto.response.NoteResponse;
+import dev.group2.landmark_be.note.dto.response.NoteSearchResponse;
 import dev.group2.landmark_be.note.service.NoteService;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
 
 @RestController
 @RequestMapping("/api/notes")
 @RequiredArgsConstructor
+@Validated
 public class NoteController {
 
 	private final NoteService noteService;
@@ -35,6 +44,37 @@ public class NoteController {
 		return ApiResponse.success(note);
 	}
 
+	// 랜드마크별 내 메모 개수 (지도 배지 표시용), admCode 또는 bbox로 범위 제한 가능
+	@GetMapping("/counts")
+	public ApiResponse<List<NoteCountResponse>> countMyNotesByLandmark(
+		@RequestParam(required = false) String admCode,
+		@RequestParam(required = false) String bbox,
+		@AuthenticationPrincipal User user
+	) {
+		List<NoteCountResponse> counts;
+		if(admCode != null) {
+			counts = noteService.countMyNotesByLandmarkInAdm(user.getId(), admCode);
+		} else if(bbox != null) {
+			counts = noteService.countMyNotesByLandmarkInBbox(user.getId(), GeometryUtils.parseBbox(bbox));
+		} else {
+			counts = noteService.countMyNotesByLandmark(user.getId());
+		}
+		return ApiResponse.success(counts);
+	}
+
+	// 내 메모 전문 검색 (landmarkId, admCode로 범위 제한 가능)
+	@GetMapping("/search")
+	public ApiResponse<List<NoteSearchResponse>> searchMyNotes(
+		@RequestParam("q") @NotBlank String query,
+		@RequestParam(required = false) Long landmarkId,
+		@RequestParam(required = false) String admCode,
+		@RequestParam(defaultValue = "20") @Min(1) @Max(100) Integer limit,
+		@AuthenticationPrincipal User user
+	) {
+		List<NoteSearchResponse> results = noteService.searchMyNotes(user.getId(), query, landmarkId, admCode, limit);
+		return ApiResponse.success(results);
+	}
+
 	@GetMapping("/{landmarkId}")
 	public ApiResponse<List<NoteResponse>> findMyNotesByLandmark(
 		@PathVariable Long landmarkId,
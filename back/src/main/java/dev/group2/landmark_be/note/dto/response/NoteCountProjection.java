@@ -0,0 +1,10 @@
+package dev.group2.landmark_be.note.dto.response;
+
+import java.time.LocalDateTime;
+
+public record NoteCountProjection(
+	Long landmarkId,
+	Long noteCount,
+	LocalDateTime latestCreatedAt
+) {
+}
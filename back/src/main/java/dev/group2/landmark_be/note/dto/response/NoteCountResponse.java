@@ -0,0 +1,9 @@
+package dev.group2.landmark_be.note.dto.response;
+
+import java.time.LocalDateTime;
+
+public record NoteCountResponse(
+	Long landmarkId,
+	long noteCount,
+	LocalDateTime latestCreatedAt	// 가장 최근에 작성한 메모 시각
+) {}
@@ -0,0 +1,14 @@
+package dev.group2.landmark_be.note.dto.response;
+
+import java.time.LocalDateTime;
+
+public record NoteSearchProjection(
+	Long id,
+	Long landmarkId,
+	String content,
+	String snippet,
+	Double rank,
+	LocalDateTime createdAt,
+	LocalDateTime updatedAt
+) {
+}
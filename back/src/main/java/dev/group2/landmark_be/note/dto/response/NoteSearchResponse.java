@@ -0,0 +1,13 @@
+package dev.group2.landmark_be.note.dto.response;
+
+import java.time.LocalDateTime;
+
+public record NoteSearchResponse(
+	Long id,
+	Long landmarkId,
+	String content,
+	String snippet,		// HTML 이스케이프된 본문 일부, 마크업은 검색어를 감싼 <mark> 뿐
+	Double rank,		// ts_rank 점수 (높을수록 관련도 높음)
+	LocalDateTime createdAt,
+	LocalDateTime updatedAt
+) {}
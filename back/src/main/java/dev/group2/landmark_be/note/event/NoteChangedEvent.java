@@ -0,0 +1,13 @@
+package dev.group2.landmark_be.note.event;
+
+// 메모 저장/삭제 후 발행되는 이벤트 (커밋 이후 SSE 구독자에게 전달)
+public record NoteChangedEvent(
+	Long userId,
+	Long landmarkId,
+	Long noteId,
+	Action action
+) {
+	public enum Action {
+		CREATED, DELETED
+	}
+}
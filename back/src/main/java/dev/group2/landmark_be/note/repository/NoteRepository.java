@@ -3,8 +3,13 @@ package dev.group2.landmark_be.note.repository;
 import java.util.List;
 import java.util.Optional;
 
+import org.locationtech.jts.geom.Polygon;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import dev.group2.landmark_be.note.dto.response.NoteCountProjection;
+import dev.group2.landmark_be.note.dto.response.NoteSearchProjection;
 import dev.group2.landmark_be.note.entity.Note;
 
 public interface NoteRepository extends JpaRepository<Note, Long> {
@@ -14,4 +19,92 @@ public interface NoteRepository extends JpaRepository<Note, Long> {
 	List<Note> findAllByUser_IdAndLandmarkIdOrderByCreatedAtDesc(Long userId, Long landmarkId);
 
 	Optional<Note> findByIdAndUser_Id(Long noteId, Long userId);
+
+	// 사용자의 랜드마크별 메모 개수, 최근 작성 시각 (전체 랜드마크)
+	@Query("""
+		SELECT new dev.group2.landmark_be.note.dto.response.NoteCountProjection(
+			n.landmarkId, COUNT(n), MAX(n.createdAt))
+		FROM Note n
+		WHERE n.user.id = :userId
+		GROUP BY n.landmarkId
+		""")
+	List<NoteCountProjection> countByUserGroupByLandmark(@Param("userId") Long userId);
+
+	// 특정 시도에 속한 랜드마크만 집계
+	@Query("""
+		SELECT new dev.group2.landmark_be.note.dto.response.NoteCountProjection(
+			n.landmarkId, COUNT(n), MAX(n.createdAt))
+		FROM Note n
+		JOIN Landmark l ON l.id = n.landmarkId
+		WHERE n.user.id = :userId
+		AND l.admBoundary.admCode = :admCode
+		GROUP BY n.landmarkId
+		""")
+	List<NoteCountProjection> countByUserAndAdmCodeGroupByLandmark(
+		@Param("userId") Long userId,
+		@Param("admCode") String admCode
+	);
+
+	// 지도 영역(bbox) 안의 랜드마크만 집계
+	@Query("""
+		SELECT new dev.group2.landmark_be.note.dto.response.NoteCountProjection(
+			n.landmarkId, COUNT(n), MAX(n.createdAt))
+		FROM Note n
+		JOIN Landmark l ON l.id = n.landmarkId
+		WHERE n.user.id = :userId
+		AND st_intersects(l.geom, :bbox) = true
+		GROUP BY n.landmarkId
+		""")
+	List<NoteCountProjection> countByUserInBboxGroupByLandmark(
+		@Param("userId") Long userId,
+		@Param("bbox") Polygon bbox
+	);
+
+	// 메모 전문 검색 (content_tsv GIN 인덱스 사용, db/migration/001 참고)
+	// query 는 접두 검색 tsquery ('공원':* & '산책':*), 조사가 붙은 낱말("공원에서")도 찾는다 (NoteService.toPrefixQuery)
+	// 상위 limit개를 먼저 고른 뒤에만 ts_headline(비용 큼)을 계산하고,
+	// 본문을 HTML 이스케이프한 뒤 강조하므로 스니펫의 마크업은 <mark> 뿐이다.
+	@Query(value = """
+		SELECT
+			t.id,
+			t.landmark_id as landmarkId,
+			t.content,
+			ts_headline('simple',
+				replace(replace(replace(replace(replace(t.content,
+					'&', '&amp;'), '<', '&lt;'), '>', '&gt;'), '"', '&quot;'), '''', '&#39;'),
+				t.q,
+				'StartSel=<mark>, StopSel=</mark>, MaxWords=20, MinWords=5, MaxFragments=2') as snippet,
+			t.rank,
+			t.created_at as createdAt,
+			t.updated_at as updatedAt
+		FROM (
+			SELECT
+				n.id,
+				n.landmark_id,
+				n.content,
+				n.created_at,
+				n.updated_at,
+				q,
+				CAST(ts_rank(n.content_tsv, q) AS double precision) as rank
+			FROM
+				app.notes n
+				CROSS JOIN to_tsquery('simple', :query) q
+				LEFT JOIN app.landmark l ON l.id = n.landmark_id
+			WHERE
+				n.user_id = :userId
+				AND n.content_tsv @@ q
+				AND (CAST(:landmarkId AS bigint) IS NULL OR n.landmark_id = :landmarkId)
+				AND (CAST(:admCode AS text) IS NULL OR l.adm_code = :admCode)
+			ORDER BY rank DESC, n.created_at DESC
+			LIMIT :limit
+		) t
+		ORDER BY t.rank DESC, t.created_at DESC
+		""", nativeQuery = true)
+	List<NoteSearchProjection> searchByUser(
+		@Param("userId") Long userId,
+		@Param("query") String query,
+		@Param("landmarkId") Long landmarkId,
+		@Param("admCode") String admCode,
+		@Param("limit") Integer limit
+	);
 }
@@ -1,21 +1,32 @@
 package dev.group2.landmark_be.note.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
+import org.locationtech.jts.geom.Polygon;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import dev.group2.landmark_be.auth.entity.User;
 import dev.group2.landmark_be.auth.repository.UserRepository;
+import dev.group2.landmark_be.global.config.CacheConfig;
 import dev.group2.landmark_be.global.exception.ErrorCode;
 import dev.group2.landmark_be.global.exception.NoteNotFoundException;
 import dev.group2.landmark_be.global.exception.UnauthorizedAccessException;
+import dev.group2.landmark_be.global.invalidation.InvalidationPublisher;
 import dev.group2.landmark_be.note.dto.request.NoteRequest;
+import dev.group2.landmark_be.note.dto.response.NoteCountProjection;
+import dev.group2.landmark_be.note.dto.response.NoteCountResponse;
 import dev.group2.landmark_be.note.dto.response.NoteResponse;
+import dev.group2.landmark_be.note.dto.response.NoteSearchResponse;
 import dev.group2.landmark_be.note.entity.Note;
+import dev.group2.landmark_be.note.event.NoteChangedEvent;
 import dev.group2.landmark_be.note.repository.NoteRepository;
 import lombok.RequiredArgsConstructor;
 
@@ -25,8 +36,15 @@ public class NoteService {
 
 	private final NoteRepository noteRepository;
 	private final UserRepository userRepository;
+	private final ApplicationEventPublisher eventPublisher;
+	private final InvalidationPublisher invalidationPublisher;
+
+	// 다른 노드의 메모 개수 캐시 무효화 이벤트 테이블 이름 (키: userId)
+	private static final String INVALIDATION_TABLE = "notes";
+	private static final int MAX_SEARCH_TERMS = 10;
 
 	@Transactional
+	@CacheEvict(cacheNames = CacheConfig.NOTE_COUNTS, key = "#userId")
 	public NoteResponse saveNote(Long userId, Long landmarkId, NoteRequest noteRequest) {
 		User user = userRepository.findById(userId)
 			.orElseThrow(() -> new UnauthorizedAccessException(ErrorCode.UNAUTHORIZED_ACCESS));
@@ -40,6 +58,9 @@ public class NoteService {
 			.build();
 
 		Note savedNote = noteRepository.save(note);
+		invalidationPublisher.publish(INVALIDATION_TABLE, userId);
+		eventPublisher.publishEvent(
+			new NoteChangedEvent(userId, landmarkId, savedNote.getId(), NoteChangedEvent.Action.CREATED));
 		return convertToResponse(savedNote);
 	}
 
@@ -52,6 +73,7 @@ public class NoteService {
 	}
 
 	@Transactional
+	@CacheEvict(cacheNames = CacheConfig.NOTE_COUNTS, key = "#currentUserId")
 	public void deleteNote(Long noteId, Long currentUserId) {
 		Note note = noteRepository.findById(noteId)
 			.orElseThrow(() -> new NoteNotFoundException(ErrorCode.NOTE_NOT_FOUND));
@@ -60,6 +82,80 @@ public class NoteService {
 			throw new UnauthorizedAccessException(ErrorCode.UNAUTHORIZED_ACCESS);
 		}
 		noteRepository.delete(note);
+		invalidationPublisher.publish(INVALIDATION_TABLE, currentUserId);
+		eventPublisher.publishEvent(
+			new NoteChangedEvent(currentUserId, note.getLandmarkId(), noteId, NoteChangedEvent.Action.DELETED));
+	}
+
+	// 지도 배지용: 전체 랜드마크의 메모 개수 집계는 사용자별로 캐시
+	// 저장/삭제 직후 evict 된 캐시를 지연된 복제본 값으로 다시 채우지 않도록 주 DB에서 읽는다 (readOnly 미지정)
+	@Cacheable(cacheNames = CacheConfig.NOTE_COUNTS, key = "#userId")
+	@Transactional
+	public List<NoteCountResponse> countMyNotesByLandmark(Long userId) {
+		return toCountResponses(noteRepository.countByUserGroupByLandmark(userId));
+	}
+
+	@Transactional(readOnly = true)
+	public List<NoteCountResponse> countMyNotesByLandmarkInAdm(Long userId, String admCode) {
+		return toCountResponses(noteRepository.countByUserAndAdmCodeGroupByLandmark(userId, admCode));
+	}
+
+	@Transactional(readOnly = true)
+	public List<NoteCountResponse> countMyNotesByLandmarkInBbox(Long userId, Polygon bbox) {
+		return toCountResponses(noteRepository.countByUserInBboxGroupByLandmark(userId, bbox));
+	}
+
+	// 내 메모 전문 검색: 관련도 순 정렬, 강조 스니펫 포함 (본문/작성 시각도 검색 쿼리에서 함께 읽는다)
+	@Transactional(readOnly = true)
+	public List<NoteSearchResponse> searchMyNotes(Long userId, String query, Long landmarkId, String admCode, int limit) {
+		String prefixQuery = toPrefixQuery(query);
+		if(prefixQuery == null) {
+			return List.of();
+		}
+		return noteRepository.searchByUser(userId, prefixQuery, landmarkId, admCode, limit).stream()
+			.map(hit -> new NoteSearchResponse(
+				hit.id(),
+				hit.landmarkId(),
+				hit.content(),
+				hit.snippet(),
+				hit.rank(),
+				hit.createdAt(),
+				hit.updatedAt()
+			))
+			.toList();
+	}
+
+	// 'simple' 설정은 어간 처리를 하지 않으므로 "공원" 으로 "공원에서" 를 찾으려면 접두 검색이 필요하다
+	// 글자/숫자만 남겨 낱말마다 '낱말':* 로 만들고 모두 포함(&)하도록 묶는다 (tsquery 연산자는 들어가지 않음)
+	static String toPrefixQuery(String query) {
+		if(query == null) {
+			return null;
+		}
+		List<String> terms = new ArrayList<>();
+		StringBuilder term = new StringBuilder();
+		for (int i = 0; i <= query.length() && terms.size() < MAX_SEARCH_TERMS; i++) {
+			int ch = i < query.length() ? query.codePointAt(i) : ' ';
+			if(Character.isLetterOrDigit(ch)) {
+				term.appendCodePoint(Character.toLowerCase(ch));
+				if(Character.isSupplementaryCodePoint(ch)) {
+					i++;
+				}
+			} else if(!term.isEmpty()) {
+				terms.add("'" + term + "':*");
+				term.setLength(0);
+			}
+		}
+		return terms.isEmpty() ? null : String.join(" & ", terms);
+	}
+
+	private List<NoteCountResponse> toCountResponses(List<NoteCountProjection> projections) {
+		return projections.stream()
+			.map(projection -> new NoteCountResponse(
+				projection.landmarkId(),
+				projection.noteCount(),
+				projection.latestCreatedAt()
+			))
+			.toList();
 	}
 
 	private NoteResponse convertToResponse(Note note) {
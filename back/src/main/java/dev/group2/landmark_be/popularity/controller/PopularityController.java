@@ -0,0 +1,34 @@
+package dev.group2.landmark_be.popularity.controller;
+
+import java.util.List;
+
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import dev.group2.landmark_be.global.dto.ApiResponse;
+import dev.group2.landmark_be.popularity.dto.response.PopularLandmarkResponse;
+import dev.group2.landmark_be.popularity.service.PopularityService;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@RequestMapping("/api/popularity")
+@RestController
+@Validated
+public class PopularityController {
+
+	private final PopularityService popularityService;
+
+	// 최근 days 일 동안 조회가 많은 랜드마크-월 (래스터/위험도/상세 조회 합계, 집계는 flush 주기만큼 늦다)
+	@GetMapping("/landmarks")
+	public ApiResponse<List<PopularLandmarkResponse>> getPopularLandmarks(
+		@RequestParam(defaultValue = "7") @Min(1) @Max(30) Integer days,
+		@RequestParam(defaultValue = "20") @Min(1) @Max(500) Integer limit
+	) {
+		return ApiResponse.success(popularityService.getTopLandmarkMonths(days, limit));
+	}
+}
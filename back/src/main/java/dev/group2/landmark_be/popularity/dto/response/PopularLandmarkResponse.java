@@ -0,0 +1,11 @@
+package dev.group2.landmark_be.popularity.dto.response;
+
+// 기간 내 조회 수 상위 랜드마크-월 (종류 합계)
+public record PopularLandmarkResponse(
+	Long landmarkId,
+	String name,
+	Integer year,
+	Integer month,
+	Long hits
+) {
+}
@@ -0,0 +1,23 @@
+package dev.group2.landmark_be.popularity.filter;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import dev.group2.landmark_be.popularity.service.AccessEventRecorder;
+import dev.group2.landmark_be.popularity.service.PopularityProperties;
+
+@Configuration
+public class AccessRecordingConfig {
+
+	// app.popularity.enabled=false 면 등록만 하고 끈다 (기록 스레드도 시작하지 않음)
+	@Bean
+	public FilterRegistrationBean<AccessRecordingFilter> accessRecordingFilter(AccessEventRecorder recorder,
+		PopularityProperties properties) {
+		FilterRegistrationBean<AccessRecordingFilter> registration = new FilterRegistrationBean<>(
+			new AccessRecordingFilter(recorder));
+		registration.addUrlPatterns("/api/landmarks/*", "/api/notes/*");
+		registration.setEnabled(properties.enabled());
+		return registration;
+	}
+}
@@ -0,0 +1,72 @@
+package dev.group2.landmark_be.popularity.filter;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import dev.group2.landmark_be.popularity.service.AccessEventRecorder;
+import dev.group2.landmark_be.popularity.service.AccessKind;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+// 랜드마크/래스터/위험도/메모 조회가 성공하면 접근 이벤트를 기록 (응답을 만든 뒤, 링 버퍼에 넣기만 함)
+// 엔드포인트는 URI 템플릿으로, landmarkId 는 경로 변수로 구분하므로 컨트롤러는 건드리지 않는다
+@RequiredArgsConstructor
+public class AccessRecordingFilter extends OncePerRequestFilter {
+
+	private static final Map<String, AccessKind> KINDS = Map.of(
+		"/api/landmarks/{landmarkId}", AccessKind.LANDMARK,
+		"/api/landmarks/{landmarkId}/rasters", AccessKind.RASTER,
+		"/api/landmarks/{landmarkId}/risk", AccessKind.RISK,
+		"/api/landmarks/{landmarkId}/detail", AccessKind.DETAIL,
+		"/api/notes/{landmarkId}", AccessKind.NOTE
+	);
+
+	private final AccessEventRecorder recorder;
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return !"GET".equals(request.getMethod());
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws
+		ServletException, IOException {
+		filterChain.doFilter(request, response);
+		if(response.getStatus() >= 400) {
+			return;
+		}
+		Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		AccessKind kind = pattern != null ? KINDS.get(pattern.toString()) : null;
+		if(kind == null) {
+			return;
+		}
+		@SuppressWarnings("unchecked")
+		Map<String, String> variables = (Map<String, String>) request.getAttribute(
+			HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+		long landmarkId = variables != null ? parseLong(variables.get("landmarkId")) : 0;
+		recorder.record(landmarkId, parseInt(request.getParameter("year")), parseInt(request.getParameter("month")), kind);
+	}
+
+	// 검증은 컨트롤러가 이미 했으므로 여기서는 형식이 틀리면 기록하지 않을 뿐
+	private static long parseLong(String value) {
+		try {
+			return value != null ? Long.parseLong(value) : 0;
+		} catch (NumberFormatException e) {
+			return 0;
+		}
+	}
+
+	private static Integer parseInt(String value) {
+		try {
+			return value != null ? Integer.valueOf(value) : null;
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+}
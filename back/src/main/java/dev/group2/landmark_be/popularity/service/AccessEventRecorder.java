@@ -0,0 +1,74 @@
+package dev.group2.landmark_be.popularity.service;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongConsumer;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// 요청 스레드에서 호출: 이벤트를 long 하나로 묶어 링 버퍼에 넣기만 한다 (DB/할당/락 없음)
+// 비트 구성: landmarkId(상위 44) | 연월(16, year * 12 + month - 1, 월 없으면 0) | 종류(4, ordinal + 1)
+@Component
+@EnableConfigurationProperties(PopularityProperties.class)
+public class AccessEventRecorder {
+
+	private static final int KIND_BITS = 4;
+	private static final int MONTH_BITS = 16;
+	private static final long MAX_LANDMARK_ID = (1L << (Long.SIZE - 1 - KIND_BITS - MONTH_BITS)) - 1;
+
+	private final AccessRingBuffer buffer;
+	private final LongAdder dropped = new LongAdder();
+
+	public AccessEventRecorder(PopularityProperties properties, MeterRegistry meterRegistry) {
+		this.buffer = new AccessRingBuffer(properties.bufferCapacity());
+		Gauge.builder("popularity.buffer.size", buffer, AccessRingBuffer::size).register(meterRegistry);
+		FunctionCounter.builder("popularity.events.dropped", dropped, LongAdder::sum).register(meterRegistry);
+	}
+
+	// year, month 는 둘 다 있을 때만 기록 (랜드마크 단건, 메모 조회는 월이 없다)
+	public void record(long landmarkId, Integer year, Integer month, AccessKind kind) {
+		if(landmarkId <= 0 || landmarkId > MAX_LANDMARK_ID) {
+			return;
+		}
+		if(!buffer.offer(pack(landmarkId, yearMonth(year, month), kind))) {
+			dropped.increment();
+		}
+	}
+
+	// 기록 스레드(AccessEventWriter) 전용
+	int drain(LongConsumer consumer, int max) {
+		return buffer.drain(consumer, max);
+	}
+
+	int capacity() {
+		return buffer.capacity();
+	}
+
+	static int yearMonth(Integer year, Integer month) {
+		if(year == null || month == null || year < 1 || month < 1 || month > 12) {
+			return 0;
+		}
+		int yearMonth = year * 12 + month - 1;
+		return yearMonth < (1 << MONTH_BITS) ? yearMonth : 0;
+	}
+
+	static long pack(long landmarkId, int yearMonth, AccessKind kind) {
+		return landmarkId << (MONTH_BITS + KIND_BITS) | (long) yearMonth << KIND_BITS | (kind.ordinal() + 1);
+	}
+
+	static long landmarkId(long event) {
+		return event >>> (MONTH_BITS + KIND_BITS);
+	}
+
+	static int yearMonth(long event) {
+		return (int) (event >>> KIND_BITS) & ((1 << MONTH_BITS) - 1);
+	}
+
+	static AccessKind kind(long event) {
+		return AccessKind.of((int) (event & ((1 << KIND_BITS) - 1)) - 1);
+	}
+}
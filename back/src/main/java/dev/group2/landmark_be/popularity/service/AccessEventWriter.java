@@ -0,0 +1,129 @@
+package dev.group2.landmark_be.popularity.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// 링 버퍼를 주기적으로 비워 (일, 랜드마크, 연월, 종류)별 건수로 합친 뒤 한 번의 배치로 더한다.
+// 같은 키가 여러 노드에서 동시에 올라오므로 키 순서로 정렬해서 쓴다 (행 잠금 순서가 같아 교착 없음).
+// 쓰기에 실패한 묶음은 다시 시도하지 않고 버린다 (통계용, 요청 처리에는 영향 없음).
+@Slf4j
+@Component
+public class AccessEventWriter {
+
+	private static final String UPSERT_SQL = """
+		INSERT INTO app.landmark_access (day, landmark_id, year, month, kind, hits)
+		VALUES (CURRENT_DATE, ?, ?, ?, ?, ?)
+		ON CONFLICT (day, landmark_id, year, month, kind)
+		DO UPDATE SET hits = app.landmark_access.hits + EXCLUDED.hits
+		""";
+	private static final String PURGE_SQL = "DELETE FROM app.landmark_access WHERE day < CURRENT_DATE - CAST(? AS integer)";
+
+	private final AccessEventRecorder recorder;
+	private final PopularityService popularityService;
+	private final JdbcTemplate jdbcTemplate;
+	private final PopularityProperties properties;
+	private final MeterRegistry meterRegistry;
+
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "popularity-writer");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	public AccessEventWriter(AccessEventRecorder recorder, PopularityService popularityService,
+		JdbcTemplate jdbcTemplate, PopularityProperties properties, MeterRegistry meterRegistry) {
+		this.recorder = recorder;
+		this.popularityService = popularityService;
+		this.jdbcTemplate = jdbcTemplate;
+		this.properties = properties;
+		this.meterRegistry = meterRegistry;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void start() {
+		if(!properties.enabled()) {
+			return;
+		}
+		scheduler.scheduleWithFixedDelay(this::flushSafely,
+			properties.flushIntervalMillis(), properties.flushIntervalMillis(), TimeUnit.MILLISECONDS);
+		// 기동 직후 갱신은 워밍업(POPULAR)이 한다
+		scheduler.scheduleWithFixedDelay(this::refreshSafely,
+			properties.refreshIntervalMillis(), properties.refreshIntervalMillis(), TimeUnit.MILLISECONDS);
+	}
+
+	// 기록 스레드 전용
+	int flush() {
+		Map<Long, long[]> counts = new HashMap<>();
+		int drained = recorder.drain(event -> counts.computeIfAbsent(event, key -> new long[1])[0]++, recorder.capacity());
+		if(counts.isEmpty()) {
+			return 0;
+		}
+		long[] events = counts.keySet().stream().mapToLong(Long::longValue).toArray();
+		Arrays.sort(events);
+		List<Object[]> rows = new ArrayList<>(events.length);
+		for (long event : events) {
+			int yearMonth = AccessEventRecorder.yearMonth(event);
+			rows.add(new Object[] {
+				AccessEventRecorder.landmarkId(event),
+				yearMonth == 0 ? 0 : yearMonth / 12,
+				yearMonth == 0 ? 0 : yearMonth % 12 + 1,
+				AccessEventRecorder.kind(event).name(),
+				counts.get(event)[0]
+			});
+		}
+		jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+		return drained;
+	}
+
+	private void flushSafely() {
+		Timer.Sample sample = Timer.start(meterRegistry);
+		String outcome = "success";
+		try {
+			flush();
+		} catch (DataAccessException e) {
+			outcome = "failure";
+			log.warn("접근 집계 기록 실패, 이번 묶음은 버립니다: {}", e.getMessage());
+		} finally {
+			sample.stop(meterRegistry.timer("popularity.flush", "outcome", outcome));
+		}
+	}
+
+	private void refreshSafely() {
+		try {
+			jdbcTemplate.update(PURGE_SQL, properties.retentionDays());
+			popularityService.refreshHotSet();
+		} catch (DataAccessException e) {
+			log.warn("인기 목록 갱신 실패: {}", e.getMessage());
+		}
+	}
+
+	// 남은 이벤트를 마지막으로 한 번 쓰고 종료
+	@PreDestroy
+	public void shutdown() {
+		scheduler.shutdown();
+		try {
+			if(scheduler.awaitTermination(5, TimeUnit.SECONDS) && properties.enabled()) {
+				flushSafely();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
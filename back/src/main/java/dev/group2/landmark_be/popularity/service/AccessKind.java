@@ -0,0 +1,16 @@
+package dev.group2.landmark_be.popularity.service;
+
+// 접근을 기록하는 엔드포인트 종류 (landmark_access.kind)
+public enum AccessKind {
+	LANDMARK,		// GET /api/landmarks/{landmarkId}
+	RASTER,			// GET /api/landmarks/{landmarkId}/rasters
+	RISK,			// GET /api/landmarks/{landmarkId}/risk
+	DETAIL,			// GET /api/landmarks/{landmarkId}/detail
+	NOTE;			// GET /api/notes/{landmarkId}
+
+	private static final AccessKind[] VALUES = values();
+
+	static AccessKind of(int ordinal) {
+		return VALUES[ordinal];
+	}
+}
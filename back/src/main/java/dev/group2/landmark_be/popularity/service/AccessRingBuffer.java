@@ -0,0 +1,67 @@
+package dev.group2.landmark_be.popularity.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongConsumer;
+
+// 여러 요청 스레드가 넣고 기록 스레드 하나만 꺼내는 고정 크기 링 버퍼 (락 없음)
+// 생산자는 tail 을 CAS 로 한 칸 예약한 뒤 슬롯에 값을 쓰고, 소비자는 값이 채워진 슬롯까지만 읽고 비운다.
+// 0 은 빈 슬롯 표시이므로 0 이 아닌 값만 넣을 수 있다. 가득 차면 기다리지 않고 버린다(false).
+public final class AccessRingBuffer {
+
+	private final AtomicLongArray slots;
+	private final int mask;
+	private final AtomicLong tail = new AtomicLong();
+	private volatile long head;		// 소비자만 쓴다
+
+	public AccessRingBuffer(int capacity) {
+		if(capacity < 2 || Integer.bitCount(capacity) != 1) {
+			throw new IllegalArgumentException("capacity must be a power of two: " + capacity);
+		}
+		this.slots = new AtomicLongArray(capacity);
+		this.mask = capacity - 1;
+	}
+
+	public boolean offer(long value) {
+		if(value == 0) {
+			throw new IllegalArgumentException("value must not be 0");
+		}
+		long t;
+		do {
+			t = tail.get();
+			if(t - head >= slots.length()) {
+				return false;
+			}
+		} while (!tail.compareAndSet(t, t + 1));
+		slots.lazySet((int) (t & mask), value);
+		return true;
+	}
+
+	// 소비자 스레드 전용. 예약만 되고 아직 쓰이지 않은 슬롯을 만나면 거기서 멈추고 다음 drain 때 이어 읽는다.
+	public int drain(LongConsumer consumer, int max) {
+		long h = head;
+		long limit = Math.min(tail.get(), h + max);
+		int drained = 0;
+		while (h < limit) {
+			int index = (int) (h & mask);
+			long value = slots.get(index);
+			if(value == 0) {
+				break;
+			}
+			slots.lazySet(index, 0);
+			consumer.accept(value);
+			h++;
+			drained++;
+		}
+		head = h;
+		return drained;
+	}
+
+	public int size() {
+		return (int) Math.max(0, tail.get() - head);
+	}
+
+	public int capacity() {
+		return slots.length();
+	}
+}
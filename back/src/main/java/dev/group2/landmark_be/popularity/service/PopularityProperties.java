@@ -0,0 +1,17 @@
+package dev.group2.landmark_be.popularity.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// app.popularity.* (application.yaml 참고)
+@ConfigurationProperties(prefix = "app.popularity")
+public record PopularityProperties(
+	@DefaultValue("true") boolean enabled,
+	@DefaultValue("65536") int bufferCapacity,			// 2의 거듭제곱, 가득 차면 이벤트를 버린다
+	@DefaultValue("1000") long flushIntervalMillis,		// 버퍼를 비워 집계 테이블에 쓰는 주기
+	@DefaultValue("60000") long refreshIntervalMillis,	// 인기 목록(hot set) 갱신 주기
+	@DefaultValue("7") int windowDays,					// 인기 집계 기간
+	@DefaultValue("500") int hotSetSize,				// 캐시에 받아들일 인기 랜드마크-월 수
+	@DefaultValue("30") int retentionDays				// 이보다 오래된 집계 행은 삭제
+) {
+}
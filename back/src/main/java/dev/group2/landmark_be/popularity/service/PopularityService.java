@@ -0,0 +1,101 @@
+package dev.group2.landmark_be.popularity.service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import dev.group2.landmark_be.global.config.CacheConfig;
+import dev.group2.landmark_be.popularity.dto.response.PopularLandmarkResponse;
+import lombok.RequiredArgsConstructor;
+
+// landmark_access 집계로 인기 랜드마크-월을 구하고, 캐시 입장(admission) 여부를 판단한다.
+// hot set 은 기록 스레드가 refresh-interval 마다 갱신, 요청 스레드는 volatile 참조를 읽기만 한다.
+@Service
+@RequiredArgsConstructor
+public class PopularityService {
+
+	private static final String TOP_LANDMARK_MONTHS_SQL = """
+		SELECT a.landmark_id, l.name, a.year, a.month, SUM(a.hits) AS hits
+		FROM app.landmark_access a
+		JOIN app.landmark l ON l.id = a.landmark_id
+		WHERE a.day >= CURRENT_DATE - CAST(? AS integer)
+		  AND a.year > 0
+		GROUP BY a.landmark_id, l.name, a.year, a.month
+		ORDER BY hits DESC, a.landmark_id, a.year DESC, a.month DESC
+		LIMIT ?
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final CacheManager cacheManager;
+	private final PopularityProperties properties;
+
+	// landmarkId << 16 | (year * 12 + month - 1)
+	private volatile Set<Long> hotKeys = Set.of();
+
+	public List<PopularLandmarkResponse> getTopLandmarkMonths(int days, int limit) {
+		return jdbcTemplate.query(TOP_LANDMARK_MONTHS_SQL, (rs, rowNum) -> new PopularLandmarkResponse(
+			rs.getLong("landmark_id"),
+			rs.getString("name"),
+			rs.getInt("year"),
+			rs.getInt("month"),
+			rs.getLong("hits")
+		), days, limit);
+	}
+
+	// @Cacheable condition 에서 호출 (SpEL: @popularityService.isHot(...))
+	public boolean isHot(Long landmarkId, Integer year, Integer month) {
+		int yearMonth = AccessEventRecorder.yearMonth(year, month);
+		return landmarkId != null && yearMonth != 0 && hotKeys.contains(key(landmarkId, yearMonth));
+	}
+
+	// 인기 목록을 다시 읽고, 새 목록에 없는 랜드마크-월은 캐시에서도 내린다 (캐시 크기 = hot set 크기 이내)
+	// 이전 hot set 이 아니라 캐시에 실제로 있는 키를 훑는다: 갱신 직전에 isHot 을 통과한 요청이
+	// 갱신 후에 넣은 항목도 다음 갱신 때 정리된다
+	public List<PopularLandmarkResponse> refreshHotSet() {
+		List<PopularLandmarkResponse> top = getTopLandmarkMonths(properties.windowDays(), properties.hotSetSize());
+		Set<Long> next = new HashSet<>();
+		for (PopularLandmarkResponse item : top) {
+			next.add(key(item.landmarkId(), AccessEventRecorder.yearMonth(item.year(), item.month())));
+		}
+		hotKeys = Set.copyOf(next);
+
+		Cache riskCache = cacheManager.getCache(CacheConfig.LANDMARK_RISK);
+		if(riskCache != null && riskCache.getNativeCache() instanceof Map<?, ?> entries) {
+			for (Object cacheKey : entries.keySet()) {
+				Long key = parseRiskCacheKey(cacheKey);
+				if(key == null || !next.contains(key)) {
+					riskCache.evict(cacheKey);
+				}
+			}
+		}
+		return top;
+	}
+
+	public int getHotSetSize() {
+		return hotKeys.size();
+	}
+
+	// RiskService 의 캐시 키 "landmarkId:year:month" -> hot set 키, 형식이 다르면 null
+	private static Long parseRiskCacheKey(Object cacheKey) {
+		String[] parts = String.valueOf(cacheKey).split(":");
+		if(parts.length != 3) {
+			return null;
+		}
+		try {
+			int yearMonth = AccessEventRecorder.yearMonth(Integer.valueOf(parts[1]), Integer.valueOf(parts[2]));
+			return yearMonth == 0 ? null : key(Long.parseLong(parts[0]), yearMonth);
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	private static long key(long landmarkId, int yearMonth) {
+		return landmarkId << 16 | yearMonth;
+	}
+}
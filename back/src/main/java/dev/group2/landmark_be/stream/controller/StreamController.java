@@ -0,0 +1,64 @@
+package dev.group2.landmark_be.stream.controller;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import dev.group2.landmark_be.auth.entity.User;
+import dev.group2.landmark_be.auth.util.JwtTokenProvider;
+import dev.group2.landmark_be.global.dto.ApiResponse;
+import dev.group2.landmark_be.stream.dto.request.StreamSubscriptionRequest;
+import dev.group2.landmark_be.stream.dto.response.StreamConnectedResponse;
+import dev.group2.landmark_be.stream.dto.response.StreamTicketResponse;
+import dev.group2.landmark_be.stream.service.StreamService;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/stream")
+@RequiredArgsConstructor
+public class StreamController {
+
+	private final StreamService streamService;
+	private final JwtTokenProvider jwtTokenProvider;
+
+	// 내 메모 변경 + 구독한 랜드마크의 래스터/위험도 갱신 알림 스트림
+	// EventSource는 헤더를 못 붙이므로 ?ticket= (아래 /ticket 에서 발급)으로 인증 (JwtAuthenticationFilter 참고)
+	@GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter connect(
+		@RequestParam(required = false) List<Long> landmarkIds,
+		@AuthenticationPrincipal User user
+	) {
+		return streamService.connect(user.getId(), landmarkIds);
+	}
+
+	// 스트림 연결용 단기 티켓 발급 (Authorization 헤더로 인증된 요청에서만)
+	// 접근 토큰을 URL 에 싣지 않기 위한 것으로, 스트림 연결 외에는 쓸 수 없고 30초 후 만료된다
+	@PostMapping("/ticket")
+	public ApiResponse<StreamTicketResponse> issueTicket(@AuthenticationPrincipal User user) {
+		return ApiResponse.success(new StreamTicketResponse(
+			jwtTokenProvider.createStreamTicket(user.getId()),
+			TimeUnit.MILLISECONDS.toSeconds(JwtTokenProvider.STREAM_TICKET_VALIDITY_MILLISECONDS)));
+	}
+
+	// 지도에서 선택한 랜드마크가 바뀌면 재연결 없이 구독 목록만 교체
+	@PutMapping("/{streamId}/landmarks")
+	public ApiResponse<StreamConnectedResponse> updateSubscription(
+		@PathVariable String streamId,
+		@RequestBody StreamSubscriptionRequest request,
+		@AuthenticationPrincipal User user
+	) {
+		StreamConnectedResponse response = streamService.updateSubscription(streamId, user.getId(), request.landmarkIds());
+		return ApiResponse.success(response);
+	}
+}
@@ -0,0 +1,7 @@
+package dev.group2.landmark_be.stream.dto.request;
+
+import java.util.List;
+
+public record StreamSubscriptionRequest(
+	List<Long> landmarkIds
+) {}
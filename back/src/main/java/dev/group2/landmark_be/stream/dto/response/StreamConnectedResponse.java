@@ -0,0 +1,9 @@
+package dev.group2.landmark_be.stream.dto.response;
+
+import java.util.Set;
+
+// 스트림 연결 직후 첫 이벤트로 전송 (streamId로 구독 랜드마크 변경 가능)
+public record StreamConnectedResponse(
+	String streamId,
+	Set<Long> landmarkIds
+) {}
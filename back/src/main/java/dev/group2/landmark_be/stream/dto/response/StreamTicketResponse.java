@@ -0,0 +1,7 @@
+package dev.group2.landmark_be.stream.dto.response;
+
+// GET /api/stream?ticket= 에 쓰는 스트림 전용 티켓 (expiresInSeconds 안에 연결해야 함)
+public record StreamTicketResponse(
+	String ticket,
+	long expiresInSeconds
+) {}
@@ -0,0 +1,8 @@
+package dev.group2.landmark_be.stream.service;
+
+// 구독자 버퍼가 가득 찼을 때의 처리 방식
+public enum OverflowPolicy {
+	DROP_OLDEST,	// 가장 오래된 이벤트를 버리고 새 이벤트 보관
+	DROP_NEWEST,	// 새 이벤트를 버림
+	DISCONNECT		// 연결을 끊어 클라이언트가 재연결 후 다시 조회하도록 함
+}
@@ -0,0 +1,225 @@
+package dev.group2.landmark_be.stream.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import dev.group2.landmark_be.global.exception.ErrorCode;
+import dev.group2.landmark_be.global.exception.StreamException;
+import dev.group2.landmark_be.map.event.RasterUpdatedEvent;
+import dev.group2.landmark_be.note.event.NoteChangedEvent;
+import dev.group2.landmark_be.stream.dto.response.StreamConnectedResponse;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// 메모 변경(사용자 단위), 래스터/위험도 갱신(구독 랜드마크 단위)을 SSE로 전달
+// 연결은 비동기 서블릿이라 유휴 연결이 요청 스레드를 점유하지 않는다.
+@Slf4j
+@Service
+public class StreamService {
+
+	static final String EVENT_CONNECTED = "connected";
+	static final String EVENT_NOTE = "note";
+	static final String EVENT_RASTER = "raster";
+
+	private final ConcurrentHashMap<String, StreamSubscriber> subscribers = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<Long, Set<StreamSubscriber>> subscribersByUser = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<Long, Set<StreamSubscriber>> subscribersByLandmark = new ConcurrentHashMap<>();
+	private final AtomicLong eventSequence = new AtomicLong();
+	private final LongAdder droppedEvents = new LongAdder();
+
+	private final ExecutorService sendExecutor;
+	private final ScheduledExecutorService heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(
+		runnable -> new Thread(runnable, "sse-heartbeat"));
+
+	private final long timeoutMillis;
+	private final int bufferCapacity;
+	private final OverflowPolicy overflowPolicy;
+	private final int maxStreamsPerUser;
+	private final int maxLandmarksPerStream;
+
+	public StreamService(
+		@Value("${app.stream.timeout-ms:1800000}") long timeoutMillis,
+		@Value("${app.stream.buffer-capacity:64}") int bufferCapacity,
+		@Value("${app.stream.overflow-policy:DROP_OLDEST}") OverflowPolicy overflowPolicy,
+		@Value("${app.stream.max-streams-per-user:5}") int maxStreamsPerUser,
+		@Value("${app.stream.max-landmarks-per-stream:200}") int maxLandmarksPerStream,
+		@Value("${app.stream.sender-threads:4}") int senderThreads,
+		@Value("${app.stream.heartbeat-seconds:25}") long heartbeatSeconds,
+		MeterRegistry meterRegistry
+	) {
+		this.timeoutMillis = timeoutMillis;
+		this.bufferCapacity = bufferCapacity;
+		this.overflowPolicy = overflowPolicy;
+		this.maxStreamsPerUser = maxStreamsPerUser;
+		this.maxLandmarksPerStream = maxLandmarksPerStream;
+		this.sendExecutor = Executors.newFixedThreadPool(senderThreads, runnable -> {
+			Thread thread = new Thread(runnable, "sse-sender");
+			thread.setDaemon(true);
+			return thread;
+		});
+		Gauge.builder("sse.subscribers", this, StreamService::getSubscriberCount)
+			.register(meterRegistry);
+		FunctionCounter.builder("sse.events.dropped", this, StreamService::getDroppedEventCount)
+			.register(meterRegistry);
+		// 프록시 유휴 타임아웃 방지 + 끊긴 연결 정리
+		heartbeatScheduler.scheduleAtFixedRate(this::sendHeartbeats, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+	}
+
+	public SseEmitter connect(Long userId, List<Long> landmarkIds) {
+		SseEmitter emitter = new SseEmitter(timeoutMillis);
+		StreamSubscriber subscriber = new StreamSubscriber(
+			UUID.randomUUID().toString(), userId, emitter, bufferCapacity, overflowPolicy, sendExecutor, droppedEvents);
+
+		// 사용자별 동시 연결 수 제한 (compute 안에서 검사해야 동시 연결 시에도 정확함)
+		subscribersByUser.compute(userId, (key, streams) -> {
+			Set<StreamSubscriber> userStreams = streams != null ? streams : ConcurrentHashMap.newKeySet();
+			if(userStreams.size() >= maxStreamsPerUser) {
+				throw new StreamException(ErrorCode.TOO_MANY_STREAMS);
+			}
+			userStreams.add(subscriber);
+			return userStreams;
+		});
+		subscribers.put(subscriber.getId(), subscriber);
+		subscribe(subscriber, landmarkIds);
+
+		emitter.onCompletion(() -> unregister(subscriber));
+		emitter.onTimeout(() -> unregister(subscriber));
+		emitter.onError(e -> unregister(subscriber));
+
+		subscriber.offer(SseEmitter.event()
+			.name(EVENT_CONNECTED)
+			.data(new StreamConnectedResponse(subscriber.getId(), Set.copyOf(subscriber.getLandmarkIds())),
+				MediaType.APPLICATION_JSON));
+		return emitter;
+	}
+
+	// 연결을 유지한 채 구독 랜드마크 목록 교체
+	public StreamConnectedResponse updateSubscription(String streamId, Long userId, List<Long> landmarkIds) {
+		StreamSubscriber subscriber = subscribers.get(streamId);
+		if(subscriber == null || !subscriber.getUserId().equals(userId)) {
+			throw new StreamException(ErrorCode.STREAM_NOT_FOUND);
+		}
+		unsubscribeAll(subscriber);
+		subscribe(subscriber, landmarkIds);
+		return new StreamConnectedResponse(subscriber.getId(), Set.copyOf(subscriber.getLandmarkIds()));
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void onNoteChanged(NoteChangedEvent event) {
+		Set<StreamSubscriber> targets = subscribersByUser.get(event.userId());
+		if(targets != null) {
+			fanOut(targets, EVENT_NOTE, event);
+		}
+	}
+
+	// 래스터 적재 알림(RasterChangeRelay)은 트랜잭션 밖에서 발행되므로 fallbackExecution 허용
+	// landmarkId 가 null 이면(대량 적재) 랜드마크를 하나라도 구독 중인 연결 전체
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onRasterUpdated(RasterUpdatedEvent event) {
+		if(event.landmarkId() == null) {
+			fanOut(subscribers.values().stream()
+				.filter(subscriber -> !subscriber.getLandmarkIds().isEmpty())
+				.toList(), EVENT_RASTER, event);
+			return;
+		}
+		Set<StreamSubscriber> targets = subscribersByLandmark.get(event.landmarkId());
+		if(targets != null) {
+			fanOut(targets, EVENT_RASTER, event);
+		}
+	}
+
+	public int getSubscriberCount() {
+		return subscribers.size();
+	}
+
+	public long getDroppedEventCount() {
+		return droppedEvents.sum();
+	}
+
+	// 발행 스레드는 각 구독자 버퍼에 넣기만 하고 바로 반환 (느린 구독자에 막히지 않음)
+	private void fanOut(Collection<StreamSubscriber> targets, String name, Object payload) {
+		String id = String.valueOf(eventSequence.incrementAndGet());
+		for (StreamSubscriber subscriber : targets) {
+			subscriber.offer(SseEmitter.event()
+				.id(id)
+				.name(name)
+				.data(payload, MediaType.APPLICATION_JSON));
+		}
+	}
+
+	private void sendHeartbeats() {
+		try {
+			for (StreamSubscriber subscriber : subscribers.values()) {
+				subscriber.offer(SseEmitter.event().comment("heartbeat"));
+			}
+		} catch (Exception e) {
+			log.warn("SSE heartbeat 전송 중 오류", e);
+		}
+	}
+
+	private void subscribe(StreamSubscriber subscriber, List<Long> landmarkIds) {
+		if(landmarkIds == null) {
+			return;
+		}
+		landmarkIds.stream()
+			.distinct()
+			.limit(maxLandmarksPerStream)
+			.forEach(landmarkId -> {
+				subscriber.getLandmarkIds().add(landmarkId);
+				subscribersByLandmark.compute(landmarkId, (key, set) -> {
+					Set<StreamSubscriber> landmarkStreams = set != null ? set : ConcurrentHashMap.newKeySet();
+					landmarkStreams.add(subscriber);
+					return landmarkStreams;
+				});
+			});
+	}
+
+	private void unsubscribeAll(StreamSubscriber subscriber) {
+		for (Long landmarkId : subscriber.getLandmarkIds()) {
+			removeFromIndex(subscribersByLandmark, landmarkId, subscriber);
+		}
+		subscriber.getLandmarkIds().clear();
+	}
+
+	private void unregister(StreamSubscriber subscriber) {
+		if(subscribers.remove(subscriber.getId()) == null) {
+			return;
+		}
+		subscriber.close();
+		unsubscribeAll(subscriber);
+		removeFromIndex(subscribersByUser, subscriber.getUserId(), subscriber);
+	}
+
+	private void removeFromIndex(ConcurrentHashMap<Long, Set<StreamSubscriber>> index, Long key, StreamSubscriber subscriber) {
+		index.computeIfPresent(key, (k, set) -> {
+			set.remove(subscriber);
+			return set.isEmpty() ? null : set;
+		});
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		heartbeatScheduler.shutdownNow();
+		subscribers.values().forEach(StreamSubscriber::close);
+		sendExecutor.shutdown();
+	}
+}
@@ -0,0 +1,124 @@
+package dev.group2.landmark_be.stream.service;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import lombok.Getter;
+
+// SSE 연결 하나. 발행 스레드는 버퍼에 넣기만 하고(락 없음), 실제 전송은 전송 스레드가 구독자별로 직렬 수행한다.
+class StreamSubscriber {
+
+	@Getter
+	private final String id;
+	@Getter
+	private final Long userId;
+	@Getter
+	private final SseEmitter emitter;
+	@Getter
+	private final Set<Long> landmarkIds = ConcurrentHashMap.newKeySet();
+
+	private final ConcurrentLinkedQueue<SseEmitter.SseEventBuilder> buffer = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger size = new AtomicInteger();
+	private final AtomicBoolean scheduled = new AtomicBoolean();
+	private final AtomicBoolean closed = new AtomicBoolean();
+
+	private final int capacity;
+	private final OverflowPolicy overflowPolicy;
+	private final Executor sendExecutor;
+	private final LongAdder totalDropped;	// 버린 이벤트 수, 전체 구독자 합계 (메트릭용)
+
+	StreamSubscriber(String id, Long userId, SseEmitter emitter, int capacity, OverflowPolicy overflowPolicy,
+		Executor sendExecutor, LongAdder totalDropped) {
+		this.id = id;
+		this.userId = userId;
+		this.emitter = emitter;
+		this.capacity = capacity;
+		this.overflowPolicy = overflowPolicy;
+		this.sendExecutor = sendExecutor;
+		this.totalDropped = totalDropped;
+	}
+
+	// 버퍼에 이벤트 추가 후 전송 예약. 버퍼가 가득 차면 정책에 따라 버리거나 연결을 끊는다.
+	void offer(SseEmitter.SseEventBuilder event) {
+		if(closed.get()) {
+			return;
+		}
+		if(size.incrementAndGet() > capacity) {
+			switch (overflowPolicy) {
+				case DROP_NEWEST -> {
+					size.decrementAndGet();
+					markDropped();
+					return;
+				}
+				case DROP_OLDEST -> {
+					if(buffer.poll() != null) {
+						size.decrementAndGet();
+						markDropped();
+					}
+				}
+				case DISCONNECT -> {
+					size.decrementAndGet();
+					markDropped();
+					close();
+					return;
+				}
+			}
+		}
+		buffer.add(event);
+		schedule();
+	}
+
+	// 구독자당 전송 작업은 동시에 하나만 예약된다
+	private void schedule() {
+		if(scheduled.compareAndSet(false, true)) {
+			sendExecutor.execute(this::drain);
+		}
+	}
+
+	private void drain() {
+		try {
+			SseEmitter.SseEventBuilder event;
+			while (!closed.get() && (event = buffer.poll()) != null) {
+				size.decrementAndGet();
+				emitter.send(event);
+			}
+		} catch (IOException | IllegalStateException e) {
+			// 클라이언트 연결 끊김
+			close();
+		} finally {
+			scheduled.set(false);
+			// 전송 종료 직전에 들어온 이벤트가 남지 않도록 다시 확인
+			if(!closed.get() && !buffer.isEmpty()) {
+				schedule();
+			}
+		}
+	}
+
+	private void markDropped() {
+		totalDropped.increment();
+	}
+
+	boolean isClosed() {
+		return closed.get();
+	}
+
+	void close() {
+		if(closed.compareAndSet(false, true)) {
+			buffer.clear();
+			size.set(0);
+			try {
+				emitter.complete();
+			} catch (IllegalStateException ignored) {
+				// 이미 완료된 emitter
+			}
+		}
+	}
+}
@@ -0,0 +1,84 @@
+package dev.group2.landmark_be.global.query;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import dev.group2.landmark_be.auth.util.JwtTokenProvider;
+import dev.group2.landmark_be.support.PostgisTestContainer;
+
+// 실제 PostGIS(스키마 + db/migration + 최소 데이터)에 요청을 보내고, 엔드포인트별 쿼리 예산(application.yaml)을
+// 넘긴 요청이 없는지 확인한다. 지연 로딩 연관관계(Landmark.admBoundary, Note.user 등)가 추가 select 를 만들면 실패.
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Testcontainers
+class QueryBudgetIntegrationTest {
+
+	@Container
+	static final PostgreSQLContainer<?> POSTGIS = PostgisTestContainer.create();
+
+	@DynamicPropertySource
+	static void datasource(DynamicPropertyRegistry registry) {
+		PostgisTestContainer.registerDatasource(POSTGIS, registry);
+	}
+
+	@Autowired
+	private MockMvc mockMvc;
+	@Autowired
+	private QueryBudgetPolicy policy;
+	@Autowired
+	private JwtTokenProvider jwtTokenProvider;
+
+	@BeforeEach
+	void clearViolations() {
+		policy.drainViolations();
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+		"/api/landmarks/1",
+		"/api/landmarks/byAdm/11",
+		"/api/landmarks/1/rasters?year=2024&month=12",
+		"/api/landmarks/1/risk?year=2024&month=12",
+		"/api/landmarks/1/rollups?fromYear=2024&toYear=2024",
+		"/api/boundaries",
+		"/api/boundaries/stats?year=2024&month=12&metric=risk",
+		"/api/boundaries/11",
+		"/api/rasters/changes?from=2024-11&to=2024-12"
+	})
+	void mapEndpointsStayWithinBudget(String uri) throws Exception {
+		mockMvc.perform(get(uri)).andExpect(status().isOk());
+
+		assertThat(policy.drainViolations()).isEmpty();
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+		"/api/notes/1",
+		"/api/notes/counts",
+		"/api/notes/search?q=공원",
+		"/api/landmarks/1/detail?year=2024&month=12"
+	})
+	void authenticatedEndpointsStayWithinBudget(String uri) throws Exception {
+		mockMvc.perform(get(uri).header(HttpHeaders.AUTHORIZATION, "Bearer " + jwtTokenProvider.createToken(1L)))
+			.andExpect(status().isOk());
+
+		assertThat(policy.drainViolations()).isEmpty();
+	}
+}
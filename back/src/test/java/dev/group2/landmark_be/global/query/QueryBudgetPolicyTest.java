@@ -0,0 +1,59 @@
+package dev.group2.landmark_be.global.query;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class QueryBudgetPolicyTest {
+
+	private static final String ENDPOINT = "GET /api/notes/{landmarkId}";
+
+	@Test
+	void fingerprintGroupsQueriesThatDifferOnlyInLiterals() {
+		String first = QueryStats.fingerprint("select * from app.users u where u.id = 1 and u.role in ('A', 'B')");
+		String second = QueryStats.fingerprint("SELECT *  FROM app.users u\n WHERE u.id = 42 AND u.role IN ('C')");
+
+		assertThat(first).isEqualTo(second);
+	}
+
+	@Test
+	void recordsViolationInFailModeWithoutThrowing() {
+		QueryBudgetPolicy policy = new QueryBudgetPolicy(properties(true));
+
+		assertThat(policy.check(ENDPOINT, statsWithStatements(3), 0)).isTrue();
+		assertThat(policy.drainViolations())
+			.singleElement()
+			.satisfies(violation -> assertThat(violation).hasMessageContaining("3 > 2"));
+		assertThat(policy.drainViolations()).isEmpty();
+	}
+
+	@Test
+	void reportsWithinBudget() {
+		QueryBudgetPolicy policy = new QueryBudgetPolicy(properties(true));
+
+		assertThat(policy.check(ENDPOINT, statsWithStatements(2), 0)).isFalse();
+	}
+
+	@Test
+	void onlyWarnsWhenFailModeIsOff() {
+		QueryBudgetPolicy policy = new QueryBudgetPolicy(properties(false));
+
+		assertThat(policy.check(ENDPOINT, statsWithStatements(5), 0)).isTrue();
+		assertThat(policy.drainViolations()).isEmpty();
+	}
+
+	private QueryBudgetProperties properties(boolean failOnExceed) {
+		return new QueryBudgetProperties(true, failOnExceed, 20, 5, 500, 0.0, Map.of(ENDPOINT, 2));
+	}
+
+	// 지연 로딩 연관관계(Note.user 등)가 행마다 select 를 날리는 상황
+	private QueryStats statsWithStatements(int count) {
+		QueryStats stats = new QueryStats();
+		for (int i = 0; i < count; i++) {
+			stats.recordStatement("select u.* from app.users u where u.id = " + i, 1_000);
+		}
+		return stats;
+	}
+}
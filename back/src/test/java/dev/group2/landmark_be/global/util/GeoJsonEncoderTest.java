@@ -0,0 +1,46 @@
+package dev.group2.landmark_be.global.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Polygon;
+
+class GeoJsonEncoderTest {
+
+	private final GeometryFactory factory = new GeometryFactory();
+	private final GeoJsonEncoder encoder = new GeoJsonEncoder(6);
+
+	@Test
+	void roundsToPrecisionAndDropsTrailingZeros() {
+		StringBuilder out = new StringBuilder();
+		for (double value : new double[] {126.9780123456, 37.5, -0.0000004, -126.000001, 0.000050}) {
+			encoder.appendNumber(value, out);
+			out.append(' ');
+		}
+
+		assertThat(out.toString()).isEqualTo("126.978012 37.5 0 -126.000001 0.00005 ");
+	}
+
+	@Test
+	void encodesMultiPolygonWithHole() {
+		LinearRing shell = ring(0, 0, 4, 0, 4, 4, 0, 4, 0, 0);
+		LinearRing hole = ring(1, 1, 1, 2, 2, 2, 2, 1, 1, 1);
+		Polygon polygon = factory.createPolygon(shell, new LinearRing[] {hole});
+
+		String json = encoder.encode(factory.createMultiPolygon(new Polygon[] {polygon}));
+
+		assertThat(json).isEqualTo("{\"type\":\"MultiPolygon\",\"coordinates\":[[[[0,0],[4,0],[4,4],[0,4],[0,0]],"
+			+ "[[1,1],[1,2],[2,2],[2,1],[1,1]]]]}");
+	}
+
+	private LinearRing ring(double... xy) {
+		Coordinate[] coordinates = new Coordinate[xy.length / 2];
+		for (int i = 0; i < coordinates.length; i++) {
+			coordinates[i] = new Coordinate(xy[2 * i], xy[2 * i + 1]);
+		}
+		return factory.createLinearRing(coordinates);
+	}
+}
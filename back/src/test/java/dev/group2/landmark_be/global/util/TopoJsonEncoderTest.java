@@ -0,0 +1,115 @@
+package dev.group2.landmark_be.global.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class TopoJsonEncoderTest {
+
+	// 경도 127.00017 을 경계로 맞닿은 두 사각형 (격자에 딱 맞지 않는 좌표), 오른쪽은 동쪽 변 가운데에 꼭짓점이 하나 더 있다
+	private static final double[] WEST = {126.90123, 37.50045, 127.00017, 37.50045, 127.00017, 37.60089,
+		126.90123, 37.60089, 126.90123, 37.50045};
+	private static final double[] EAST = {127.00017, 37.50045, 127.10231, 37.50045, 127.10231, 37.55067,
+		127.10231, 37.60089, 127.00017, 37.60089, 127.00017, 37.50045};
+
+	private final TopoJsonEncoder encoder = new TopoJsonEncoder(1000, 0);
+
+	@Test
+	void storesSharedEdgeOnceAndReferencesItFromBothSides() {
+		TopoJsonEncoder.Topology topology = encode();
+		List<TopoJsonEncoder.TopoGeometry> geometries = topology.objects().get("adm").geometries();
+		int[] west = geometries.get(0).arcs()[0][0];
+		int[] east = geometries.get(1).arcs()[0][0];
+
+		// 서쪽 링: 공유 변 + 나머지, 동쪽 링: 나머지 + 공유 변(역방향) -> arc 3개
+		assertThat(topology.arcs()).hasSize(3);
+		Set<Integer> westForward = new HashSet<>();
+		for (int ref : west) {
+			if(ref >= 0) {
+				westForward.add(ref);
+			}
+		}
+		List<Integer> shared = new ArrayList<>();
+		for (int ref : east) {
+			if(ref < 0 && westForward.contains(~ref)) {
+				shared.add(~ref);
+			}
+		}
+		assertThat(shared).hasSize(1);
+
+		List<double[]> edge = decodeArc(topology, shared.get(0));
+		double[] step = topology.transform().scale();
+		assertThat(edge).hasSize(2);
+		for (double[] point : edge) {
+			assertThat(point[0]).isCloseTo(127.00017, within(step[0]));
+		}
+	}
+
+	@Test
+	void decodedRingsReproduceInputWithinOneStep() {
+		TopoJsonEncoder.Topology topology = encode();
+		List<TopoJsonEncoder.TopoGeometry> geometries = topology.objects().get("adm").geometries();
+
+		assertRing(topology, geometries.get(0).arcs()[0][0], WEST);
+		assertRing(topology, geometries.get(1).arcs()[0][0], EAST);
+	}
+
+	private TopoJsonEncoder.Topology encode() {
+		return encoder.encode("adm", List.of(
+			new TopoJsonEncoder.Feature(List.of(List.of(WEST)), "west"),
+			new TopoJsonEncoder.Feature(List.of(List.of(EAST)), "east")));
+	}
+
+	// 링은 접합점에서 시작할 수 있으므로 입력 첫 점과 맞는 위치부터 한 바퀴 비교
+	private void assertRing(TopoJsonEncoder.Topology topology, int[] refs, double[] input) {
+		double[] step = topology.transform().scale();
+		List<double[]> ring = new ArrayList<>();
+		for (int ref : refs) {
+			List<double[]> arc = decodeArc(topology, ref < 0 ? ~ref : ref);
+			if(ref < 0) {
+				Collections.reverse(arc);
+			}
+			ring.addAll(ring.isEmpty() ? arc : arc.subList(1, arc.size()));
+		}
+		ring.remove(ring.size() - 1);	// 닫는 점
+
+		int size = input.length / 2 - 1;
+		assertThat(ring).hasSize(size);
+		int offset = 0;
+		for (int i = 1; i < size; i++) {
+			if(distance(ring.get(i), input[0], input[1]) < distance(ring.get(offset), input[0], input[1])) {
+				offset = i;
+			}
+		}
+		for (int i = 0; i < size; i++) {
+			double[] point = ring.get((offset + i) % size);
+			assertThat(point[0]).isCloseTo(input[2 * i], within(step[0]));
+			assertThat(point[1]).isCloseTo(input[2 * i + 1], within(step[1]));
+		}
+	}
+
+	// 델타를 누적한 격자 좌표에 scale/translate 를 적용
+	private List<double[]> decodeArc(TopoJsonEncoder.Topology topology, int index) {
+		double[] scale = topology.transform().scale();
+		double[] translate = topology.transform().translate();
+		List<double[]> points = new ArrayList<>();
+		long x = 0;
+		long y = 0;
+		for (int[] delta : topology.arcs().get(index)) {
+			x += delta[0];
+			y += delta[1];
+			points.add(new double[] {x * scale[0] + translate[0], y * scale[1] + translate[1]});
+		}
+		return points;
+	}
+
+	private static double distance(double[] point, double x, double y) {
+		return Math.hypot(point[0] - x, point[1] - y);
+	}
+}
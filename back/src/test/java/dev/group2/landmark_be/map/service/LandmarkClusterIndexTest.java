@@ -0,0 +1,61 @@
+package dev.group2.landmark_be.map.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Envelope;
+
+import dev.group2.landmark_be.map.dto.response.LandmarkClusterItem;
+import dev.group2.landmark_be.map.dto.response.LandmarkPointProjection;
+
+class LandmarkClusterIndexTest {
+
+	private static final Envelope KOREA = new Envelope(124, 132, 33, 39);
+
+	// 서울 근처 두 점 + 부산 한 점
+	private final LandmarkClusterIndex index = LandmarkClusterIndex.build(List.of(
+		new LandmarkPointProjection(1L, 126.97, 37.56, new BigDecimal("0.6")),
+		new LandmarkPointProjection(2L, 126.99, 37.57, new BigDecimal("0.4")),
+		new LandmarkPointProjection(3L, 129.07, 35.18, null)
+	), 0, 16, 60, 512, 2024, 7);
+
+	@Test
+	void mergesNearbyLandmarksAtNationalZoom() {
+		List<LandmarkClusterItem> clusters = index.getClusters(7, KOREA, true);
+
+		assertThat(clusters).hasSize(2);
+		LandmarkClusterItem seoul = clusters.stream().filter(item -> item.count() == 2).findFirst().orElseThrow();
+		assertThat(seoul.landmarkId()).isNull();
+		assertThat(seoul.avgRisk()).isEqualByComparingTo("0.5");
+		assertThat(seoul.lng()).isBetween(126.97, 126.99);
+		assertThat(seoul.expansionZoom()).isGreaterThan(7);
+	}
+
+	@Test
+	void returnsIndividualLandmarksBeyondMaxZoom() {
+		List<LandmarkClusterItem> points = index.getClusters(20, KOREA, false);
+
+		assertThat(points).extracting(LandmarkClusterItem::landmarkId).containsExactlyInAnyOrder(1L, 2L, 3L);
+		assertThat(points).allSatisfy(item -> assertThat(item.avgRisk()).isNull());
+	}
+
+	@Test
+	void keepsTotalCountAtEveryZoom() {
+		for (int zoom = 0; zoom <= 17; zoom++) {
+			assertThat(index.getClusters(zoom, KOREA, false))
+				.extracting(LandmarkClusterItem::count)
+				.reduce(0, Integer::sum)
+				.isEqualTo(3);
+		}
+	}
+
+	@Test
+	void filtersByBbox() {
+		List<LandmarkClusterItem> busanOnly = index.getClusters(20, new Envelope(128.5, 129.5, 34.5, 35.5), false);
+
+		assertThat(busanOnly).extracting(LandmarkClusterItem::landmarkId).containsExactly(3L);
+	}
+}
@@ -0,0 +1,73 @@
+package dev.group2.landmark_be.popularity.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+
+class AccessRingBufferTest {
+
+	@Test
+	void rejectsWhenFullAndAcceptsAgainAfterDrain() {
+		AccessRingBuffer buffer = new AccessRingBuffer(4);
+		for (long value = 1; value <= 4; value++) {
+			assertThat(buffer.offer(value)).isTrue();
+		}
+		assertThat(buffer.offer(5)).isFalse();
+
+		List<Long> drained = new ArrayList<>();
+		assertThat(buffer.drain(drained::add, 2)).isEqualTo(2);
+		assertThat(buffer.offer(5)).isTrue();
+		buffer.drain(drained::add, 10);
+
+		assertThat(drained).containsExactly(1L, 2L, 3L, 4L, 5L);
+		assertThat(buffer.size()).isZero();
+	}
+
+	@Test
+	void drainsEveryEventFromConcurrentProducersExactlyOnce() throws InterruptedException {
+		AccessRingBuffer buffer = new AccessRingBuffer(1024);
+		int producers = 4;
+		int perProducer = 20_000;
+		CountDownLatch done = new CountDownLatch(producers);
+		for (int p = 0; p < producers; p++) {
+			long base = (long) p * perProducer;
+			new Thread(() -> {
+				for (long i = 1; i <= perProducer; i++) {
+					while (!buffer.offer(base + i)) {
+						Thread.yield();
+					}
+				}
+				done.countDown();
+			}).start();
+		}
+
+		Set<Long> seen = new HashSet<>();
+		List<Long> duplicates = new ArrayList<>();
+		while (done.getCount() > 0 || buffer.size() > 0) {
+			buffer.drain(value -> {
+				if(!seen.add(value)) {
+					duplicates.add(value);
+				}
+			}, 256);
+		}
+
+		assertThat(duplicates).isEmpty();
+		assertThat(seen).hasSize(producers * perProducer);
+	}
+
+	@Test
+	void packsAndUnpacksEvent() {
+		long event = AccessEventRecorder.pack(123_456_789L, AccessEventRecorder.yearMonth(2024, 7), AccessKind.RISK);
+
+		assertThat(AccessEventRecorder.landmarkId(event)).isEqualTo(123_456_789L);
+		assertThat(AccessEventRecorder.yearMonth(event)).isEqualTo(2024 * 12 + 6);
+		assertThat(AccessEventRecorder.kind(event)).isEqualTo(AccessKind.RISK);
+		assertThat(AccessEventRecorder.pack(1, 0, AccessKind.LANDMARK)).isNotZero();
+	}
+}
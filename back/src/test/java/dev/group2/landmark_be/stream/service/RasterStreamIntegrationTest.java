@@ -0,0 +1,74 @@
+package dev.group2.landmark_be.stream.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import dev.group2.landmark_be.auth.util.JwtTokenProvider;
+import dev.group2.landmark_be.support.PostgisTestContainer;
+
+// 래스터 적재(landmark_raster 변경) -> 트리거 NOTIFY -> InvalidationListener -> RasterChangeRelay -> SSE 구독자
+@SpringBootTest(properties = {
+	"app.cache-invalidation.enabled=true",
+	"app.cache-invalidation.coalesce-ms=50",
+	"app.cache-invalidation.poll-ms=200"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Testcontainers
+class RasterStreamIntegrationTest {
+
+	@Container
+	static final PostgreSQLContainer<?> POSTGIS = PostgisTestContainer.create();
+
+	@DynamicPropertySource
+	static void datasource(DynamicPropertyRegistry registry) {
+		PostgisTestContainer.registerDatasource(POSTGIS, registry);
+	}
+
+	@Autowired
+	private MockMvc mockMvc;
+	@Autowired
+	private JwtTokenProvider jwtTokenProvider;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void rasterChangeReachesSubscribedStream() throws Exception {
+		MockHttpServletResponse stream = mockMvc.perform(get("/api/stream")
+				.param("ticket", jwtTokenProvider.createStreamTicket(1L))
+				.param("landmarkIds", "1"))
+			.andExpect(request().asyncStarted())
+			.andReturn()
+			.getResponse();
+
+		// 리스너가 LISTEN 을 시작하기 전의 변경은 전달되지 않으므로 도착할 때까지 같은 적재를 반복
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(20);
+		while (!stream.getContentAsString().contains("event:raster") && System.nanoTime() < deadline) {
+			jdbcTemplate.update("UPDATE app.landmark_raster SET val_mean = val_mean"
+				+ " WHERE landmark_id = 1 AND year = 2024 AND month = 12");
+			Thread.sleep(300);
+		}
+
+		assertThat(stream.getContentAsString())
+			.contains("event:connected")
+			.contains("event:raster")
+			.contains("\"landmarkId\":1");
+	}
+}
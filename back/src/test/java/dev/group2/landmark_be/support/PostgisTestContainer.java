@@ -0,0 +1,48 @@
+package dev.group2.landmark_be.support;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+import org.testcontainers.utility.MountableFile;
+
+// 통합 테스트용 PostGIS: 스키마 + db/migration + 최소 데이터(db/integration_fixture.sql)
+public final class PostgisTestContainer {
+
+	private PostgisTestContainer() {
+	}
+
+	// initdb 가 파일 이름 순서로 실행: 스키마 -> 마이그레이션(번호 순) -> 테스트 데이터
+	public static PostgreSQLContainer<?> create() {
+		PostgreSQLContainer<?> container = new PostgreSQLContainer<>(
+			DockerImageName.parse("postgis/postgis:16-3.4").asCompatibleSubstituteFor("postgres"))
+			.withCopyFileToContainer(MountableFile.forHostPath("db/schema.sql"), "/docker-entrypoint-initdb.d/00_schema.sql")
+			.withCopyFileToContainer(MountableFile.forClasspathResource("db/integration_fixture.sql"),
+				"/docker-entrypoint-initdb.d/90_fixture.sql");
+		for (Path migration : migrations()) {
+			container.withCopyFileToContainer(MountableFile.forHostPath(migration),
+				"/docker-entrypoint-initdb.d/10_" + migration.getFileName());
+		}
+		return container;
+	}
+
+	// @DynamicPropertySource 에서 호출
+	public static void registerDatasource(PostgreSQLContainer<?> container, DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", container::getJdbcUrl);
+		registry.add("spring.datasource.username", container::getUsername);
+		registry.add("spring.datasource.password", container::getPassword);
+	}
+
+	private static List<Path> migrations() {
+		try (Stream<Path> files = Files.list(Path.of("db/migration"))) {
+			return files.filter(file -> file.toString().endsWith(".sql")).sorted().toList();
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,24 @@
+-- 통합 테스트(PostgisTestContainer) 용 최소 데이터: 시도 1, 랜드마크 1, 두 달치 래스터(NDVI/NDMI), 사용자 1, 메모 2
+INSERT INTO app.adm_boundary (adm_code, adm_name, level, geom)
+VALUES ('11', '서울특별시', 1,
+	ST_Multi(ST_GeomFromText('POLYGON((126.8 37.4, 127.2 37.4, 127.2 37.7, 126.8 37.7, 126.8 37.4))', 4326)));
+
+INSERT INTO app.landmark (id, name, address, geom, adm_code)
+VALUES (1, '남산공원', '서울특별시 중구', ST_SetSRID(ST_MakePoint(126.99, 37.55), 4326), '11');
+
+INSERT INTO app.landmark_raster (landmark_id, index_type, year, month, s3_path, val_mean, val_min, val_max, val_stddev, geom)
+SELECT 1, t.index_type, 2024, m.month, 's3://test/' || t.index_type || '/' || m.month,
+	t.val_mean, t.val_mean - 0.2, t.val_mean + 0.2, 0.05,
+	ST_Buffer(ST_SetSRID(ST_MakePoint(126.99, 37.55), 4326)::geography, 3000)::geometry
+FROM (VALUES ('NDVI', 0.45), ('NDMI', 0.12)) AS t(index_type, val_mean)
+CROSS JOIN (VALUES (11), (12)) AS m(month);
+
+INSERT INTO app.users (id, oauth_provider, oauth_id, username, email, role)
+VALUES (1, 'GITHUB', 'test-1', 'tester', 'tester@example.com', 'ROLE_USER');
+
+INSERT INTO app.notes (user_id, landmark_id, content, created_at, updated_at)
+VALUES (1, 1, '공원에서 산책했다', now(), now()),
+	(1, 1, '<b>단풍</b>이 들기 시작함', now(), now());
+
+SELECT setval('app.landmark_id_seq', 1);
+SELECT setval('app.users_id_seq', 1);
@@ -8,9 +8,7 @@ import type { RasterStat } from "./types/RasterStat";
 import type { RiskData } from "./api/riskApi";
 
 // === API ===
-import { fetchLandmarks } from "./api/landmarkApi";
-import { fetchLandmarkRasters } from "./api/rasterApi";
-import { fetchLandmarkRisk } from "./api/riskApi";
+import { fetchLandmarkDetail, fetchLandmarks } from "./api/landmarkApi";
 import { authUtils } from "../auth/authUtils";
 
 // === 상수 / 컴포넌트 ===
@@ -18,6 +16,19 @@ import { MONTH_PRESETS, type MonthPreset } from "./constants/monthPresets";
 import RasterDashboard from "./components/RasterDashboard";
 import NotesPanel from "./components/NotesPanel";
 
+// 바 차트는 통계값만 사용하므로 래스터 도형(geomJson)은 요청하지 않는다
+const RASTER_CHART_FIELDS = [
+  "id",
+  "landmarkId",
+  "indexType",
+  "year",
+  "month",
+  "valMean",
+  "valMin",
+  "valMax",
+  "valStddev",
+];
+
 // =============================
 //  MapPage
 // =============================
@@ -162,29 +173,40 @@ const MapPage: React.FC = () => {
   };
 
   // -----------------------------
-  //  래스터 데이터 조회 (바 차트용)
+  //  래스터(바 차트용) + 산불 위험도 조회
+  //  상세 API 한 번으로 함께 받고, 부분 실패는 각 영역에만 표시
   // -----------------------------
   useEffect(() => {
     if (!selectedLandmark || !selectedMonth) {
       setRasterData([]);
       setSelectedIndexType(null);
       setRasterError(null);
+      setRiskData(null);
+      setRiskError(null);
       return;
     }
 
-    const loadRasters = async () => {
+    const loadDetail = async () => {
       try {
         setRasterLoading(true);
+        setRiskLoading(true);
         setRasterError(null);
+        setRiskError(null);
 
         const { year, month } = selectedMonth;
-        const rows = await fetchLandmarkRasters(
+        const detail = await fetchLandmarkDetail(
           selectedLandmark.id!,
           year,
-          month
+          month,
+          ["rasters", "risk"],
+          RASTER_CHART_FIELDS
         );
 
+        const rows = detail.rasters ?? [];
         setRasterData(rows);
+        if (detail.errors.rasters) {
+          setRasterError(detail.errors.rasters.message);
+        }
 
         // 이전에 선택한 인덱스 타입이 있으면 유지, 없으면 첫 번째 선택
         if (rows.length > 0) {
@@ -195,54 +217,26 @@ const MapPage: React.FC = () => {
         } else {
           setSelectedIndexType(null);
         }
-      } catch (e: any) {
-        console.error("래스터 데이터 조회 실패:", e);
-        setRasterError(e.message ?? "래스터 데이터를 불러오지 못했습니다.");
-        setRasterData([]);
-        setSelectedIndexType(null);
-      } finally {
-        setRasterLoading(false);
-      }
-    };
-
-    loadRasters();
-  }, [selectedLandmark, selectedMonth]);
-
-  // -----------------------------
-  //  산불 위험도 조회 (risk API용)
-  // -----------------------------
-  useEffect(() => {
-    if (!selectedLandmark || !selectedMonth) {
-      setRiskData(null);
-      setRiskError(null);
-      return;
-    }
 
-    const loadRisk = async () => {
-      try {
-        setRiskLoading(true);
-        setRiskError(null);
-
-        const { year, month } = selectedMonth;
-        const data = await fetchLandmarkRisk(selectedLandmark.id!, year, month);
-
-        if (!data) {
-          setRiskData(null);
+        setRiskData(detail.risk);
+        if (!detail.risk) {
           setRiskError("산불 위험도 데이터를 불러오지 못했습니다.");
-          return;
         }
-
-        setRiskData(data);
       } catch (e: any) {
-        console.error("산불 위험도 조회 실패:", e);
-        setRiskError(e.message ?? "산불 위험도 데이터를 불러오지 못했습니다.");
+        console.error("랜드마크 상세 조회 실패:", e);
+        const message = e.message ?? "데이터를 불러오지 못했습니다.";
+        setRasterError(message);
+        setRasterData([]);
+        setSelectedIndexType(null);
+        setRiskError(message);
         setRiskData(null);
       } finally {
+        setRasterLoading(false);
         setRiskLoading(false);
       }
     };
 
-    loadRisk();
+    loadDetail();
   }, [selectedLandmark, selectedMonth]);
 
   // -----------------------------
@@ -1,10 +1,36 @@
 import apiClient from "../../api/apiClient";
-import type { AdmBoundary } from "../types/Boundary";
+import type { AdmBoundary, AdmBoundaryStat, BoundaryMetric } from "../types/Boundary";
 
 // /api/boundaries → ApiResponse<AdmBoundary[]>
-export const fetchAdmBoundaries = async (): Promise<AdmBoundary[]> => {
-  const res = await apiClient.get("/api/boundaries");
+// choropleth 를 주면 시도별 집계(stats)를 경계와 함께 한 번에 받는다
+export const fetchAdmBoundaries = async (
+  choropleth?: { year: number; month: number; metric: BoundaryMetric }
+): Promise<AdmBoundary[]> => {
+  const res = await apiClient.get("/api/boundaries", { params: choropleth });
 
   // 백엔드 응답이 { success, data, error } 형태
   return res.data.data as AdmBoundary[];
-};
\ No newline at end of file
+};
+
+// 드릴다운: /api/boundaries/{admCode}/children → 바로 아래 단계(시군구/읍면동) 경계
+// bbox("minLng,minLat,maxLng,maxLat")를 주면 화면 안의 것만 받는다
+export const fetchBoundaryChildren = async (admCode: string, bbox?: string): Promise<AdmBoundary[]> => {
+  const res = await apiClient.get(`/api/boundaries/${admCode}/children`, { params: { bbox } });
+  return res.data.data as AdmBoundary[];
+};
+
+// /api/boundaries?level=&bbox= → 한 단계에서 화면과 겹치는 경계 (너무 많으면 400, 확대 필요)
+export const fetchBoundariesInView = async (level: number, bbox: string): Promise<AdmBoundary[]> => {
+  const res = await apiClient.get("/api/boundaries", { params: { level, bbox } });
+  return res.data.data as AdmBoundary[];
+};
+
+// /api/boundaries/stats → 시도별 평균 NDVI/NDMI/위험도 (경계 도형 없이 값만)
+export const fetchBoundaryStats = async (
+  year: number,
+  month: number,
+  metric: BoundaryMetric
+): Promise<AdmBoundaryStat[]> => {
+  const res = await apiClient.get("/api/boundaries/stats", { params: { year, month, metric } });
+  return res.data.data as AdmBoundaryStat[];
+};
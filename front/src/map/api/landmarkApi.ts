@@ -1,5 +1,8 @@
 import apiClient from "../../api/apiClient";
 import type { Landmark } from "../types/Landmark";
+import type { RasterStat } from "../types/RasterStat";
+import type { Note } from "../types/Note";
+import type { ApiError, ApiResponse, RiskData } from "./riskApi";
 
 // 전체 랜드마크 조회
 export const fetchLandmarks = async (): Promise<Landmark[]> => {
@@ -39,4 +42,43 @@ export const fetchLandmarks = async (): Promise<Landmark[]> => {
     console.error("API 호출 실패 (랜드마크 전체 조회):", error);
     return [];
   }
-};
\ No newline at end of file
+};
+
+// 랜드마크 상세 (래스터/위험도/메모를 한 번의 요청으로 조회)
+// 실패한 부분은 null 이고 사유는 errors[부분 이름]에 담긴다
+export type LandmarkDetailPart = "rasters" | "risk" | "notes";
+
+export interface LandmarkDetail {
+  landmark: Landmark;
+  rasters: RasterStat[] | null;
+  risk: RiskData | null;
+  notes: Note[] | null;
+  errors: Partial<Record<LandmarkDetailPart, ApiError>>;
+}
+
+export const fetchLandmarkDetail = async (
+  landmarkId: number,
+  year: number,
+  month: number,
+  include: LandmarkDetailPart[] = ["rasters", "risk", "notes"],
+  rasterFields?: string[]
+): Promise<LandmarkDetail> => {
+  const res = await apiClient.get<ApiResponse<LandmarkDetail>>(
+    `/api/landmarks/${landmarkId}/detail`,
+    {
+      params: {
+        year,
+        month,
+        include: include.join(","),
+        // 지정하면 해당 필드만 조회 (geomJson 이 없으면 서버에서 도형 계산 생략)
+        rasterFields: rasterFields?.join(","),
+      },
+    }
+  );
+
+  if (!res.data?.success || !res.data.data) {
+    throw new Error(res.data?.error?.message ?? "랜드마크 상세 조회 실패");
+  }
+
+  return res.data.data;
+};
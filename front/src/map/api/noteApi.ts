@@ -1,5 +1,5 @@
 import apiClient from "../../api/apiClient";
-import type { Note, NoteResponse, NotesResponse, DeleteNoteResponse } from "../types/Note";
+import type { Note, NoteResponse, NotesResponse, DeleteNoteResponse, NoteCount, NoteCountsResponse, NoteSearchResult, NoteSearchResponse } from "../types/Note";
 
 // 특정 랜드마크의 메모 목록 조회
 export const fetchNotes = async (landmarkId: number): Promise<Note[]> => {
@@ -53,3 +53,44 @@ export const deleteNote = async (noteId: number): Promise<void> => {
     throw new Error(error.response?.data?.error?.message || "메모를 삭제하지 못했습니다.");
   }
 };
+
+// 랜드마크별 내 메모 개수 조회 (admCode 또는 bbox로 범위 제한 가능)
+export const fetchNoteCounts = async (
+  params?: { admCode?: string; bbox?: string }
+): Promise<NoteCount[]> => {
+  try {
+    const res = await apiClient.get<NoteCountsResponse>("/api/notes/counts", { params });
+
+    if (res.data?.success && Array.isArray(res.data.data)) {
+      return res.data.data;
+    }
+
+    console.error("⚠️ 예상치 못한 응답:", res.data);
+    return [];
+  } catch (error: any) {
+    console.error("API 호출 실패 (메모 개수 조회):", error);
+    throw new Error(error.response?.data?.error?.message || "메모 개수를 불러오지 못했습니다.");
+  }
+};
+
+// 내 메모 전문 검색
+export const searchNotes = async (
+  q: string,
+  params?: { landmarkId?: number; admCode?: string; limit?: number }
+): Promise<NoteSearchResult[]> => {
+  try {
+    const res = await apiClient.get<NoteSearchResponse>("/api/notes/search", {
+      params: { q, ...params },
+    });
+
+    if (res.data?.success && Array.isArray(res.data.data)) {
+      return res.data.data;
+    }
+
+    console.error("⚠️ 예상치 못한 응답:", res.data);
+    return [];
+  } catch (error: any) {
+    console.error("API 호출 실패 (메모 검색):", error);
+    throw new Error(error.response?.data?.error?.message || "메모를 검색하지 못했습니다.");
+  }
+};
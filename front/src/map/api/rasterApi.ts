@@ -1,6 +1,7 @@
 // src/map/api/rasterApi.ts
 import axios from "axios";
-import type { RasterStat } from "../types/RasterStat";
+import apiClient from "../../api/apiClient";
+import type { ChangeDirection, IndexType, PopularLandmark, RasterChange, RasterStat } from "../types/RasterStat";
 
 export interface RasterResponse {
   success: boolean;
@@ -30,3 +31,31 @@ export async function fetchLandmarkRasters(
 
   return res.data.data;
 }
+
+// from, to: "YYYY-MM", 기본은 가장 많이 줄어든 순
+export async function fetchRasterChanges(params: {
+  index: IndexType;
+  from: string;
+  to: string;
+  k?: number;
+  direction?: ChangeDirection;
+  admCode?: string;
+  minDelta?: number;
+  minSigma?: number;
+}): Promise<RasterChange[]> {
+  const res = await api.get<{ success: boolean; data: RasterChange[]; error: string | null }>(
+    "/api/rasters/changes",
+    { params }
+  );
+
+  if (!res.data.success) {
+    throw new Error(res.data.error ?? "래스터 변화 API 실패");
+  }
+  return res.data.data;
+}
+
+// 최근 days 일 동안 많이 조회된 랜드마크-월 (로그인 필요)
+export const fetchPopularLandmarks = async (days = 7, limit = 20): Promise<PopularLandmark[]> => {
+  const res = await apiClient.get("/api/popularity/landmarks", { params: { days, limit } });
+  return res.data.data as PopularLandmark[];
+};
@@ -0,0 +1,85 @@
+import apiClient from "../../api/apiClient";
+
+// 스트림 연결 직후 받는 정보
+export interface StreamConnected {
+  streamId: string;
+  landmarkIds: number[];
+}
+
+// 메모 변경 알림
+export interface NoteChangedEvent {
+  userId: number;
+  landmarkId: number;
+  noteId: number;
+  action: "CREATED" | "DELETED";
+}
+
+// 래스터/위험도 갱신 알림 (DB 적재 트리거에서 오므로 연/월은 없음, landmarkId 가 null 이면 구독 중인 랜드마크 전체)
+export interface RasterUpdatedEvent {
+  landmarkId: number | null;
+  year: number | null;
+  month: number | null;
+}
+
+export interface StreamHandlers {
+  onConnected?: (event: StreamConnected) => void;
+  onNote?: (event: NoteChangedEvent) => void;
+  onRaster?: (event: RasterUpdatedEvent) => void;
+}
+
+// 스트림 연결용 단기 티켓 (접근 토큰을 URL 에 싣지 않기 위해, 30초 안에 연결해야 함)
+const fetchStreamTicket = async (): Promise<string> => {
+  const res = await apiClient.post("/api/stream/ticket");
+  return res.data.data.ticket as string;
+};
+
+export interface EventStreamHandle {
+  close: () => void;
+}
+
+// 실시간 알림 스트림 연결 (EventSource는 헤더를 못 붙이므로 단기 티켓을 쿼리로 전달)
+// 티켓은 연결 시점에만 검사하므로, 연결이 끊기면 EventSource 자동 재연결 대신 새 티켓으로 다시 연다
+export const openEventStream = (landmarkIds: number[], handlers: StreamHandlers): EventStreamHandle => {
+  let source: EventSource | null = null;
+  let closed = false;
+
+  const connect = async () => {
+    let ticket: string;
+    try {
+      ticket = await fetchStreamTicket();
+    } catch (error: any) {
+      console.error("API 호출 실패 (스트림 티켓):", error);
+      return;
+    }
+    if (closed) return;
+
+    const params = new URLSearchParams({ ticket });
+    if (landmarkIds.length > 0) params.set("landmarkIds", landmarkIds.join(","));
+
+    source = new EventSource(`${apiClient.defaults.baseURL}/api/stream?${params.toString()}`);
+    source.addEventListener("connected", (e) => handlers.onConnected?.(JSON.parse((e as MessageEvent).data)));
+    source.addEventListener("note", (e) => handlers.onNote?.(JSON.parse((e as MessageEvent).data)));
+    source.addEventListener("raster", (e) => handlers.onRaster?.(JSON.parse((e as MessageEvent).data)));
+    source.onerror = () => {
+      source?.close();
+      if (!closed) setTimeout(connect, 3000);
+    };
+  };
+
+  connect();
+  return {
+    close: () => {
+      closed = true;
+      source?.close();
+    },
+  };
+};
+
+// 연결을 유지한 채 구독 랜드마크 교체
+export const updateStreamLandmarks = async (streamId: string, landmarkIds: number[]): Promise<void> => {
+  try {
+    await apiClient.put(`/api/stream/${streamId}/landmarks`, { landmarkIds });
+  } catch (error: any) {
+    console.error("API 호출 실패 (스트림 구독 변경):", error);
+  }
+};
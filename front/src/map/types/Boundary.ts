@@ -1,6 +1,17 @@
+export interface AdmBoundaryStat {
+  admCode: string;
+  landmarkCount: number;
+  value: number;     // 시도 평균
+  minValue: number;
+  maxValue: number;
+}
+
+export type BoundaryMetric = "ndvi" | "ndmi" | "risk";
+
 export interface AdmBoundary {
   admCode: string;
   admName: string;
-  geoJson: any;   // 백엔드에서 주는 GeoJSON 
-  level: number;  // 1 = 시도
-}
\ No newline at end of file
+  geoJson: any;   // GeoJSON 도형 객체 (문자열이 아니므로 JSON.parse 불필요)
+  level: number;  // 1 = 시도, 2 = 시군구, 3 = 읍면동
+  stats?: AdmBoundaryStat; // metric 을 함께 요청했을 때만
+}
@@ -37,3 +37,41 @@ export interface DeleteNoteResponse {
     code: string;
   } | null;
 }
+
+// 랜드마크별 메모 개수 (지도 배지용)
+export interface NoteCount {
+  landmarkId: number;
+  noteCount: number;
+  latestCreatedAt: string;
+}
+
+// 메모 개수 API 응답 타입
+export interface NoteCountsResponse {
+  success: boolean;
+  data: NoteCount[] | null;
+  error: {
+    message: string;
+    code: string;
+  } | null;
+}
+
+// 메모 검색 결과 (snippet은 <mark>로 강조된 본문 일부)
+export interface NoteSearchResult {
+  id: number;
+  landmarkId: number;
+  content: string;
+  snippet: string;   // HTML 이스케이프된 본문 일부 (<mark> 만 마크업)
+  rank: number;
+  createdAt: string;
+  updatedAt: string;
+}
+
+// 메모 검색 API 응답 타입
+export interface NoteSearchResponse {
+  success: boolean;
+  data: NoteSearchResult[] | null;
+  error: {
+    message: string;
+    code: string;
+  } | null;
+}
@@ -6,14 +6,37 @@ export interface RasterStat {
   indexType: IndexType;
   year: number;
   month: number;
-  s3Path: string | null;
+  s3Path?: string | null;   // fields 로 고르지 않은 필드는 응답에서 빠진다
   valMean: number;
   valMin: number;
   valMax: number;
   valStddev: number;
-  geomJson?: string | null;
+  geomJson?: { type: "Polygon"; coordinates: number[][][] } | null; // GeoJSON 객체 그대로
   geom?: {
     type: "Polygon";
     coordinates: number[][][]; // 3km 버퍼 폴리곤
   } | null;
 }
+
+// GET /api/rasters/changes (두 달 사이 val_mean 변화 순위)
+export type ChangeDirection = "decrease" | "increase" | "any";
+
+export interface RasterChange {
+  landmarkId: number;
+  name: string;
+  admCode: string | null;
+  admName: string | null;
+  fromMean: number;
+  toMean: number;
+  delta: number;              // to - from
+  effectSize: number | null;  // delta / 표준편차
+}
+
+// GET /api/popularity/landmarks (최근 며칠간 조회가 많은 랜드마크-월)
+export interface PopularLandmark {
+  landmarkId: number;
+  name: string;
+  year: number;
+  month: number;
+  hits: number;               // 래스터/위험도/상세 조회 합계
+}